@@ -31,6 +31,11 @@ public class DeploymentOptionsConverter {
             obj.setInstances(((Number)member.getValue()).intValue());
           }
           break;
+        case "maxWorkerConcurrency":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxWorkerConcurrency(((Number)member.getValue()).intValue());
+          }
+          break;
         case "maxWorkerExecuteTime":
           if (member.getValue() instanceof Number) {
             obj.setMaxWorkerExecuteTime(((Number)member.getValue()).longValue());
@@ -41,6 +46,16 @@ public class DeploymentOptionsConverter {
             obj.setMaxWorkerExecuteTimeUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
           }
           break;
+        case "maxWorkerQueueSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxWorkerQueueSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "useVirtualThreads":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUseVirtualThreads((Boolean)member.getValue());
+          }
+          break;
         case "worker":
           if (member.getValue() instanceof Boolean) {
             obj.setWorker((Boolean)member.getValue());
@@ -56,6 +71,11 @@ public class DeploymentOptionsConverter {
             obj.setWorkerPoolSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "workerPriority":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPriority(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -70,14 +90,18 @@ public class DeploymentOptionsConverter {
     }
     json.put("ha", obj.isHa());
     json.put("instances", obj.getInstances());
+    json.put("maxWorkerConcurrency", obj.getMaxWorkerConcurrency());
     json.put("maxWorkerExecuteTime", obj.getMaxWorkerExecuteTime());
     if (obj.getMaxWorkerExecuteTimeUnit() != null) {
       json.put("maxWorkerExecuteTimeUnit", obj.getMaxWorkerExecuteTimeUnit().name());
     }
+    json.put("maxWorkerQueueSize", obj.getMaxWorkerQueueSize());
+    json.put("useVirtualThreads", obj.getUseVirtualThreads());
     json.put("worker", obj.isWorker());
     if (obj.getWorkerPoolName() != null) {
       json.put("workerPoolName", obj.getWorkerPoolName());
     }
     json.put("workerPoolSize", obj.getWorkerPoolSize());
+    json.put("workerPriority", obj.getWorkerPriority());
   }
 }
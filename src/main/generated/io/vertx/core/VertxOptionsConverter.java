@@ -16,6 +16,11 @@ public class VertxOptionsConverter {
    static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, VertxOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "adaptiveWorkerPoolsEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveWorkerPoolsEnabled((Boolean)member.getValue());
+          }
+          break;
         case "addressResolverOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setAddressResolverOptions(new io.vertx.core.dns.AddressResolverOptions((io.vertx.core.json.JsonObject)member.getValue()));
@@ -41,6 +46,11 @@ public class VertxOptionsConverter {
             obj.setEventLoopPoolSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "eventLoopProfilingEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setEventLoopProfilingEnabled((Boolean)member.getValue());
+          }
+          break;
         case "fileSystemOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setFileSystemOptions(new io.vertx.core.file.FileSystemOptions((io.vertx.core.json.JsonObject)member.getValue()));
@@ -96,11 +106,41 @@ public class VertxOptionsConverter {
             obj.setQuorumSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "slowTaskThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setSlowTaskThreshold(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "slowTaskThresholdUnit":
+          if (member.getValue() instanceof String) {
+            obj.setSlowTaskThresholdUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "timerTickResolution":
+          if (member.getValue() instanceof Number) {
+            obj.setTimerTickResolution(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "timerTickResolutionUnit":
+          if (member.getValue() instanceof String) {
+            obj.setTimerTickResolutionUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
         case "tracingOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setTracingOptions(new io.vertx.core.tracing.TracingOptions((io.vertx.core.json.JsonObject)member.getValue()));
           }
           break;
+        case "useVirtualThreads":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUseVirtualThreads((Boolean)member.getValue());
+          }
+          break;
+        case "useWorkStealingPool":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUseWorkStealingPool((Boolean)member.getValue());
+          }
+          break;
         case "warningExceptionTime":
           if (member.getValue() instanceof Number) {
             obj.setWarningExceptionTime(((Number)member.getValue()).longValue());
@@ -111,6 +151,31 @@ public class VertxOptionsConverter {
             obj.setWarningExceptionTimeUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
           }
           break;
+        case "workerPoolIdleTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolIdleTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "workerPoolIdleTimeoutUnit":
+          if (member.getValue() instanceof String) {
+            obj.setWorkerPoolIdleTimeoutUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "workerPoolMaxQueueWait":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolMaxQueueWait(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "workerPoolMaxQueueWaitUnit":
+          if (member.getValue() instanceof String) {
+            obj.setWorkerPoolMaxQueueWaitUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "workerPoolMinSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolMinSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "workerPoolSize":
           if (member.getValue() instanceof Number) {
             obj.setWorkerPoolSize(((Number)member.getValue()).intValue());
@@ -125,6 +190,7 @@ public class VertxOptionsConverter {
   }
 
    static void toJson(VertxOptions obj, java.util.Map<String, Object> json) {
+    json.put("adaptiveWorkerPoolsEnabled", obj.isAdaptiveWorkerPoolsEnabled());
     if (obj.getAddressResolverOptions() != null) {
       json.put("addressResolverOptions", obj.getAddressResolverOptions().toJson());
     }
@@ -136,6 +202,7 @@ public class VertxOptionsConverter {
       json.put("eventBusOptions", obj.getEventBusOptions().toJson());
     }
     json.put("eventLoopPoolSize", obj.getEventLoopPoolSize());
+    json.put("eventLoopProfilingEnabled", obj.isEventLoopProfilingEnabled());
     if (obj.getFileSystemOptions() != null) {
       json.put("fileSystemOptions", obj.getFileSystemOptions().toJson());
     }
@@ -157,13 +224,32 @@ public class VertxOptionsConverter {
     }
     json.put("preferNativeTransport", obj.getPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("slowTaskThreshold", obj.getSlowTaskThreshold());
+    if (obj.getSlowTaskThresholdUnit() != null) {
+      json.put("slowTaskThresholdUnit", obj.getSlowTaskThresholdUnit().name());
+    }
+    json.put("timerTickResolution", obj.getTimerTickResolution());
+    if (obj.getTimerTickResolutionUnit() != null) {
+      json.put("timerTickResolutionUnit", obj.getTimerTickResolutionUnit().name());
+    }
     if (obj.getTracingOptions() != null) {
       json.put("tracingOptions", obj.getTracingOptions().toJson());
     }
+    json.put("useVirtualThreads", obj.getUseVirtualThreads());
+    json.put("useWorkStealingPool", obj.getUseWorkStealingPool());
     json.put("warningExceptionTime", obj.getWarningExceptionTime());
     if (obj.getWarningExceptionTimeUnit() != null) {
       json.put("warningExceptionTimeUnit", obj.getWarningExceptionTimeUnit().name());
     }
+    json.put("workerPoolIdleTimeout", obj.getWorkerPoolIdleTimeout());
+    if (obj.getWorkerPoolIdleTimeoutUnit() != null) {
+      json.put("workerPoolIdleTimeoutUnit", obj.getWorkerPoolIdleTimeoutUnit().name());
+    }
+    json.put("workerPoolMaxQueueWait", obj.getWorkerPoolMaxQueueWait());
+    if (obj.getWorkerPoolMaxQueueWaitUnit() != null) {
+      json.put("workerPoolMaxQueueWaitUnit", obj.getWorkerPoolMaxQueueWaitUnit().name());
+    }
+    json.put("workerPoolMinSize", obj.getWorkerPoolMinSize());
     json.put("workerPoolSize", obj.getWorkerPoolSize());
   }
 }
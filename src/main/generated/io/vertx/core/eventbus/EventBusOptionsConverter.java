@@ -21,11 +21,31 @@ public class EventBusOptionsConverter {
             obj.setAcceptBacklog(((Number)member.getValue()).intValue());
           }
           break;
+        case "addressStatisticsEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAddressStatisticsEnabled((Boolean)member.getValue());
+          }
+          break;
         case "clientAuth":
           if (member.getValue() instanceof String) {
             obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)member.getValue()));
           }
           break;
+        case "clusterCompression":
+          if (member.getValue() instanceof Boolean) {
+            obj.setClusterCompression((Boolean)member.getValue());
+          }
+          break;
+        case "clusterCompressionThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterCompressionThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "clusterConnectionsPerNode":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterConnectionsPerNode(((Number)member.getValue()).intValue());
+          }
+          break;
         case "clusterNodeMetadata":
           if (member.getValue() instanceof JsonObject) {
             obj.setClusterNodeMetadata(((JsonObject)member.getValue()).copy());
@@ -51,6 +71,11 @@ public class EventBusOptionsConverter {
             obj.setClusterPublicPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "clusterWriteQueueMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClusterWriteQueueMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "connectTimeout":
           if (member.getValue() instanceof Number) {
             obj.setConnectTimeout(((Number)member.getValue()).intValue());
@@ -255,9 +280,13 @@ public class EventBusOptionsConverter {
 
    static void toJson(EventBusOptions obj, java.util.Map<String, Object> json) {
     json.put("acceptBacklog", obj.getAcceptBacklog());
+    json.put("addressStatisticsEnabled", obj.isAddressStatisticsEnabled());
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
+    json.put("clusterCompression", obj.isClusterCompression());
+    json.put("clusterCompressionThreshold", obj.getClusterCompressionThreshold());
+    json.put("clusterConnectionsPerNode", obj.getClusterConnectionsPerNode());
     if (obj.getClusterNodeMetadata() != null) {
       json.put("clusterNodeMetadata", obj.getClusterNodeMetadata());
     }
@@ -267,6 +296,7 @@ public class EventBusOptionsConverter {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterWriteQueueMaxSize", obj.getClusterWriteQueueMaxSize());
     json.put("connectTimeout", obj.getConnectTimeout());
     if (obj.getCrlPaths() != null) {
       JsonArray array = new JsonArray();
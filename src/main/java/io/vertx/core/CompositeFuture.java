@@ -13,7 +13,9 @@ package io.vertx.core;
 
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.impl.future.AsCompletedStream;
 import io.vertx.core.impl.future.CompositeFutureImpl;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -180,6 +182,20 @@ public interface CompositeFuture extends Future<CompositeFuture> {
     return CompositeFutureImpl.join(futures.toArray(new Future[futures.size()]));
   }
 
+  /**
+   * Return a stream emitting the results of the {@code futures} in the order they complete, the stream ends
+   * after the result of the last future has been emitted.<p>
+   *
+   * Results completed while the stream is paused are buffered.
+   *
+   * @param futures the futures
+   * @return the stream of results
+   */
+  @GenIgnore
+  static <T> ReadStream<AsyncResult<T>> asCompleted(List<? extends Future<T>> futures) {
+    return new AsCompletedStream<>(futures);
+  }
+
   @Override
   CompositeFuture onComplete(Handler<AsyncResult<CompositeFuture>> handler);
 
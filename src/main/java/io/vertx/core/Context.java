@@ -16,6 +16,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.impl.VertxThread;
+import io.vertx.core.impl.WorkerThreadTracker;
 import io.vertx.core.json.JsonObject;
 
 import java.util.List;
@@ -67,7 +68,10 @@ public interface Context {
    */
   static boolean isOnWorkerThread() {
     Thread t = Thread.currentThread();
-    return t instanceof VertxThread && ((VertxThread) t).isWorker();
+    if (t instanceof VertxThread) {
+      return ((VertxThread) t).isWorker();
+    }
+    return WorkerThreadTracker.isOnTrackedWorkerThread();
   }
 
   /**
@@ -89,7 +93,7 @@ public interface Context {
    * @return true if current thread is a Vert.x thread, false otherwise
    */
   static boolean isOnVertxThread() {
-    return Thread.currentThread() instanceof VertxThread;
+    return Thread.currentThread() instanceof VertxThread || WorkerThreadTracker.isOnTrackedWorkerThread();
   }
 
   /**
@@ -33,6 +33,10 @@ public class DeploymentOptions {
   public static final boolean DEFAULT_WORKER = false;
   public static final boolean DEFAULT_HA = false;
   public static final int DEFAULT_INSTANCES = 1;
+  public static final boolean DEFAULT_USE_VIRTUAL_THREADS = false;
+  public static final int DEFAULT_MAX_WORKER_CONCURRENCY = -1;
+  public static final int DEFAULT_MAX_WORKER_QUEUE_SIZE = -1;
+  public static final int DEFAULT_WORKER_PRIORITY = 0;
 
   private JsonObject config;
   private boolean worker;
@@ -45,6 +49,10 @@ public class DeploymentOptions {
   private int instances;
   private List<String> isolatedClasses;
   private TimeUnit maxWorkerExecuteTimeUnit;
+  private boolean useVirtualThreads;
+  private int maxWorkerConcurrency;
+  private int maxWorkerQueueSize;
+  private int workerPriority;
 
   /**
    * Default constructor
@@ -59,6 +67,10 @@ public class DeploymentOptions {
     this.workerPoolSize = VertxOptions.DEFAULT_WORKER_POOL_SIZE;
     this.maxWorkerExecuteTime = VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME;
     this.maxWorkerExecuteTimeUnit = VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT;
+    this.useVirtualThreads = DEFAULT_USE_VIRTUAL_THREADS;
+    this.maxWorkerConcurrency = DEFAULT_MAX_WORKER_CONCURRENCY;
+    this.maxWorkerQueueSize = DEFAULT_MAX_WORKER_QUEUE_SIZE;
+    this.workerPriority = DEFAULT_WORKER_PRIORITY;
   }
 
   /**
@@ -78,6 +90,10 @@ public class DeploymentOptions {
     setWorkerPoolSize(other.workerPoolSize);
     setMaxWorkerExecuteTime(other.maxWorkerExecuteTime);
     this.maxWorkerExecuteTimeUnit = other.maxWorkerExecuteTimeUnit;
+    this.useVirtualThreads = other.useVirtualThreads;
+    this.maxWorkerConcurrency = other.maxWorkerConcurrency;
+    this.maxWorkerQueueSize = other.maxWorkerQueueSize;
+    this.workerPriority = other.workerPriority;
   }
 
   /**
@@ -360,6 +376,105 @@ public class DeploymentOptions {
     return this;
   }
 
+  /**
+   * @return whether the verticle(s) run blocking code on virtual threads
+   */
+  public boolean getUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
+  /**
+   * Set whether the verticle(s) run blocking code and worker verticle events on virtual threads. When a
+   * {@link #setWorkerPoolName worker pool name} is set, the named worker pool is created with virtual threads
+   * and {@link #setWorkerPoolSize worker pool size} has no effect.
+   * <p>
+   * Virtual threads require JDK 21+, on older JDKs Vert.x logs a warning and falls back to a pool of platform threads.
+   *
+   * @param useVirtualThreads {@code true} to use virtual threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setUseVirtualThreads(boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+    return this;
+  }
+
+  /**
+   * @return the max number of blocking tasks of the deployment running concurrently, {@code -1} means unbounded
+   */
+  public int getMaxWorkerConcurrency() {
+    return maxWorkerConcurrency;
+  }
+
+  /**
+   * Set the max number of blocking tasks and worker verticle events of the deployment running concurrently in the
+   * worker pool, this bulkhead prevents a deployment from starving the other deployments sharing the same worker pool.
+   * Tasks beyond this limit wait for a running task to complete.
+   * <p>
+   * The default value is {@code -1} (unbounded).
+   *
+   * @param maxWorkerConcurrency the max number of concurrent tasks
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setMaxWorkerConcurrency(int maxWorkerConcurrency) {
+    if (maxWorkerConcurrency == 0 || maxWorkerConcurrency < -1) {
+      throw new IllegalArgumentException("maxWorkerConcurrency must be > 0 or -1 (unbounded)");
+    }
+    this.maxWorkerConcurrency = maxWorkerConcurrency;
+    return this;
+  }
+
+  /**
+   * @return the max number of blocking tasks of the deployment waiting for a concurrency slot, {@code -1} means unbounded
+   */
+  public int getMaxWorkerQueueSize() {
+    return maxWorkerQueueSize;
+  }
+
+  /**
+   * Set the max number of blocking tasks of the deployment waiting for a {@link #setMaxWorkerConcurrency concurrency}
+   * slot, {@code executeBlocking} fails with a {@link java.util.concurrent.RejectedExecutionException} when this limit
+   * is reached. The worker verticle events are never rejected, they always wait for a concurrency slot. This has no
+   * effect when the concurrency is unbounded.
+   * <p>
+   * The default value is {@code -1} (unbounded).
+   *
+   * @param maxWorkerQueueSize the max number of waiting tasks
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setMaxWorkerQueueSize(int maxWorkerQueueSize) {
+    if (maxWorkerQueueSize < -1) {
+      throw new IllegalArgumentException("maxWorkerQueueSize must be >= 0 or -1 (unbounded)");
+    }
+    this.maxWorkerQueueSize = maxWorkerQueueSize;
+    return this;
+  }
+
+  /**
+   * @return the priority of the deployment blocking tasks in the worker pool
+   */
+  public int getWorkerPriority() {
+    return workerPriority;
+  }
+
+  /**
+   * Set the priority of the blocking tasks and worker verticle events of the deployment in the worker pool, pending
+   * tasks with a higher priority run before pending tasks with a lower priority, e.g short control-plane tasks can
+   * jump ahead of bulk jobs.
+   * <p>
+   * Once a deployment with a non zero priority uses a worker pool, all the tasks of this pool go through a priority
+   * queue where the tasks of the deployments with the default priority have the priority {@code 0}. A worker pool
+   * used only by deployments with the default priority runs its tasks in submission order without this queue.
+   * <p>
+   * The default value is {@code 0}.
+   *
+   * @param workerPriority the priority
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeploymentOptions setWorkerPriority(int workerPriority) {
+    this.workerPriority = workerPriority;
+    return this;
+  }
+
   /**
    * Throw {@code IllegalArgumentException} when loader isolation configuration has been defined.
    */
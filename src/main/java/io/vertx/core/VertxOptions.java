@@ -18,6 +18,7 @@ import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.impl.cpu.CpuCoreSensor;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.EventLoopSelector;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.tracing.TracingOptions;
 
@@ -97,6 +98,71 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_PREFER_NATIVE_TRANSPORT = false;
 
+  /**
+   * The default value for using virtual threads for the worker pool = false
+   */
+  public static final boolean DEFAULT_USE_VIRTUAL_THREADS = false;
+
+  /**
+   * The default value for using a work-stealing pool for the worker pools = false
+   */
+  public static final boolean DEFAULT_USE_WORK_STEALING_POOL = false;
+
+  /**
+   * The default value of timer tick resolution = 1 ms
+   */
+  public static final long DEFAULT_TIMER_TICK_RESOLUTION = 1;
+
+  /**
+   * The default value of timer tick resolution unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_TIMER_TICK_RESOLUTION_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * The default value of event loop profiling enabled = false
+   */
+  public static final boolean DEFAULT_EVENT_LOOP_PROFILING_ENABLED = false;
+
+  /**
+   * The default value of slow task threshold = 100000000 ns (100 ms)
+   */
+  public static final long DEFAULT_SLOW_TASK_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+  /**
+   * The default value of slow task threshold unit = {@link TimeUnit#NANOSECONDS}
+   */
+  public static final TimeUnit DEFAULT_SLOW_TASK_THRESHOLD_UNIT = TimeUnit.NANOSECONDS;
+
+  /**
+   * The default value of adaptive worker pools enabled = false
+   */
+  public static final boolean DEFAULT_ADAPTIVE_WORKER_POOLS_ENABLED = false;
+
+  /**
+   * The default min size of adaptive worker pools = 1
+   */
+  public static final int DEFAULT_WORKER_POOL_MIN_SIZE = 1;
+
+  /**
+   * The default max queue wait of adaptive worker pools = 10 ms
+   */
+  public static final long DEFAULT_WORKER_POOL_MAX_QUEUE_WAIT = 10;
+
+  /**
+   * The default value of worker pool max queue wait unit = {@link TimeUnit#MILLISECONDS}
+   */
+  public static final TimeUnit DEFAULT_WORKER_POOL_MAX_QUEUE_WAIT_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * The default idle timeout of adaptive worker pool threads = 60 s
+   */
+  public static final long DEFAULT_WORKER_POOL_IDLE_TIMEOUT = 60;
+
+  /**
+   * The default value of worker pool idle timeout unit = {@link TimeUnit#SECONDS}
+   */
+  public static final TimeUnit DEFAULT_WORKER_POOL_IDLE_TIMEOUT_UNIT = TimeUnit.SECONDS;
+
   /**
    * The default value of warning exception time 5000000000 ns (5 seconds)
    * If a thread is blocked longer than this threshold, the warning log
@@ -126,6 +192,20 @@ public class VertxOptions {
   private EventBusOptions eventBusOptions = new EventBusOptions();
   private AddressResolverOptions addressResolverOptions = new AddressResolverOptions();
   private boolean preferNativeTransport = DEFAULT_PREFER_NATIVE_TRANSPORT;
+  private boolean useVirtualThreads = DEFAULT_USE_VIRTUAL_THREADS;
+  private boolean useWorkStealingPool = DEFAULT_USE_WORK_STEALING_POOL;
+  private long timerTickResolution = DEFAULT_TIMER_TICK_RESOLUTION;
+  private TimeUnit timerTickResolutionUnit = DEFAULT_TIMER_TICK_RESOLUTION_UNIT;
+  private boolean eventLoopProfilingEnabled = DEFAULT_EVENT_LOOP_PROFILING_ENABLED;
+  private long slowTaskThreshold = DEFAULT_SLOW_TASK_THRESHOLD;
+  private TimeUnit slowTaskThresholdUnit = DEFAULT_SLOW_TASK_THRESHOLD_UNIT;
+  private boolean adaptiveWorkerPoolsEnabled = DEFAULT_ADAPTIVE_WORKER_POOLS_ENABLED;
+  private int workerPoolMinSize = DEFAULT_WORKER_POOL_MIN_SIZE;
+  private long workerPoolMaxQueueWait = DEFAULT_WORKER_POOL_MAX_QUEUE_WAIT;
+  private TimeUnit workerPoolMaxQueueWaitUnit = DEFAULT_WORKER_POOL_MAX_QUEUE_WAIT_UNIT;
+  private long workerPoolIdleTimeout = DEFAULT_WORKER_POOL_IDLE_TIMEOUT;
+  private TimeUnit workerPoolIdleTimeoutUnit = DEFAULT_WORKER_POOL_IDLE_TIMEOUT_UNIT;
+  private EventLoopSelector eventLoopSelector;
   private TimeUnit maxEventLoopExecuteTimeUnit = DEFAULT_MAX_EVENT_LOOP_EXECUTE_TIME_UNIT;
   private TimeUnit maxWorkerExecuteTimeUnit = DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT;
   private TimeUnit warningExceptionTimeUnit = DEFAULT_WARNING_EXCEPTION_TIME_UNIT;
@@ -163,6 +243,20 @@ public class VertxOptions {
     this.warningExceptionTimeUnit = other.warningExceptionTimeUnit;
     this.blockedThreadCheckIntervalUnit = other.blockedThreadCheckIntervalUnit;
     this.tracingOptions = other.tracingOptions != null ? other.tracingOptions.copy() : null;
+    this.useVirtualThreads = other.useVirtualThreads;
+    this.useWorkStealingPool = other.useWorkStealingPool;
+    this.timerTickResolution = other.timerTickResolution;
+    this.timerTickResolutionUnit = other.timerTickResolutionUnit;
+    this.eventLoopProfilingEnabled = other.eventLoopProfilingEnabled;
+    this.slowTaskThreshold = other.slowTaskThreshold;
+    this.slowTaskThresholdUnit = other.slowTaskThresholdUnit;
+    this.adaptiveWorkerPoolsEnabled = other.adaptiveWorkerPoolsEnabled;
+    this.workerPoolMinSize = other.workerPoolMinSize;
+    this.workerPoolMaxQueueWait = other.workerPoolMaxQueueWait;
+    this.workerPoolMaxQueueWaitUnit = other.workerPoolMaxQueueWaitUnit;
+    this.workerPoolIdleTimeout = other.workerPoolIdleTimeout;
+    this.workerPoolIdleTimeoutUnit = other.workerPoolIdleTimeoutUnit;
+    this.eventLoopSelector = other.eventLoopSelector;
   }
 
   /**
@@ -551,6 +645,313 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return whether the worker pool runs blocking code and worker verticles on virtual threads
+   */
+  public boolean getUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
+  /**
+   * Set whether the worker pool runs blocking code and worker verticles on virtual threads instead of a fixed
+   * pool of {@link #getWorkerPoolSize()} threads.
+   * <p>
+   * Virtual threads require JDK 21+, on older JDKs Vert.x logs a warning and falls back to the fixed worker pool.
+   *
+   * @param useVirtualThreads {@code true} to use virtual threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setUseVirtualThreads(boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+    return this;
+  }
+
+  /**
+   * @return whether the worker pool and the named worker pools are work-stealing pools
+   */
+  public boolean getUseWorkStealingPool() {
+    return useWorkStealingPool;
+  }
+
+  /**
+   * Set whether the worker pool and the named worker pools are backed by a work-stealing {@link java.util.concurrent.ForkJoinPool}
+   * instead of a thread pool with a single shared task queue.
+   * <p>
+   * Each pool thread has its own task queue and idle threads steal tasks from busy threads, this reduces the contention
+   * on the pool queue when many contexts submit short blocking tasks. Ordered blocking tasks are still executed in
+   * order per context.
+   *
+   * @param useWorkStealingPool {@code true} to use work-stealing pools
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setUseWorkStealingPool(boolean useWorkStealingPool) {
+    this.useWorkStealingPool = useWorkStealingPool;
+    return this;
+  }
+
+  /**
+   * @return the timer tick resolution, in {@link VertxOptions#setTimerTickResolutionUnit timerTickResolutionUnit}
+   */
+  public long getTimerTickResolution() {
+    return timerTickResolution;
+  }
+
+  /**
+   * Set the timer tick resolution, in {@link VertxOptions#setTimerTickResolutionUnit timerTickResolutionUnit}.
+   * <p>
+   * Timers are scheduled on a timing wheel per event loop, the wheel rounds timer deadlines up to the next tick.
+   * A coarser resolution batches more timers per wake-up of the event loop at the expense of timer precision.
+   * <p>
+   * The default value is {@code 1} millisecond.
+   *
+   * @param timerTickResolution the timer tick resolution
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerTickResolution(long timerTickResolution) {
+    if (timerTickResolution < 1) {
+      throw new IllegalArgumentException("timerTickResolution must be > 0");
+    }
+    this.timerTickResolution = timerTickResolution;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code timerTickResolution}
+   */
+  public TimeUnit getTimerTickResolutionUnit() {
+    return timerTickResolutionUnit;
+  }
+
+  /**
+   * Set the time unit of {@code timerTickResolution}.
+   *
+   * @param timerTickResolutionUnit the time unit of {@code timerTickResolution}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerTickResolutionUnit(TimeUnit timerTickResolutionUnit) {
+    this.timerTickResolutionUnit = timerTickResolutionUnit;
+    return this;
+  }
+
+  /**
+   * @return whether event loop profiling is enabled
+   */
+  public boolean isEventLoopProfilingEnabled() {
+    return eventLoopProfilingEnabled;
+  }
+
+  /**
+   * Set whether event loop profiling is enabled.
+   * <p>
+   * When enabled, Vert.x records the execution time and the queue delay of the tasks run by each event loop as well
+   * as their busy time, and samples the stack of the event loop threads running a task longer than
+   * {@link #setSlowTaskThreshold slowTaskThreshold}. The profile is reported to the {@link io.vertx.core.spi.metrics.EventLoopMetrics}
+   * SPI and is available as a JSON snapshot.
+   *
+   * @param eventLoopProfilingEnabled {@code true} to enable event loop profiling
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setEventLoopProfilingEnabled(boolean eventLoopProfilingEnabled) {
+    this.eventLoopProfilingEnabled = eventLoopProfilingEnabled;
+    return this;
+  }
+
+  /**
+   * @return the slow task threshold, in {@link VertxOptions#setSlowTaskThresholdUnit slowTaskThresholdUnit}
+   */
+  public long getSlowTaskThreshold() {
+    return slowTaskThreshold;
+  }
+
+  /**
+   * Set the slow task threshold, in {@link VertxOptions#setSlowTaskThresholdUnit slowTaskThresholdUnit}.
+   * <p>
+   * When event loop profiling is enabled, the stack of an event loop thread running a task longer than this threshold
+   * is sampled. This is a soft threshold, usually lower than {@link #setMaxEventLoopExecuteTime maxEventLoopExecuteTime}.
+   * <p>
+   * The default value is {@code 100} milliseconds.
+   *
+   * @param slowTaskThreshold the slow task threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setSlowTaskThreshold(long slowTaskThreshold) {
+    if (slowTaskThreshold < 1) {
+      throw new IllegalArgumentException("slowTaskThreshold must be > 0");
+    }
+    this.slowTaskThreshold = slowTaskThreshold;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code slowTaskThreshold}
+   */
+  public TimeUnit getSlowTaskThresholdUnit() {
+    return slowTaskThresholdUnit;
+  }
+
+  /**
+   * Set the time unit of {@code slowTaskThreshold}.
+   *
+   * @param slowTaskThresholdUnit the time unit of {@code slowTaskThreshold}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setSlowTaskThresholdUnit(TimeUnit slowTaskThresholdUnit) {
+    this.slowTaskThresholdUnit = slowTaskThresholdUnit;
+    return this;
+  }
+
+  /**
+   * @return whether the worker pools are adaptive
+   */
+  public boolean isAdaptiveWorkerPoolsEnabled() {
+    return adaptiveWorkerPoolsEnabled;
+  }
+
+  /**
+   * Set whether the worker pool and the named worker pools are adaptive.
+   * <p>
+   * An adaptive pool keeps {@link #setWorkerPoolMinSize workerPoolMinSize} threads and grows up to its configured
+   * size when tasks wait in the queue longer than {@link #setWorkerPoolMaxQueueWait workerPoolMaxQueueWait}, the
+   * extra threads terminate after being idle for {@link #setWorkerPoolIdleTimeout workerPoolIdleTimeout}.
+   *
+   * @param adaptiveWorkerPoolsEnabled {@code true} to enable adaptive worker pools
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setAdaptiveWorkerPoolsEnabled(boolean adaptiveWorkerPoolsEnabled) {
+    this.adaptiveWorkerPoolsEnabled = adaptiveWorkerPoolsEnabled;
+    return this;
+  }
+
+  /**
+   * @return the min number of threads of an adaptive worker pool
+   */
+  public int getWorkerPoolMinSize() {
+    return workerPoolMinSize;
+  }
+
+  /**
+   * Set the min number of threads of an adaptive worker pool, pools smaller than this value are not adaptive.
+   * <p>
+   * The default value is {@code 1}.
+   *
+   * @param workerPoolMinSize the min number of threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolMinSize(int workerPoolMinSize) {
+    if (workerPoolMinSize < 1) {
+      throw new IllegalArgumentException("workerPoolMinSize must be > 0");
+    }
+    this.workerPoolMinSize = workerPoolMinSize;
+    return this;
+  }
+
+  /**
+   * @return the max queue wait of an adaptive worker pool, in {@link VertxOptions#setWorkerPoolMaxQueueWaitUnit workerPoolMaxQueueWaitUnit}
+   */
+  public long getWorkerPoolMaxQueueWait() {
+    return workerPoolMaxQueueWait;
+  }
+
+  /**
+   * Set the max time a task waits in the queue of an adaptive worker pool before the pool starts a new thread,
+   * in {@link VertxOptions#setWorkerPoolMaxQueueWaitUnit workerPoolMaxQueueWaitUnit}.
+   * <p>
+   * The default value is {@code 10} milliseconds.
+   *
+   * @param workerPoolMaxQueueWait the max queue wait
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolMaxQueueWait(long workerPoolMaxQueueWait) {
+    if (workerPoolMaxQueueWait < 0) {
+      throw new IllegalArgumentException("workerPoolMaxQueueWait must be >= 0");
+    }
+    this.workerPoolMaxQueueWait = workerPoolMaxQueueWait;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code workerPoolMaxQueueWait}
+   */
+  public TimeUnit getWorkerPoolMaxQueueWaitUnit() {
+    return workerPoolMaxQueueWaitUnit;
+  }
+
+  /**
+   * Set the time unit of {@code workerPoolMaxQueueWait}.
+   *
+   * @param workerPoolMaxQueueWaitUnit the time unit of {@code workerPoolMaxQueueWait}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolMaxQueueWaitUnit(TimeUnit workerPoolMaxQueueWaitUnit) {
+    this.workerPoolMaxQueueWaitUnit = workerPoolMaxQueueWaitUnit;
+    return this;
+  }
+
+  /**
+   * @return the idle timeout of adaptive worker pool threads, in {@link VertxOptions#setWorkerPoolIdleTimeoutUnit workerPoolIdleTimeoutUnit}
+   */
+  public long getWorkerPoolIdleTimeout() {
+    return workerPoolIdleTimeout;
+  }
+
+  /**
+   * Set the time after which an idle thread above the min size of an adaptive worker pool terminates,
+   * in {@link VertxOptions#setWorkerPoolIdleTimeoutUnit workerPoolIdleTimeoutUnit}.
+   * <p>
+   * The default value is {@code 60} seconds.
+   *
+   * @param workerPoolIdleTimeout the idle timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolIdleTimeout(long workerPoolIdleTimeout) {
+    if (workerPoolIdleTimeout < 1) {
+      throw new IllegalArgumentException("workerPoolIdleTimeout must be > 0");
+    }
+    this.workerPoolIdleTimeout = workerPoolIdleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the time unit of {@code workerPoolIdleTimeout}
+   */
+  public TimeUnit getWorkerPoolIdleTimeoutUnit() {
+    return workerPoolIdleTimeoutUnit;
+  }
+
+  /**
+   * Set the time unit of {@code workerPoolIdleTimeout}.
+   *
+   * @param workerPoolIdleTimeoutUnit the time unit of {@code workerPoolIdleTimeout}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setWorkerPoolIdleTimeoutUnit(TimeUnit workerPoolIdleTimeoutUnit) {
+    this.workerPoolIdleTimeoutUnit = workerPoolIdleTimeoutUnit;
+    return this;
+  }
+
+  /**
+   * Get the event loop selector assigning event loops to new contexts and to channels accepted by servers.
+   *
+   * @return the event loop selector or {@code null} when event loops are assigned in a round-robin fashion by the event loop group
+   */
+  public EventLoopSelector getEventLoopSelector() {
+    return eventLoopSelector;
+  }
+
+  /**
+   * Programmatically set the event loop selector assigning event loops to new contexts and to channels accepted by servers.
+   * <p>
+   * By default event loops are assigned in a round-robin fashion, {@link EventLoopSelector#leastLoaded()} and
+   * {@link EventLoopSelector#leastBusy()} assign the least loaded event loop.
+   *
+   * @param eventLoopSelector the event loop selector
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setEventLoopSelector(EventLoopSelector eventLoopSelector) {
+    this.eventLoopSelector = eventLoopSelector;
+    return this;
+  }
+
   /**
    * @return the time unit of {@code maxEventLoopExecuteTime}
    */
@@ -653,6 +1054,20 @@ public class VertxOptions {
         ", clusterManager=" + clusterManager +
         ", haEnabled=" + haEnabled +
         ", preferNativeTransport=" + preferNativeTransport +
+        ", useVirtualThreads=" + useVirtualThreads +
+        ", useWorkStealingPool=" + useWorkStealingPool +
+        ", timerTickResolutionUnit=" + timerTickResolutionUnit +
+        ", timerTickResolution=" + timerTickResolution +
+        ", eventLoopProfilingEnabled=" + eventLoopProfilingEnabled +
+        ", slowTaskThresholdUnit=" + slowTaskThresholdUnit +
+        ", slowTaskThreshold=" + slowTaskThreshold +
+        ", adaptiveWorkerPoolsEnabled=" + adaptiveWorkerPoolsEnabled +
+        ", workerPoolMinSize=" + workerPoolMinSize +
+        ", workerPoolMaxQueueWaitUnit=" + workerPoolMaxQueueWaitUnit +
+        ", workerPoolMaxQueueWait=" + workerPoolMaxQueueWait +
+        ", workerPoolIdleTimeoutUnit=" + workerPoolIdleTimeoutUnit +
+        ", workerPoolIdleTimeout=" + workerPoolIdleTimeout +
+        ", eventLoopSelector=" + eventLoopSelector +
         ", quorumSize=" + quorumSize +
         ", haGroup='" + haGroup + '\'' +
         ", metrics=" + metricsOptions +
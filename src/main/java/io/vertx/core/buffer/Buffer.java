@@ -701,6 +701,17 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   Buffer slice(int start, int end);
 
+  /**
+   * Returns a read-only view of this buffer. The content of the returned buffer is the content of this buffer,
+   * modifying the returned buffer throws a {@link java.nio.ReadOnlyBufferException}.
+   */
+  Buffer readOnly();
+
+  /**
+   * @return whether this buffer is read-only
+   */
+  boolean isReadOnly();
+
   /**
    * Returns the Buffer as a Netty {@code ByteBuf}.
    *
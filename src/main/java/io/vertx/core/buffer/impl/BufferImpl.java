@@ -496,6 +496,17 @@ public class BufferImpl implements Buffer {
     return new BufferImpl(buffer.slice(start, end - start));
   }
 
+  public Buffer readOnly() {
+    if (buffer.isReadOnly()) {
+      return this;
+    }
+    return new BufferImpl(buffer.asReadOnly());
+  }
+
+  public boolean isReadOnly() {
+    return buffer.isReadOnly();
+  }
+
   /**
    * @return the buffer as is
    */
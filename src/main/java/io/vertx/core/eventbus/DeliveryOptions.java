@@ -41,10 +41,16 @@ public class DeliveryOptions {
    */
   public static final boolean DEFAULT_LOCAL_ONLY = false;
 
+  /**
+   * Whether the message body should be delivered as a read-only view by default = false.
+   */
+  public static final boolean DEFAULT_READ_ONLY_BODY = false;
+
   private long timeout = DEFAULT_TIMEOUT;
   private String codecName;
   private MultiMap headers;
   private boolean localOnly = DEFAULT_LOCAL_ONLY;
+  private boolean readOnlyBody = DEFAULT_READ_ONLY_BODY;
 
   /**
    * Default constructor
@@ -62,6 +68,7 @@ public class DeliveryOptions {
     this.codecName = other.getCodecName();
     this.headers = other.getHeaders();
     this.localOnly = other.localOnly;
+    this.readOnlyBody = other.readOnlyBody;
   }
 
   /**
@@ -83,6 +90,7 @@ public class DeliveryOptions {
       }
     }
     this.localOnly = json.getBoolean("localOnly", DEFAULT_LOCAL_ONLY);
+    this.readOnlyBody = json.getBoolean("readOnlyBody", DEFAULT_READ_ONLY_BODY);
   }
 
   /**
@@ -100,6 +108,7 @@ public class DeliveryOptions {
       json.put("headers", hJson);
     }
     json.put("localOnly", localOnly);
+    json.put("readOnlyBody", readOnlyBody);
     return json;
   }
 
@@ -217,4 +226,27 @@ public class DeliveryOptions {
     this.localOnly = localOnly;
     return this;
   }
+
+  /**
+   * @return whether the message body should be delivered as a read-only view
+   */
+  public boolean isReadOnlyBody() {
+    return readOnlyBody;
+  }
+
+  /**
+   * Whether a {@link JsonObject}, {@link io.vertx.core.json.JsonArray} or {@link io.vertx.core.buffer.Buffer} message
+   * body should be delivered as a read-only view. Defaults to {@code false}.
+   *
+   * <p>
+   * The local consumers share the read-only view of the body instead of receiving a copy of the body, modifying
+   * the view throws an exception. The sender must not modify the body after it has been sent.
+   *
+   * @param readOnlyBody {@code true} to deliver a read-only view of the body, {@code false} otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DeliveryOptions setReadOnlyBody(boolean readOnlyBody) {
+    this.readOnlyBody = readOnlyBody;
+    return this;
+  }
 }
@@ -20,6 +20,8 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.metrics.Measured;
 
+import java.util.List;
+
 /**
  * A Vert.x event-bus is a light-weight distributed messaging system which allows different parts of your application,
  * or different applications and services to communicate with each in a loosely coupled way.
@@ -125,6 +127,56 @@ public interface EventBus extends Measured {
   @Fluent
   EventBus publish(String address, @Nullable Object message, DeliveryOptions options);
 
+  /**
+   * Sends a batch of messages.
+   * <p>
+   * The whole batch is delivered to one of the handlers registered to the address, in order. A clustered batch is
+   * written to the remote node as a single frame and a consumer can receive it at once with
+   * {@link MessageConsumer#batchHandler(int, Handler)}.
+   *
+   * @param address  the address to send it to
+   * @param messages  the messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBus sendBatch(String address, List<Object> messages);
+
+  /**
+   * Like {@link #sendBatch(String, List)} but specifying {@code options} that can be used to configure the delivery
+   * of every message of the batch.
+   *
+   * @param address  the address to send it to
+   * @param messages  the messages
+   * @param options  delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBus sendBatch(String address, List<Object> messages, DeliveryOptions options);
+
+  /**
+   * Publish a batch of messages.
+   * <p>
+   * The whole batch is delivered to all handlers registered to the address, in order.
+   *
+   * @param address  the address to publish it to
+   * @param messages  the messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBus publishBatch(String address, List<Object> messages);
+
+  /**
+   * Like {@link #publishBatch(String, List)} but specifying {@code options} that can be used to configure the delivery
+   * of every message of the batch.
+   *
+   * @param address  the address to publish it to
+   * @param messages  the messages
+   * @param options  the delivery options
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  EventBus publishBatch(String address, List<Object> messages, DeliveryOptions options);
+
   /**
    * Create a message consumer against the specified address.
    * <p>
@@ -29,6 +29,13 @@ import java.util.concurrent.TimeUnit;
 @DataObject(generateConverter = true, inheritConverter = true, publicConverter = false)
 public class EventBusOptions extends TCPSSLOptions {
 
+  /**
+   * The default value of whether the statistics of the addresses of the consumers are recorded = false.
+   */
+  public static final boolean DEFAULT_ADDRESS_STATISTICS_ENABLED = false;
+
+  private boolean addressStatisticsEnabled = DEFAULT_ADDRESS_STATISTICS_ENABLED;
+
   /**
    * The default cluster host = null which means use the same as the cluster manager, if possible.
    */
@@ -59,10 +66,34 @@ public class EventBusOptions extends TCPSSLOptions {
    */
   public static final long DEFAULT_CLUSTER_PING_REPLY_INTERVAL = TimeUnit.SECONDS.toMillis(20);
 
+  /**
+   * The default max number of messages queued for writing to a cluster node = 65536.
+   */
+  public static final int DEFAULT_CLUSTER_WRITE_QUEUE_MAX_SIZE = 64 * 1024;
+
+  /**
+   * The default number of connections to a cluster node = 1.
+   */
+  public static final int DEFAULT_CLUSTER_CONNECTIONS_PER_NODE = 1;
+
+  /**
+   * The default value of whether the messages sent to cluster nodes are compressed = false.
+   */
+  public static final boolean DEFAULT_CLUSTER_COMPRESSION = false;
+
+  /**
+   * The default size in bytes under which a message sent to a cluster node is not compressed = 1024.
+   */
+  public static final int DEFAULT_CLUSTER_COMPRESSION_THRESHOLD = 1024;
+
   private String clusterPublicHost = DEFAULT_CLUSTER_PUBLIC_HOST;
   private int clusterPublicPort = DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
+  private int clusterWriteQueueMaxSize = DEFAULT_CLUSTER_WRITE_QUEUE_MAX_SIZE;
+  private int clusterConnectionsPerNode = DEFAULT_CLUSTER_CONNECTIONS_PER_NODE;
+  private boolean clusterCompression = DEFAULT_CLUSTER_COMPRESSION;
+  private int clusterCompressionThreshold = DEFAULT_CLUSTER_COMPRESSION_THRESHOLD;
   private JsonObject clusterNodeMetadata;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
@@ -136,10 +167,16 @@ public class EventBusOptions extends TCPSSLOptions {
   public EventBusOptions(EventBusOptions other) {
     super(other);
 
+    this.addressStatisticsEnabled = other.addressStatisticsEnabled;
+
     this.clusterPublicHost = other.clusterPublicHost;
     this.clusterPublicPort = other.clusterPublicPort;
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
+    this.clusterWriteQueueMaxSize = other.clusterWriteQueueMaxSize;
+    this.clusterConnectionsPerNode = other.clusterConnectionsPerNode;
+    this.clusterCompression = other.clusterCompression;
+    this.clusterCompressionThreshold = other.clusterCompressionThreshold;
     this.clusterNodeMetadata = other.clusterNodeMetadata == null ? null : other.clusterNodeMetadata.copy();
 
     this.port = other.port;
@@ -587,6 +624,121 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * Get the max number of messages queued for writing to a cluster node.
+   * When the queue is full, the messages sent to this node are failed.
+   *
+   * @return the max number of queued messages
+   */
+  public int getClusterWriteQueueMaxSize() {
+    return clusterWriteQueueMaxSize;
+  }
+
+  /**
+   * Set the max number of messages queued for writing to a cluster node.
+   *
+   * @param clusterWriteQueueMaxSize the max number of queued messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterWriteQueueMaxSize(int clusterWriteQueueMaxSize) {
+    if (clusterWriteQueueMaxSize < 1) {
+      throw new IllegalArgumentException("clusterWriteQueueMaxSize must be greater than 0");
+    }
+    this.clusterWriteQueueMaxSize = clusterWriteQueueMaxSize;
+    return this;
+  }
+
+  /**
+   * Get the number of connections opened to each cluster node.
+   *
+   * @return the number of connections per node
+   */
+  public int getClusterConnectionsPerNode() {
+    return clusterConnectionsPerNode;
+  }
+
+  /**
+   * Set the number of connections opened to each cluster node.
+   * <p>
+   * Each connection uses a different event loop, the messages are spread across the connections by address so the
+   * messages sent to the same address remain ordered.
+   *
+   * @param clusterConnectionsPerNode the number of connections per node
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterConnectionsPerNode(int clusterConnectionsPerNode) {
+    if (clusterConnectionsPerNode < 1) {
+      throw new IllegalArgumentException("clusterConnectionsPerNode must be greater than 0");
+    }
+    this.clusterConnectionsPerNode = clusterConnectionsPerNode;
+    return this;
+  }
+
+  /**
+   * @return whether the statistics of the addresses of the consumers are recorded
+   */
+  public boolean isAddressStatisticsEnabled() {
+    return addressStatisticsEnabled;
+  }
+
+  /**
+   * Set whether the statistics of the addresses of the consumers are recorded.
+   * <p>
+   * The event bus then records for each address the latency between the scheduling of a message and its delivery to
+   * a consumer, the time spent by the consumer handlers and the number of messages buffered by the paused consumers.
+   *
+   * @param addressStatisticsEnabled {@code true} to record the statistics
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setAddressStatisticsEnabled(boolean addressStatisticsEnabled) {
+    this.addressStatisticsEnabled = addressStatisticsEnabled;
+    return this;
+  }
+
+  /**
+   * @return whether the messages sent to cluster nodes are compressed
+   */
+  public boolean isClusterCompression() {
+    return clusterCompression;
+  }
+
+  /**
+   * Set whether the messages sent to cluster nodes are compressed.
+   * <p>
+   * Each connection compresses its messages with a deflate stream shared by all the messages of the connection, so
+   * the content repeated across messages, like the keys of JSON messages, is compressed well. Compression is used
+   * only with the nodes supporting it, the other nodes receive uncompressed messages.
+   *
+   * @param clusterCompression {@code true} to compress the messages
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompression(boolean clusterCompression) {
+    this.clusterCompression = clusterCompression;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes under which a message sent to a cluster node is not compressed
+   */
+  public int getClusterCompressionThreshold() {
+    return clusterCompressionThreshold;
+  }
+
+  /**
+   * Set the size in bytes under which a message sent to a cluster node is not compressed, the size of a message is
+   * the size of its encoded frame.
+   *
+   * @param clusterCompressionThreshold the size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterCompressionThreshold(int clusterCompressionThreshold) {
+    if (clusterCompressionThreshold < 0) {
+      throw new IllegalArgumentException("clusterCompressionThreshold must be >= 0");
+    }
+    this.clusterCompressionThreshold = clusterCompressionThreshold;
+    return this;
+  }
+
   /**
    * Get the public facing host to be used when clustering.
    *
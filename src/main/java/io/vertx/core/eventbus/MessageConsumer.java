@@ -11,12 +11,15 @@
 
 package io.vertx.core.eventbus;
 
+import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.streams.ReadStream;
 
+import java.util.List;
+
 /**
  * An event bus consumer object representing a stream of message to an {@link EventBus} address that can
  * be read from.
@@ -51,6 +54,22 @@ public interface MessageConsumer<T> extends ReadStream<Message<T>> {
   @Override
   MessageConsumer<T> endHandler(Handler<Void> endHandler);
 
+  /**
+   * Set a handler receiving the messages of this consumer in lists of at most {@code maxBatchSize} messages instead
+   * of the {@link #handler(Handler) handler}.
+   * <p>
+   * A batch sent with {@link EventBus#sendBatch(String, List)} or {@link EventBus#publishBatch(String, List)} is
+   * delivered in as few lists as possible, the other messages are delivered in lists of one message. Messages are
+   * also delivered one at a time while the consumer is paused or has a limited demand, and when receive interceptors
+   * or tracing are used.
+   *
+   * @param maxBatchSize the max number of messages of a list
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  MessageConsumer<T> batchHandler(int maxBatchSize, Handler<List<Message<T>>> handler);
+
   /**
    * @return a read stream for the body of the message stream.
    */
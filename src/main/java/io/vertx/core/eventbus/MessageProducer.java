@@ -12,6 +12,7 @@
 package io.vertx.core.eventbus;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -56,6 +57,36 @@ public interface MessageProducer<T> {
    */
   Future<Void> write(T body);
 
+  /**
+   * Set the maximum number of messages sent by this producer that are not yet delivered to a consumer.
+   * <p>
+   * The consumer receiving a message of a sender grants back a credit to the producer when the message is delivered to
+   * its handler or discarded, on the same node or across the cluster. When the producer has no credit left, the
+   * messages written are queued until credits are granted back and {@link #writeQueueFull()} returns {@code true}.
+   * <p>
+   * This has no effect on a publisher.
+   *
+   * @param maxSize the max number of messages not yet delivered
+   * @return this producer object
+   */
+  @Fluent
+  MessageProducer<T> setWriteQueueMaxSize(int maxSize);
+
+  /**
+   * @return {@code true} when the producer has no credit left to send messages, the written messages are queued
+   */
+  boolean writeQueueFull();
+
+  /**
+   * Set a drain handler on the producer, the handler is called when the write queue is full and the consumers
+   * have granted back at least half of the {@link #setWriteQueueMaxSize(int) max size} credits.
+   *
+   * @param handler the handler
+   * @return this producer object
+   */
+  @Fluent
+  MessageProducer<T> drainHandler(@Nullable Handler<Void> handler);
+
   /**
    * Closes the producer, this method should be called when the message producer is not used anymore.
    *
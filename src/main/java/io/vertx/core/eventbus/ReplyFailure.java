@@ -39,7 +39,13 @@ public enum ReplyFailure {
   /**
    * A fatal error occured while delivering the message. Do not retry to send.
    */
-  ERROR;
+  ERROR,
+
+  /**
+   * The message send failed because the write queue of the connection to the cluster node of the recipient is full.
+   * The message can be sent again later.
+   */
+  WRITE_QUEUE_FULL;
 
   public static ReplyFailure fromInt(int i) {
     switch (i) {
@@ -51,6 +57,8 @@ public enum ReplyFailure {
         return RECIPIENT_FAILURE;
       case 3:
         return ERROR;
+      case 4:
+        return WRITE_QUEUE_FULL;
       default:
         throw new IllegalStateException("Invalid index " + i);
     }
@@ -66,6 +74,8 @@ public enum ReplyFailure {
         return 2;
       case ERROR:
         return 3;
+      case WRITE_QUEUE_FULL:
+        return 4;
       default:
         throw new IllegalStateException("How did we get here?");
     }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of the consumers of an address, recorded when the address statistics are enabled in the
+ * {@link io.vertx.core.eventbus.EventBusOptions}.
+ * <p>
+ * The statistics of an address are kept as long as the address has consumers, they are shared by the consumers of
+ * the address.
+ */
+public class AddressStatistics {
+
+  private final String address;
+  private final Histogram deliveryLatency = new Histogram();
+  private final Histogram handlerTime = new Histogram();
+  private final AtomicInteger pendingMessages = new AtomicInteger();
+  private final AtomicInteger maxPendingMessages = new AtomicInteger();
+
+  // Guarded by the map of the statistics of the event bus
+  int registrations;
+
+  AddressStatistics(String address) {
+    this.address = address;
+  }
+
+  /**
+   * @return the address
+   */
+  public String address() {
+    return address;
+  }
+
+  /**
+   * @return the time between the scheduling of a message for a consumer and its delivery to the consumer handler,
+   *         including the time spent in the buffer of a paused consumer
+   */
+  public Histogram deliveryLatency() {
+    return deliveryLatency;
+  }
+
+  /**
+   * @return the time spent by the consumer handlers
+   */
+  public Histogram handlerTime() {
+    return handlerTime;
+  }
+
+  /**
+   * @return the number of messages buffered by the paused consumers of the address
+   */
+  public int pendingMessages() {
+    return pendingMessages.get();
+  }
+
+  /**
+   * @return the max number of messages buffered by the paused consumers of the address
+   */
+  public int maxPendingMessages() {
+    return maxPendingMessages.get();
+  }
+
+  void pendingChanged(int delta) {
+    int pending = pendingMessages.addAndGet(delta);
+    int max;
+    while (pending > (max = maxPendingMessages.get())) {
+      if (maxPendingMessages.compareAndSet(max, pending)) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * A histogram of durations in nanoseconds.
+   * <p>
+   * A value is counted in the bucket of its power of two, so recording a value is a few atomic increments and the
+   * percentiles are known within a factor of two.
+   */
+  public static class Histogram {
+
+    // Bucket i counts the values v such as 2^(i-1) <= v < 2^i, bucket 0 counts 0
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+      if (nanos < 0) {
+        nanos = 0;
+      }
+      buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(nanos));
+      sum.add(nanos);
+      long m;
+      while (nanos > (m = max.get())) {
+        if (max.compareAndSet(m, nanos)) {
+          break;
+        }
+      }
+    }
+
+    /**
+     * @return a snapshot of this histogram
+     */
+    public Snapshot snapshot() {
+      long[] counts = new long[BUCKETS];
+      for (int i = 0;i < BUCKETS;i++) {
+        counts[i] = buckets.get(i);
+      }
+      return new Snapshot(counts, sum.sum(), max.get());
+    }
+  }
+
+  /**
+   * A snapshot of a {@link Histogram}.
+   */
+  public static class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    private Snapshot(long[] counts, long sum, long max) {
+      long count = 0;
+      for (long c : counts) {
+        count += c;
+      }
+      this.counts = counts;
+      this.count = count;
+      this.sum = sum;
+      this.max = max;
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long count() {
+      return count;
+    }
+
+    /**
+     * @return the mean of the recorded values in nanoseconds
+     */
+    public double mean() {
+      return count > 0 ? (double) sum / count : 0D;
+    }
+
+    /**
+     * @return the max recorded value in nanoseconds
+     */
+    public long max() {
+      return max;
+    }
+
+    /**
+     * @param percentile the percentile between {@code 0} and {@code 100}
+     * @return the upper bound in nanoseconds of the values under the {@code percentile}
+     */
+    public long percentile(double percentile) {
+      if (percentile < 0D || percentile > 100D) {
+        throw new IllegalArgumentException("Percentile must be between 0 and 100");
+      }
+      if (count == 0) {
+        return 0L;
+      }
+      long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100D));
+      long seen = 0;
+      for (int i = 0;i < counts.length;i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          long upper = i == 0 ? 0L : i == 63 ? Long.MAX_VALUE : (1L << i) - 1;
+          return Math.min(upper, max);
+        }
+      }
+      return max;
+    }
+  }
+}
@@ -11,20 +11,24 @@
 
 package io.vertx.core.eventbus.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.*;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
-import io.vertx.core.impl.utils.ConcurrentCyclicSequence;
+import io.vertx.core.impl.utils.ConcurrentCyclicRegistry;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.core.spi.metrics.MetricsProvider;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -40,19 +44,30 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   static final Logger log = LoggerFactory.getLogger(EventBusImpl.class);
 
+  /**
+   * The prefix of reply addresses, a reply address is followed by the index of the {@link ReplyTable} and by the id
+   * of the request in this table.
+   */
+  public static final String REPLY_ADDRESS_PREFIX = "__vertx.reply.";
+
   private final List<Handler<DeliveryContext>> sendInterceptors = new CopyOnWriteArrayList<>();
   private final List<Handler<DeliveryContext>> receiveInterceptors = new CopyOnWriteArrayList<>();
   private final AtomicLong replySequence = new AtomicLong(0);
   protected final VertxInternal vertx;
   protected final EventBusMetrics metrics;
-  protected final ConcurrentMap<String, ConcurrentCyclicSequence<HandlerHolder>> handlerMap = new ConcurrentHashMap<>();
+  protected final ConcurrentCyclicRegistry<String, HandlerHolder> handlerMap = new ConcurrentCyclicRegistry<>();
   protected final CodecManager codecManager = new CodecManager();
+  private final ConcurrentMap<EventLoop, ReplyTable> replyTablesByEventLoop = new ConcurrentHashMap<>();
+  private volatile ReplyTable[] replyTables = new ReplyTable[0];
+  // null when the address statistics are disabled
+  private final ConcurrentMap<String, AddressStatistics> addressStatistics;
   protected volatile boolean started;
 
-  public EventBusImpl(VertxInternal vertx) {
+  public EventBusImpl(VertxInternal vertx, EventBusOptions options) {
     VertxMetrics metrics = vertx.metricsSPI();
     this.vertx = vertx;
     this.metrics = metrics != null ? metrics.createEventBusMetrics() : null;
+    this.addressStatistics = options.isAddressStatisticsEnabled() ? new ConcurrentHashMap<>() : null;
   }
 
   @Override
@@ -149,6 +164,58 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     return this;
   }
 
+  @Override
+  public EventBus sendBatch(String address, List<Object> messages) {
+    return sendBatch(address, messages, new DeliveryOptions());
+  }
+
+  @Override
+  public EventBus sendBatch(String address, List<Object> messages, DeliveryOptions options) {
+    sendOrPubBatch(true, address, messages, options);
+    return this;
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<Object> messages) {
+    return publishBatch(address, messages, new DeliveryOptions());
+  }
+
+  @Override
+  public EventBus publishBatch(String address, List<Object> messages, DeliveryOptions options) {
+    sendOrPubBatch(false, address, messages, options);
+    return this;
+  }
+
+  private void sendOrPubBatch(boolean send, String address, List<Object> messages, DeliveryOptions options) {
+    Objects.requireNonNull(messages, "messages");
+    checkStarted();
+    if (messages.isEmpty()) {
+      return;
+    }
+    List<OutboundDeliveryContext<Object>> batch = new ArrayList<>(messages.size());
+    for (Object message : messages) {
+      MessageImpl msg = createMessage(send, address, options.getHeaders(), message, options.getCodecName());
+      batch.add(newSendContext(msg, options, null, null));
+    }
+    OutboundDeliveryContext<Object> head = batch.get(0);
+    if (!sendInterceptors.isEmpty() || head.ctx.tracer() != null) {
+      // The interceptors and the tracer see every message
+      for (OutboundDeliveryContext<Object> sendCtx : batch) {
+        sendOrPubInternal(sendCtx);
+      }
+      return;
+    }
+    for (OutboundDeliveryContext<Object> sendCtx : batch) {
+      if (options.isReadOnlyBody()) {
+        sendCtx.message.readOnlyBody();
+      }
+      sendCtx.bus = this;
+      sendCtx.metrics = metrics;
+    }
+    head.batch(batch);
+    sendOrPub(head);
+  }
+
   @Override
   public <T> MessageConsumer<T> consumer(String address) {
     checkStarted();
@@ -227,6 +294,41 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     return metrics;
   }
 
+  @Override
+  public Map<String, AddressStatistics> addressStatistics() {
+    return addressStatistics != null ? Collections.unmodifiableMap(addressStatistics) : Collections.emptyMap();
+  }
+
+  /**
+   * Add a consumer to the statistics of an address.
+   *
+   * @return the statistics of the address or {@code null} when the address statistics are disabled
+   */
+  AddressStatistics addAddressStatistics(String address) {
+    if (addressStatistics == null) {
+      return null;
+    }
+    return addressStatistics.compute(address, (addr, stats) -> {
+      if (stats == null) {
+        stats = new AddressStatistics(addr);
+      }
+      stats.registrations++;
+      return stats;
+    });
+  }
+
+  /**
+   * Remove a consumer from the statistics of an address, the statistics are removed with the last consumer.
+   */
+  void removeAddressStatistics(AddressStatistics statistics) {
+    addressStatistics.computeIfPresent(statistics.address(), (addr, stats) -> {
+      if (stats == statistics && --stats.registrations == 0) {
+        return null;
+      }
+      return stats;
+    });
+  }
+
   public MessageImpl createMessage(boolean send, String address, MultiMap headers, Object body, String codecName) {
     Objects.requireNonNull(address, "no null address accepted");
     MessageCodec codec = codecManager.lookupCodec(body, codecName);
@@ -256,11 +358,7 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
     HandlerHolder<T> holder = createHandlerHolder(registration, replyHandler, localOnly, context);
 
-    ConcurrentCyclicSequence<HandlerHolder> handlers = new ConcurrentCyclicSequence<HandlerHolder>().add(holder);
-    ConcurrentCyclicSequence<HandlerHolder> actualHandlers = handlerMap.merge(
-      address,
-      handlers,
-      (old, prev) -> old.add(prev.first()));
+    handlerMap.add(address, holder);
 
     if (context.isDeployment()) {
       context.addCloseHook(registration);
@@ -284,13 +382,7 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   private <T> void removeLocalRegistration(HandlerHolder<T> holder) {
     String address = holder.getHandler().address;
-    handlerMap.compute(address, (key, val) -> {
-      if (val == null) {
-        return null;
-      }
-      ConcurrentCyclicSequence<HandlerHolder> next = val.remove(holder);
-      return next.size() == 0 ? null : next;
-    });
+    handlerMap.remove(address, holder);
     if (holder.setRemoved() && holder.getContext().deploymentID() != null) {
       holder.getContext().removeCloseHook(holder.getHandler());
     }
@@ -308,6 +400,17 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     sendLocally(sendContext);
   }
 
+  /**
+   * Grant credits back to the producer of a flow controlled message.
+   *
+   * @param message the flow controlled message
+   * @param creditAddress the credit address of the producer
+   * @param credits the number of credits
+   */
+  protected void grantCredits(MessageImpl message, String creditAddress, int credits) {
+    sendOrPubInternal(message.createCredits(creditAddress, credits), new DeliveryOptions(), null, null);
+  }
+
   protected void callCompletionHandlerAsync(Handler<AsyncResult<Void>> completionHandler) {
     if (completionHandler != null) {
       vertx.runOnContext(v -> {
@@ -317,7 +420,17 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   private <T> void sendLocally(OutboundDeliveryContext<T> sendContext) {
-    ReplyException failure = deliverMessageLocally(sendContext.message);
+    ReplyException failure;
+    List<OutboundDeliveryContext<T>> batch = sendContext.batch();
+    if (batch != null) {
+      List<MessageImpl> messages = new ArrayList<>(batch.size());
+      for (OutboundDeliveryContext<T> ctx : batch) {
+        messages.add(ctx.message);
+      }
+      failure = deliverBatchLocally(messages);
+    } else {
+      failure = deliverMessageLocally(sendContext.message);
+    }
     if (failure != null) {
       sendContext.written(failure);
     } else {
@@ -330,7 +443,15 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   }
 
   protected ReplyException deliverMessageLocally(MessageImpl msg) {
-    ConcurrentCyclicSequence<HandlerHolder> handlers = handlerMap.get(msg.address());
+    ReplyHandler<?> replyHandler = replyHandler(msg.address());
+    if (replyHandler != null) {
+      if (metrics != null) {
+        metrics.messageReceived(msg.address(), !msg.isSend(), isMessageLocal(msg), 1);
+      }
+      replyHandler.receive(msg.copyBeforeReceive());
+      return null;
+    }
+    ConcurrentCyclicRegistry.Entry<HandlerHolder> handlers = handlerMap.get(msg.address());
     if (handlers != null) {
       if (msg.isSend()) {
         //Choose one
@@ -367,21 +488,108 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
     }
   }
 
-  protected String generateReplyAddress() {
-    return "__vertx.reply." + Long.toString(replySequence.incrementAndGet());
+  /**
+   * @return the id of a request in its {@link ReplyTable}
+   */
+  protected long generateReplyId() {
+    return replySequence.incrementAndGet();
   }
 
   <T> ReplyHandler<T> createReplyHandler(MessageImpl message,
                                                  boolean src,
                                                  DeliveryOptions options) {
     long timeout = options.getSendTimeout();
-    String replyAddress = generateReplyAddress();
+    ContextInternal context = vertx.getOrCreateContext();
+    ReplyTable table = replyTable(context.nettyEventLoop());
+    long id;
+    do {
+      id = generateReplyId();
+    } while (table.get(id) != null);
+    String replyAddress = REPLY_ADDRESS_PREFIX + table.index + "." + id;
     message.setReplyAddress(replyAddress);
-    ReplyHandler<T> handler = new ReplyHandler<>(this, vertx.getOrCreateContext(), replyAddress, message.address, src, timeout);
+    ReplyHandler<T> handler = new ReplyHandler<>(this, context, table, id, replyAddress, message.address, src, timeout);
     handler.register();
     return handler;
   }
 
+  private ReplyTable replyTable(EventLoop eventLoop) {
+    ReplyTable table = replyTablesByEventLoop.get(eventLoop);
+    if (table == null) {
+      synchronized (replyTablesByEventLoop) {
+        table = replyTablesByEventLoop.get(eventLoop);
+        if (table == null) {
+          ReplyTable[] tables = Arrays.copyOf(replyTables, replyTables.length + 1);
+          table = new ReplyTable(replyTables.length, vertx.timerWheel(eventLoop));
+          tables[table.index] = table;
+          replyTables = tables;
+          replyTablesByEventLoop.put(eventLoop, table);
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * @return the handler waiting for a reply sent to {@code address} or {@code null}
+   */
+  private ReplyHandler<?> replyHandler(String address) {
+    if (address == null || !address.startsWith(REPLY_ADDRESS_PREFIX)) {
+      return null;
+    }
+    int sep = address.indexOf('.', REPLY_ADDRESS_PREFIX.length());
+    if (sep == -1) {
+      return null;
+    }
+    int index;
+    long id;
+    try {
+      index = Integer.parseInt(address.substring(REPLY_ADDRESS_PREFIX.length(), sep));
+      id = Long.parseLong(address.substring(sep + 1));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    ReplyTable[] tables = replyTables;
+    return index >= 0 && index < tables.length ? tables[index].get(id) : null;
+  }
+
+  /**
+   * Deliver a batch of messages sent to the same address, a sent batch is delivered to a single handler.
+   */
+  protected ReplyException deliverBatchLocally(List<? extends MessageImpl> batch) {
+    MessageImpl first = batch.get(0);
+    String address = first.address();
+    ConcurrentCyclicRegistry.Entry<HandlerHolder> handlers = handlerMap.get(address);
+    int received = 0;
+    if (handlers != null) {
+      if (first.isSend()) {
+        HandlerHolder holder = handlers.next();
+        if (holder != null) {
+          holder.handler.receiveBatch(copyBeforeReceive(batch));
+          received = 1;
+        }
+      } else {
+        for (HandlerHolder holder : handlers) {
+          holder.handler.receiveBatch(copyBeforeReceive(batch));
+          received++;
+        }
+      }
+    }
+    if (metrics != null) {
+      for (MessageImpl msg : batch) {
+        metrics.messageReceived(address, !msg.isSend(), isMessageLocal(msg), received);
+      }
+    }
+    return received == 0 ? new ReplyException(ReplyFailure.NO_HANDLERS, "No handlers for address " + address) : null;
+  }
+
+  private static List<MessageImpl> copyBeforeReceive(List<? extends MessageImpl> batch) {
+    List<MessageImpl> copies = new ArrayList<>(batch.size());
+    for (MessageImpl msg : batch) {
+      copies.add(msg.copyBeforeReceive());
+    }
+    return copies;
+  }
+
   public <T> OutboundDeliveryContext<T> newSendContext(MessageImpl message, DeliveryOptions options,
                                                ReplyHandler<T> handler, Promise<Void> writePromise) {
     return new OutboundDeliveryContext<>(vertx.getOrCreateContext(), message, options, handler, writePromise);
@@ -389,6 +597,9 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
 
   public <T> void sendOrPubInternal(OutboundDeliveryContext<T> senderCtx) {
     checkStarted();
+    if (senderCtx.options.isReadOnlyBody()) {
+      senderCtx.message.readOnlyBody();
+    }
     senderCtx.iter = sendInterceptors.iterator();
     senderCtx.bus = this;
     senderCtx.metrics = metrics;
@@ -404,7 +615,7 @@ public class EventBusImpl implements EventBusInternal, MetricsProvider {
   private Future<Void> unregisterAll() {
     // Unregister all handlers explicitly - don't rely on context hooks
     List<Future> futures = new ArrayList<>();
-    for (ConcurrentCyclicSequence<HandlerHolder> handlers : handlerMap.values()) {
+    for (ConcurrentCyclicRegistry.Entry<HandlerHolder> handlers : handlerMap.values()) {
       for (HandlerHolder holder : handlers) {
         futures.add(holder.getHandler().unregister());
       }
@@ -14,6 +14,8 @@ package io.vertx.core.eventbus.impl;
 import io.vertx.core.Promise;
 import io.vertx.core.eventbus.EventBus;
 
+import java.util.Map;
+
 public interface EventBusInternal extends EventBus {
 
   /**
@@ -25,4 +27,10 @@ public interface EventBusInternal extends EventBus {
    * Close the event bus and release any resources held.
    */
   void close(Promise<Void> promise);
+
+  /**
+   * @return the statistics of the addresses having consumers, empty when the address statistics are not enabled in
+   *         the {@link io.vertx.core.eventbus.EventBusOptions}
+   */
+  Map<String, AddressStatistics> addressStatistics();
 }
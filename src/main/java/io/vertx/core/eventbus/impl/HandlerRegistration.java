@@ -24,6 +24,7 @@ import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.Iterator;
+import java.util.List;
 
 public abstract class HandlerRegistration<T> implements Closeable {
 
@@ -35,6 +36,7 @@ public abstract class HandlerRegistration<T> implements Closeable {
   public final boolean src;
   private HandlerHolder<T> registered;
   private Object metric;
+  private volatile AddressStatistics statistics;
 
   HandlerRegistration(ContextInternal context,
                       EventBusImpl bus,
@@ -50,6 +52,9 @@ public abstract class HandlerRegistration<T> implements Closeable {
     if (bus.metrics != null) {
       bus.metrics.scheduleMessage(metric, msg.isLocal());
     }
+    if (recordTimes()) {
+      msg.scheduleTime = System.nanoTime();
+    }
     context.nettyEventLoop().execute(() -> {
       // Need to check handler is still there - the handler might have been removed after the message were sent but
       // before it was received
@@ -59,8 +64,36 @@ public abstract class HandlerRegistration<T> implements Closeable {
     });
   }
 
+  /**
+   * Receive a batch of messages with a single task of the event loop.
+   */
+  @SuppressWarnings("unchecked")
+  void receiveBatch(List<MessageImpl> batch) {
+    if (bus.metrics != null) {
+      for (MessageImpl msg : batch) {
+        bus.metrics.scheduleMessage(metric, msg.isLocal());
+      }
+    }
+    if (recordTimes()) {
+      long now = System.nanoTime();
+      for (MessageImpl msg : batch) {
+        msg.scheduleTime = now;
+      }
+    }
+    List<? extends Message<T>> messages = (List) batch;
+    context.nettyEventLoop().execute(() -> doReceiveBatch(messages));
+  }
+
   protected abstract boolean doReceive(Message<T> msg);
 
+  protected void doReceiveBatch(List<? extends Message<T>> batch) {
+    for (Message<T> msg : batch) {
+      if (!doReceive(msg) && bus.metrics != null) {
+        bus.metrics.discardMessage(metric, ((MessageImpl) msg).isLocal(), msg);
+      }
+    }
+  }
+
   protected abstract void dispatch(Message<T> msg, ContextInternal context, Handler<Message<T>> handler);
 
   synchronized void register(String repliedAddress, boolean localOnly, Promise<Void> promise) {
@@ -68,11 +101,25 @@ public abstract class HandlerRegistration<T> implements Closeable {
       throw new IllegalStateException();
     }
     registered = bus.addRegistration(address, this, repliedAddress != null, localOnly, promise);
+    registerMetric(repliedAddress);
+    if (repliedAddress == null) {
+      statistics = bus.addAddressStatistics(address);
+    }
+  }
+
+  void registerMetric(String repliedAddress) {
     if (bus.metrics != null) {
       metric = bus.metrics.handlerRegistered(address, repliedAddress);
     }
   }
 
+  void unregisterMetric() {
+    if (bus.metrics != null) {
+      bus.metrics.handlerUnregistered(metric);
+      metric = null;
+    }
+  }
+
   public synchronized boolean isRegistered() {
     return registered != null;
   }
@@ -83,9 +130,10 @@ public abstract class HandlerRegistration<T> implements Closeable {
       if (registered != null) {
         bus.removeRegistration(registered, promise);
         registered = null;
-        if (bus.metrics != null) {
-          bus.metrics.handlerUnregistered(metric);
-          metric = null;
+        unregisterMetric();
+        if (statistics != null) {
+          bus.removeAddressStatistics(statistics);
+          statistics = null;
         }
       } else {
         promise.complete();
@@ -106,6 +154,55 @@ public abstract class HandlerRegistration<T> implements Closeable {
     deliveryCtx.dispatch();
   }
 
+  private boolean recordTimes() {
+    return bus.metrics != null || statistics != null;
+  }
+
+  void delivered(Message<T> msg) {
+    AddressStatistics stats = statistics;
+    if (bus.metrics == null && stats == null) {
+      return;
+    }
+    MessageImpl message = (MessageImpl) msg;
+    long latency = System.nanoTime() - message.scheduleTime;
+    if (bus.metrics != null) {
+      bus.metrics.messageDelivered(metric, message.isLocal());
+      bus.metrics.deliveryLatency(metric, latency);
+    }
+    if (stats != null) {
+      stats.deliveryLatency().record(latency);
+    }
+  }
+
+  /**
+   * Record the time spent by the handler processing a message or a batch of messages.
+   */
+  void handled(long nanos) {
+    if (bus.metrics != null) {
+      bus.metrics.handlerTime(metric, nanos);
+    }
+    AddressStatistics stats = statistics;
+    if (stats != null) {
+      stats.handlerTime().record(nanos);
+    }
+  }
+
+  /**
+   * Record a change of the number of messages buffered by the consumer.
+   *
+   * @param delta the number of messages added or removed
+   * @param depth the number of buffered messages
+   */
+  void pendingChanged(int delta, int depth) {
+    if (bus.metrics != null) {
+      bus.metrics.pendingQueueDepth(metric, depth);
+    }
+    AddressStatistics stats = statistics;
+    if (stats != null) {
+      stats.pendingChanged(delta);
+    }
+  }
+
   void discard(Message<T> msg) {
     if (bus.metrics != null) {
       bus.metrics.discardMessage(metric, ((MessageImpl)msg).isLocal(), msg);
@@ -149,11 +246,9 @@ public abstract class HandlerRegistration<T> implements Closeable {
           log.error("Failure in interceptor", t);
         }
       } else {
-        Object m = metric;
         VertxTracer tracer = context.tracer();
-        if (bus.metrics != null) {
-          bus.metrics.messageDelivered(m, message.isLocal());
-        }
+        delivered(message);
+        long start = recordTimes() ? System.nanoTime() : 0L;
         if (tracer != null && !src) {
           message.trace = tracer.receiveRequest(context, message, message.isSend() ? "send" : "publish", message.headers(), MessageTagExtractor.INSTANCE);
           HandlerRegistration.this.dispatch(message, context, handler);
@@ -163,6 +258,9 @@ public abstract class HandlerRegistration<T> implements Closeable {
         } else {
           HandlerRegistration.this.dispatch(message, context, handler);
         }
+        if (start != 0L) {
+          handled(System.nanoTime() - start);
+        }
       }
     }
 
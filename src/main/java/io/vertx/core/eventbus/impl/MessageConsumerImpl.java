@@ -41,6 +41,8 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   private final String address;
   private final boolean localOnly;
   private Handler<Message<T>> handler;
+  private Handler<List<Message<T>>> batchHandler;
+  private int maxBatchSize;
   private Handler<AsyncResult<Void>> completionHandler;
   private Handler<Void> endHandler;
   private Handler<Message<T>> discardHandler;
@@ -48,6 +50,9 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   private Queue<Message<T>> pending = new ArrayDeque<>(8);
   private long demand = Long.MAX_VALUE;
   private Promise<Void> result;
+  // The credits not yet granted back to the producers of the received messages, by credit address
+  private Map<String, Credits> credits;
+  private boolean creditFlushScheduled;
 
   MessageConsumerImpl(Vertx vertx, ContextInternal context, EventBusImpl eventBus, String address, boolean localOnly) {
     super(context, eventBus, address, false);
@@ -77,6 +82,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
       while (pending.size() > maxBufferedMessages) {
         discarded.add(pending.poll());
       }
+      pendingChanged(-discarded.size(), pending.size());
     }
     for (Message<T> msg : discarded) {
       if (discardHandler != null) {
@@ -110,6 +116,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
   @Override
   public synchronized Future<Void> unregister() {
     handler = null;
+    batchHandler = null;
     if (endHandler != null) {
       endHandler.handle(null);
     }
@@ -117,6 +124,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
       Queue<Message<T>> discarded = pending;
       Handler<Message<T>> handler = discardHandler;
       pending = new ArrayDeque<>();
+      pendingChanged(-discarded.size(), 0);
       for (Message<T> msg : discarded) {
         discard(msg);
         if (handler != null) {
@@ -139,11 +147,13 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     Handler<Message<T>> theHandler;
     synchronized (this) {
       if (handler == null) {
+        grantCredit(message);
         return false;
       }
       if (demand == 0L) {
         if (pending.size() < maxBufferedMessages) {
           pending.add(message);
+          pendingChanged(1, pending.size());
           return true;
         } else {
           discard(message);
@@ -169,6 +179,33 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     return true;
   }
 
+  @Override
+  protected void doReceiveBatch(List<? extends Message<T>> batch) {
+    Handler<List<Message<T>>> theHandler;
+    int max;
+    synchronized (this) {
+      // Buffered messages or a limited demand are handled one message at a time
+      theHandler = demand == Long.MAX_VALUE && pending.isEmpty() ? batchHandler : null;
+      max = maxBatchSize;
+    }
+    if (theHandler == null || eventBus.receiveInterceptors().hasNext() || context.tracer() != null) {
+      super.doReceiveBatch(batch);
+      return;
+    }
+    for (int from = 0;from < batch.size();from += max) {
+      List<Message<T>> chunk = new ArrayList<>(batch.subList(from, Math.min(from + max, batch.size())));
+      for (Message<T> msg : chunk) {
+        delivered(msg);
+      }
+      long start = System.nanoTime();
+      context.duplicate().emit(chunk, theHandler);
+      handled(System.nanoTime() - start);
+      for (Message<T> msg : chunk) {
+        grantCredit(msg);
+      }
+    }
+  }
+
   @Override
   protected void dispatch(Message<T> msg, ContextInternal context, Handler<Message<T>> handler) {
     if (handler == null) {
@@ -181,9 +218,78 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     // Handle the message outside the sync block
     // https://bugs.eclipse.org/bugs/show_bug.cgi?id=473714
     dispatch(theHandler, message, context.duplicate());
+    grantCredit(message);
     checkNextTick();
   }
 
+  @Override
+  void discard(Message<T> msg) {
+    super.discard(msg);
+    grantCredit(msg);
+  }
+
+  /**
+   * Grant back a credit to the producer of a message that is not pending anymore, the credits of a producer are
+   * granted by batches or at the end of the current event loop task.
+   */
+  private void grantCredit(Message<T> message) {
+    String creditAddress = ((MessageImpl<?, ?>) message).creditAddress();
+    if (creditAddress == null) {
+      return;
+    }
+    Credits granted = null;
+    boolean schedule = false;
+    synchronized (this) {
+      if (credits == null) {
+        credits = new HashMap<>();
+      }
+      Credits c = credits.get(creditAddress);
+      if (c == null) {
+        c = new Credits((MessageImpl) message);
+        credits.put(creditAddress, c);
+      }
+      if (++c.count >= c.batch) {
+        credits.remove(creditAddress);
+        granted = c;
+      } else if (!creditFlushScheduled) {
+        creditFlushScheduled = true;
+        schedule = true;
+      }
+    }
+    if (granted != null) {
+      eventBus.grantCredits(granted.message, creditAddress, granted.count);
+    }
+    if (schedule) {
+      context.nettyEventLoop().execute(this::flushCredits);
+    }
+  }
+
+  private void flushCredits() {
+    Map<String, Credits> toGrant;
+    synchronized (this) {
+      creditFlushScheduled = false;
+      if (credits == null || credits.isEmpty()) {
+        return;
+      }
+      toGrant = credits;
+      credits = null;
+    }
+    toGrant.forEach((creditAddress, c) -> eventBus.grantCredits(c.message, creditAddress, c.count));
+  }
+
+  private static class Credits {
+
+    // The message granting the credits routes them to the producer
+    final MessageImpl message;
+    final int batch;
+    int count;
+
+    Credits(MessageImpl message) {
+      this.message = message;
+      this.batch = Math.max(1, message.creditBatch());
+    }
+  }
+
   private synchronized void checkNextTick() {
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty() && demand > 0L) {
@@ -194,6 +300,7 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
           if (demand == 0L || (message = pending.poll()) == null) {
             return;
           }
+          pendingChanged(-1, pending.size());
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
@@ -211,8 +318,21 @@ public class MessageConsumerImpl<T> extends HandlerRegistration<T> implements Me
     this.discardHandler = handler;
   }
 
+  @Override
+  public synchronized MessageConsumer<T> batchHandler(int maxBatchSize, Handler<List<Message<T>>> h) {
+    Arguments.require(maxBatchSize > 0, "Max batch size must be greater than 0");
+    if (h == null) {
+      return handler(null);
+    }
+    handler(msg -> h.handle(Collections.singletonList(msg)));
+    this.maxBatchSize = maxBatchSize;
+    this.batchHandler = h;
+    return this;
+  }
+
   @Override
   public synchronized MessageConsumer<T> handler(Handler<Message<T>> h) {
+    batchHandler = null;
     if (h != null) {
       synchronized (this) {
         handler = h;
@@ -13,9 +13,12 @@ package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.*;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,11 @@ public class MessageImpl<U, V> implements Message<V> {
   protected V receivedBody;
   protected boolean send;
   protected Object trace;
+  // The time the message was scheduled for its consumer, only set when the delivery latency is recorded
+  long scheduleTime;
+  // The flow control of a message sent by a MessageProducerImpl, it is not part of the headers of the message
+  protected String creditAddress;
+  protected int creditBatch;
 
   public MessageImpl(EventBusImpl bus) {
     this.bus = bus;
@@ -69,6 +77,56 @@ public class MessageImpl<U, V> implements Message<V> {
       this.receivedBody = messageCodec.transform(other.sentBody);
     }
     this.send = other.send;
+    this.creditAddress = other.creditAddress;
+    this.creditBatch = other.creditBatch;
+  }
+
+  /**
+   * Make this message flow controlled by its producer.
+   *
+   * @param creditAddress the address granting the credits back to the producer
+   * @param creditBatch the number of credits granted at once to the producer
+   */
+  void flowControl(String creditAddress, int creditBatch) {
+    this.creditAddress = creditAddress;
+    this.creditBatch = creditBatch;
+  }
+
+  /**
+   * @return the address granting the credit of this message back to its producer, {@code null} when the message is not
+   *         flow controlled
+   */
+  public String creditAddress() {
+    return creditAddress;
+  }
+
+  /**
+   * @return the number of credits granted at once to the producer of this message
+   */
+  public int creditBatch() {
+    return creditBatch;
+  }
+
+  /**
+   * Replace a {@link JsonObject}, {@link JsonArray} or {@link Buffer} body with its read-only view, the codec
+   * of the body then shares the body with the consumers instead of copying it.
+   */
+  @SuppressWarnings("unchecked")
+  void readOnlyBody() {
+    if (sentBody instanceof JsonObject) {
+      sentBody = (U) ((JsonObject) sentBody).readOnly();
+    } else if (sentBody instanceof JsonArray) {
+      sentBody = (U) ((JsonArray) sentBody).readOnly();
+    } else if (sentBody instanceof Buffer) {
+      sentBody = (U) ((Buffer) sentBody).readOnly();
+    }
+  }
+
+  /**
+   * Create the message granting credits back to the producer of this message, it is routed like a reply.
+   */
+  protected MessageImpl createCredits(String creditAddress, int credits) {
+    return bus.createMessage(true, creditAddress, null, credits, null);
   }
 
   public MessageImpl<U, V> copyBeforeReceive() {
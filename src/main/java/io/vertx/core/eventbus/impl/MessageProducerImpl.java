@@ -17,26 +17,65 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.*;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+
 /**
+ * A producer sending to a point-to-point address is flow controlled with credits: each message carries the address of
+ * a consumer of the producer, the consumer receiving the message sends back a credit to this address when the message
+ * is delivered or discarded. The consumer grants its credits by batches or at the end of the current event loop task.
+ * The credit address and the batch size are not part of the message headers, on the wire they are carried by the
+ * {@link #CREDIT_ADDRESS_HEADER_NAME} and {@link #CREDIT_BATCH_HEADER_NAME} headers which are removed when the
+ * message is read. A cluster node supporting only the wire protocol version 2 does not receive these headers, the credit
+ * of a message sent to such node is granted back once the message is written.
+ * <p>
+ * The credit consumer is registered on the first write like a reply handler: it is not registered in the cluster,
+ * the credits are routed to the node of the producer like replies.
+ * <p>
+ * The credits of the messages lost in flight, e.g. when the node of the consumer leaves the cluster, are recovered
+ * when no credit is received during the send timeout of the {@link DeliveryOptions} while the write queue is full.
+ *
+
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class MessageProducerImpl<T> implements MessageProducer<T> {
 
+  public static final String CREDIT_ADDRESS_HEADER_NAME = "__vertx.credit";
+  public static final String CREDIT_BATCH_HEADER_NAME = "__vertx.credit.batch";
+  public static final int DEFAULT_WRITE_QUEUE_MAX_SIZE = 1000;
+
   private final Vertx vertx;
+  private final ContextInternal context;
   private final EventBusImpl bus;
   private final boolean send;
   private final String address;
+  private final String creditAddress;
   private DeliveryOptions options;
+  private CreditConsumer creditConsumer;
+  private final Queue<OutboundDeliveryContext<T>> pending = new ArrayDeque<>();
+  private int maxSize = DEFAULT_WRITE_QUEUE_MAX_SIZE;
+  private int credits = DEFAULT_WRITE_QUEUE_MAX_SIZE;
+  private long creditsReceived;
+  private long creditTimerID = -1L;
+  private Handler<Void> drainHandler;
+  // The message was not sent, the credit is not granted back by a consumer
+  private final Runnable restoreCredit = () -> doReceiveCredit(1);
 
   public MessageProducerImpl(Vertx vertx, String address, boolean send, DeliveryOptions options) {
     this.vertx = vertx;
+    this.context = ((VertxInternal) vertx).getOrCreateContext();
     this.bus = (EventBusImpl) vertx.eventBus();
     this.address = address;
     this.send = send;
     this.options = options;
+    this.creditAddress = send ? CREDIT_ADDRESS_HEADER_NAME + "." + UUID.randomUUID() : null;
   }
 
   @Override
@@ -62,8 +101,112 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
   }
 
   private void write(T data, Promise<Void> handler) {
-    MessageImpl msg = bus.createMessage(send, address, options.getHeaders(), data, options.getCodecName());
-    bus.sendOrPubInternal(msg, options, null, handler);
+    if (!send) {
+      MessageImpl msg = bus.createMessage(false, address, options.getHeaders(), data, options.getCodecName());
+      bus.sendOrPubInternal(msg, options, null, handler);
+      return;
+    }
+    OutboundDeliveryContext<T> sendCtx;
+    synchronized (this) {
+      MessageImpl msg = bus.createMessage(true, address, options.getHeaders(), data, options.getCodecName());
+      msg.flowControl(creditAddress, Math.max(1, maxSize / 2));
+      sendCtx = bus.newSendContext(msg, options, null, handler);
+      sendCtx.writeFailureHandler = restoreCredit;
+      if (creditConsumer == null) {
+        creditConsumer = new CreditConsumer();
+        creditConsumer.register(address, false, null);
+      }
+      if (credits <= 0) {
+        pending.add(sendCtx);
+        checkCredits();
+        return;
+      }
+      credits--;
+      checkCredits();
+    }
+    bus.sendOrPubInternal(sendCtx);
+  }
+
+  /**
+   * Start the credit timer when the write queue is full.
+   */
+  private void checkCredits() {
+    if (credits <= 0 && creditTimerID == -1L) {
+      long received = creditsReceived;
+      creditTimerID = vertx.setTimer(options.getSendTimeout(), id -> creditTimeout(received));
+    }
+  }
+
+  private void creditTimeout(long received) {
+    synchronized (this) {
+      creditTimerID = -1L;
+      if (credits > 0 || creditConsumer == null) {
+        return;
+      }
+      if (creditsReceived != received) {
+        checkCredits();
+        return;
+      }
+      // No credit was received during the send timeout, the credits of the messages in flight are lost
+      credits = maxSize;
+    }
+    doReceiveCredit(0);
+  }
+
+  private void doReceiveCredit(int credit) {
+    List<OutboundDeliveryContext<T>> toSend = null;
+    Handler<Void> handler = null;
+    synchronized (this) {
+      if (credit > 0) {
+        creditsReceived++;
+        // The credits of messages considered lost by the credit timer can still be received
+        credits = Math.min(maxSize, credits + credit);
+      }
+      while (credits > 0 && !pending.isEmpty()) {
+        if (toSend == null) {
+          toSend = new ArrayList<>();
+        }
+        toSend.add(pending.poll());
+        credits--;
+      }
+      if (drainHandler != null && credits >= maxSize / 2) {
+        handler = drainHandler;
+        drainHandler = null;
+      }
+    }
+    if (toSend != null) {
+      for (OutboundDeliveryContext<T> sendCtx : toSend) {
+        bus.sendOrPubInternal(sendCtx);
+      }
+    }
+    if (handler != null) {
+      context.runOnContext(handler);
+    }
+  }
+
+  @Override
+  public MessageProducer<T> setWriteQueueMaxSize(int maxSize) {
+    Arguments.require(maxSize > 0, "Write queue max size must be greater than 0");
+    synchronized (this) {
+      credits += maxSize - this.maxSize;
+      this.maxSize = maxSize;
+      if (creditConsumer != null) {
+        checkCredits();
+      }
+    }
+    doReceiveCredit(0);
+    return this;
+  }
+
+  @Override
+  public synchronized boolean writeQueueFull() {
+    return send && credits <= 0;
+  }
+
+  @Override
+  public synchronized MessageProducer<T> drainHandler(Handler<Void> handler) {
+    this.drainHandler = handler;
+    return this;
   }
 
   @Override
@@ -73,6 +216,18 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
 
   @Override
   public Future<Void> close() {
+    CreditConsumer consumer;
+    synchronized (this) {
+      consumer = creditConsumer;
+      creditConsumer = null;
+      if (creditTimerID != -1L) {
+        vertx.cancelTimer(creditTimerID);
+        creditTimerID = -1L;
+      }
+    }
+    if (consumer != null) {
+      return consumer.unregister();
+    }
     return ((ContextInternal)vertx.getOrCreateContext()).succeededFuture();
   }
 
@@ -83,4 +238,24 @@ public class MessageProducerImpl<T> implements MessageProducer<T> {
       fut.onComplete(handler);
     }
   }
+
+  /**
+   * The consumer of the credits, it is registered like a reply handler.
+   */
+  private class CreditConsumer extends HandlerRegistration<Integer> {
+
+    CreditConsumer() {
+      super(MessageProducerImpl.this.context, MessageProducerImpl.this.bus, creditAddress, false);
+    }
+
+    @Override
+    protected boolean doReceive(Message<Integer> msg) {
+      doReceiveCredit(msg.body());
+      return true;
+    }
+
+    @Override
+    protected void dispatch(Message<Integer> msg, ContextInternal context, Handler<Message<Integer>> handler) {
+    }
+  }
 }
@@ -11,6 +11,7 @@
 package io.vertx.core.eventbus.impl;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.eventbus.DeliveryContext;
@@ -24,6 +25,7 @@ import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 public class OutboundDeliveryContext<T> implements DeliveryContext<T>, Handler<AsyncResult<Void>> {
@@ -32,8 +34,11 @@ public class OutboundDeliveryContext<T> implements DeliveryContext<T>, Handler<A
   public final MessageImpl message;
   public final DeliveryOptions options;
   public final ReplyHandler<T> replyHandler;
-  private final Promise<Void> writePromise;
+  final Promise<Void> writePromise;
+  // Called when the message could not be written
+  Runnable writeFailureHandler;
   private boolean src;
+  private List<OutboundDeliveryContext<T>> batch;
 
   Iterator<Handler<DeliveryContext>> iter;
   EventBusImpl bus;
@@ -47,12 +52,34 @@ public class OutboundDeliveryContext<T> implements DeliveryContext<T>, Handler<A
     this.writePromise = writePromise;
   }
 
+  /**
+   * @return the contexts of the messages of the batch sent with this context, including this context, or
+   *         {@code null} when this context sends a single message
+   */
+  public List<OutboundDeliveryContext<T>> batch() {
+    return batch;
+  }
+
+  void batch(List<OutboundDeliveryContext<T>> batch) {
+    this.batch = batch;
+  }
+
   @Override
   public void handle(AsyncResult<Void> event) {
     written(event.cause());
   }
 
   public void written(Throwable failure) {
+    if (batch != null) {
+      for (OutboundDeliveryContext<T> ctx : batch) {
+        ctx.messageWritten(failure);
+      }
+    } else {
+      messageWritten(failure);
+    }
+  }
+
+  private void messageWritten(Throwable failure) {
 
     // Metrics
     if (metrics != null) {
@@ -79,6 +106,10 @@ public class OutboundDeliveryContext<T> implements DeliveryContext<T>, Handler<A
       }
     }
 
+    if (failure != null && writeFailureHandler != null) {
+      writeFailureHandler.run();
+    }
+
     // Notify promise finally
     if (writePromise != null) {
       if (failure == null) {
@@ -94,6 +125,13 @@ public class OutboundDeliveryContext<T> implements DeliveryContext<T>, Handler<A
     return message;
   }
 
+  /**
+   * @return the future of the reply when the message is a request, {@code null} otherwise
+   */
+  public Future<Message<T>> reply() {
+    return replyHandler != null ? replyHandler.result() : null;
+  }
+
   @Override
   public void next() {
     if (iter.hasNext()) {
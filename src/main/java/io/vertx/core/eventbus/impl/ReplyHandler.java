@@ -21,26 +21,36 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.spi.tracing.TagExtractor;
 import io.vertx.core.spi.tracing.VertxTracer;
 
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The handler of the reply of a request, kept in the {@link ReplyTable} of the event loop of the request context
+ * instead of being registered in the handler map of the event bus.
+ */
 class ReplyHandler<T> extends HandlerRegistration<T> {
 
   private final EventBusImpl eventBus;
   private final ContextInternal context;
   private final Promise<Message<T>> result;
-  private final long timeoutID;
+  private final ReplyTable table;
   private final boolean src;
   private final String repliedAddress;
+  final long id;
+  final long timeout;
+  final long deadline;
   Object trace;
 
-  ReplyHandler(EventBusImpl eventBus, ContextInternal context, String address, String repliedAddress, boolean src, long timeout) {
+  ReplyHandler(EventBusImpl eventBus, ContextInternal context, ReplyTable table, long id, String address, String repliedAddress, boolean src, long timeout) {
     super(context, eventBus, address, src);
     this.eventBus = eventBus;
     this.context = context;
     this.result = context.promise();
+    this.table = table;
+    this.id = id;
     this.src = src;
     this.repliedAddress = repliedAddress;
-    this.timeoutID = eventBus.vertx.setTimer(timeout, id -> {
-      fail(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress));
-    });
+    this.timeout = timeout;
+    this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
   }
 
   private void trace(Object reply, Throwable failure) {
@@ -55,7 +65,20 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
   }
 
   void fail(ReplyException failure) {
-    unregister(ar -> {});
+    if (table.remove(this)) {
+      unregisterMetric();
+      failed(failure);
+    }
+  }
+
+  /**
+   * Called by the table when the deadline of the request is reached.
+   */
+  void timeout() {
+    context.emit(new ReplyException(ReplyFailure.TIMEOUT, "Timed out after waiting " + timeout + "(ms) for a reply. address: " + address + ", repliedAddress: " + repliedAddress), this::fail);
+  }
+
+  private void failed(ReplyException failure) {
     if (eventBus.metrics != null) {
       eventBus.metrics.replyFailure(repliedAddress, failure.failureType());
     }
@@ -63,27 +86,30 @@ class ReplyHandler<T> extends HandlerRegistration<T> {
     result.tryFail(failure);
   }
 
-
   @Override
   protected boolean doReceive(Message<T> reply) {
+    if (!table.remove(this)) {
+      // Timed out or failed
+      return false;
+    }
     try {
       dispatch(null, reply, context);
     } finally {
-      unregister();
+      unregisterMetric();
     }
     return true;
   }
 
   void register() {
-    register(repliedAddress, true, null);
+    registerMetric(repliedAddress);
+    table.add(this);
   }
 
   @Override
   protected void dispatch(Message<T> reply, ContextInternal context, Handler<Message<T>> handler /* null */) {
-    eventBus.vertx.cancelTimer(timeoutID);
     if (reply.body() instanceof ReplyException) {
       // This is kind of clunky - but hey-ho
-      fail((ReplyException) reply.body());
+      failed((ReplyException) reply.body());
     } else {
       trace(reply, null);
       result.complete(reply);
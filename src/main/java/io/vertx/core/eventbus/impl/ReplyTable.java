@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.impl.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The correlation table of the requests sent from the contexts of an event loop.
+ * <p>
+ * A request waiting for its reply is kept in the table under a compact id, the reply address of the request is
+ * made of the {@link #index} of the table and of this id. A reply is found from its address without registering
+ * a consumer in the handler map of the event bus. The table can be accessed from any thread.
+ * <p>
+ * The deadlines of the requests are only handled by the event loop. The requests of a same timeout expire in the
+ * order they are sent, so they are kept in an insertion ordered map per timeout and a single timeout of the event loop
+ * {@link TimerWheel} expires the requests at the head of these maps.
+ */
+class ReplyTable {
+
+  final int index;
+  private final TimerWheel wheel;
+  private final EventLoop eventLoop;
+  private final ConcurrentMap<Long, ReplyHandler<?>> handlers = new ConcurrentHashMap<>();
+
+  // Only accessed from the event loop
+  private final Map<Long, LinkedHashMap<Long, ReplyHandler<?>>> deadlines = new HashMap<>();
+  private Timer timer;
+  private long timerDeadline;
+
+  ReplyTable(int index, TimerWheel wheel) {
+    this.index = index;
+    this.wheel = wheel;
+    this.eventLoop = wheel.eventLoop();
+  }
+
+  ReplyHandler<?> get(long id) {
+    return handlers.get(id);
+  }
+
+  void add(ReplyHandler<?> handler) {
+    handlers.put(handler.id, handler);
+    if (eventLoop.inEventLoop()) {
+      addDeadline(handler);
+    } else {
+      eventLoop.execute(() -> addDeadline(handler));
+    }
+  }
+
+  /**
+   * Remove a handler, only a single call succeeds for a handler.
+   *
+   * @return whether the handler was removed by this call
+   */
+  boolean remove(ReplyHandler<?> handler) {
+    if (!handlers.remove(handler.id, handler)) {
+      return false;
+    }
+    if (eventLoop.inEventLoop()) {
+      removeDeadline(handler);
+    } else {
+      eventLoop.execute(() -> removeDeadline(handler));
+    }
+    return true;
+  }
+
+  private void addDeadline(ReplyHandler<?> handler) {
+    if (!handlers.containsKey(handler.id)) {
+      // Already replied
+      return;
+    }
+    deadlines.computeIfAbsent(handler.timeout, timeout -> new LinkedHashMap<>()).put(handler.id, handler);
+    if (timer == null || handler.deadline - timerDeadline < 0) {
+      schedule(handler.deadline);
+    }
+  }
+
+  private void removeDeadline(ReplyHandler<?> handler) {
+    LinkedHashMap<Long, ReplyHandler<?>> requests = deadlines.get(handler.timeout);
+    if (requests != null) {
+      requests.remove(handler.id);
+      if (requests.isEmpty()) {
+        deadlines.remove(handler.timeout);
+      }
+    }
+  }
+
+  private void schedule(long deadline) {
+    if (timer != null) {
+      wheel.cancel(timer);
+    }
+    timerDeadline = deadline;
+    timer = new Timer();
+    wheel.schedule(timer, Math.max(0L, deadline - System.nanoTime()), false, TimeUnit.NANOSECONDS);
+  }
+
+  private class Timer extends TimerWheel.Timeout {
+    @Override
+    protected void expire() {
+      ReplyTable.this.expire();
+    }
+  }
+
+  private void expire() {
+    timer = null;
+    long now = System.nanoTime();
+    List<ReplyHandler<?>> expired = new ArrayList<>();
+    long next = 0L;
+    boolean hasNext = false;
+    Iterator<LinkedHashMap<Long, ReplyHandler<?>>> it = deadlines.values().iterator();
+    while (it.hasNext()) {
+      Iterator<ReplyHandler<?>> requests = it.next().values().iterator();
+      while (requests.hasNext()) {
+        ReplyHandler<?> handler = requests.next();
+        if (handler.deadline - now > 0) {
+          if (!hasNext || handler.deadline - next < 0) {
+            next = handler.deadline;
+            hasNext = true;
+          }
+          break;
+        }
+        requests.remove();
+        expired.add(handler);
+      }
+    }
+    deadlines.values().removeIf(Map::isEmpty);
+    if (hasNext) {
+      schedule(next);
+    }
+    for (ReplyHandler<?> handler : expired) {
+      handler.timeout();
+    }
+  }
+}
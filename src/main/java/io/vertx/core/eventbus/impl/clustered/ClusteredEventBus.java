@@ -11,6 +11,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -18,6 +21,7 @@ import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.AddressHelper;
 import io.vertx.core.eventbus.EventBusOptions;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.impl.*;
 import io.vertx.core.impl.ContextInternal;
@@ -33,8 +37,10 @@ import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.cluster.NodeSelector;
 import io.vertx.core.spi.cluster.RegistrationInfo;
 
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -49,20 +55,23 @@ public class ClusteredEventBus extends EventBusImpl {
   private static final Logger log = LoggerFactory.getLogger(ClusteredEventBus.class);
 
   private static final Buffer PONG = Buffer.buffer(new byte[]{(byte) 1});
+  private static final Buffer PROTOCOL_3 = Buffer.buffer(new byte[]{ClusteredMessage.WIRE_PROTOCOL_VERSION_3});
+  private static final Buffer PROTOCOL_3_COMPRESSED = Buffer.buffer(new byte[]{ClusteredMessage.WIRE_PROTOCOL_VERSION_3 | ConnectionHolder.COMPRESSION_ACCEPTED});
 
   private final EventBusOptions options;
   private final ClusterManager clusterManager;
   private final NodeSelector nodeSelector;
   private final AtomicLong handlerSequence = new AtomicLong(0);
+  private final SecureRandom replyIdGenerator = new SecureRandom();
 
-  private final ConcurrentMap<String, ConnectionHolder> connections = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ConnectionHolder[]> connections = new ConcurrentHashMap<>();
 
   private NodeInfo nodeInfo;
   private String nodeId;
   private NetServer server;
 
   public ClusteredEventBus(VertxInternal vertx, VertxOptions options, ClusterManager clusterManager, NodeSelector nodeSelector) {
-    super(vertx);
+    super(vertx, options.getEventBusOptions());
     this.options = options.getEventBusOptions();
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
@@ -104,8 +113,10 @@ public class ClusteredEventBus extends EventBusImpl {
             log.error("Failed to close server", serverClose.cause());
           }
           // Close all outbound connections explicitly - don't rely on context hooks
-          for (ConnectionHolder holder : connections.values()) {
-            holder.close();
+          for (ConnectionHolder[] group : connections.values()) {
+            for (ConnectionHolder holder : group) {
+              holder.close();
+            }
           }
           promise.handle(serverClose);
         });
@@ -170,6 +181,8 @@ public class ClusteredEventBus extends EventBusImpl {
     } else if (sendContext.options.isLocalOnly()) {
       super.sendOrPub(sendContext);
     } else {
+      // Encode on the sending thread, before the serializer switches to the context and waits for the node selection
+      ((ClusteredMessage<?, ?>) sendContext.message).encodeContent();
       Serializer serializer = Serializer.get(sendContext.ctx);
       if (sendContext.message.isSend()) {
         serializer.queue(sendContext, nodeSelector::selectForSend, this::sendToNode, this::sendOrPublishFailed);
@@ -187,9 +200,9 @@ public class ClusteredEventBus extends EventBusImpl {
   }
 
   @Override
-  protected String generateReplyAddress() {
-    // The address is a cryptographically secure id that can't be guessed
-    return "__vertx.reply." + UUID.randomUUID().toString();
+  protected long generateReplyId() {
+    // The id is cryptographically secure so the reply address can't be guessed
+    return replyIdGenerator.nextLong();
   }
 
   @Override
@@ -237,26 +250,70 @@ public class ClusteredEventBus extends EventBusImpl {
       RecordParser parser = RecordParser.newFixed(4);
       Handler<Buffer> handler = new Handler<Buffer>() {
         int size = -1;
+        WireDictionary dictionary;
+        WireCompressor compressor;
 
         public void handle(Buffer buff) {
           if (size == -1) {
             size = buff.getInt(0);
             parser.fixedSizeMode(size);
           } else {
+            parser.fixedSizeMode(4);
+            size = -1;
+            Buffer frame = buff;
+            long decompressionTime = -1;
+            if (compressor != null && buff.getByte(0) == WireCompressor.DEFLATED_FRAME) {
+              long start = System.nanoTime();
+              try {
+                frame = compressor.decompress(buff);
+              } catch (Exception e) {
+                // The compression stream of the connection cannot be recovered
+                log.error("Failed to decompress frame", e);
+                socket.close();
+                return;
+              }
+              decompressionTime = System.nanoTime() - start;
+            }
+            if (dictionary != null && frame.getByte(0) == ClusteredMessage.BATCH_FRAME) {
+              List<ClusteredMessage> batch = readBatch(frame, dictionary);
+              if (metrics != null && decompressionTime != -1 && !batch.isEmpty()) {
+                metrics.messageDecompressed(batch.get(0).address(), frame.length(), buff.length(), decompressionTime);
+              }
+              if (!batch.isEmpty() && deliverBatchLocally(batch) != null) {
+                for (ClusteredMessage msg : batch) {
+                  undelivered(msg);
+                }
+              }
+              return;
+            }
             ClusteredMessage received = new ClusteredMessage(ClusteredEventBus.this);
-            received.readFromWire(buff, codecManager);
+            received.readFromWire(frame, codecManager, dictionary);
             if (metrics != null) {
               metrics.messageRead(received.address(), buff.length());
+              if (decompressionTime != -1) {
+                metrics.messageDecompressed(received.address(), frame.length(), buff.length(), decompressionTime);
+              }
             }
-            parser.fixedSizeMode(4);
-            size = -1;
             if (received.hasFailure()) {
               received.internalError();
             } else if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
-              // Just send back pong directly on connection
-              socket.write(PONG);
-            } else {
-              deliverMessageLocally(received);
+              if (ConnectionHolder.NEGOTIATION_ADDRESS.equals(received.address())) {
+                // The client can use the wire protocol version 3
+                dictionary = new WireDictionary();
+                if (WireCompressor.DEFLATE.equals(received.headers().get(ConnectionHolder.COMPRESSION_HEADER))) {
+                  WireCompressor c = new WireCompressor();
+                  compressor = c;
+                  socket.closeHandler(v -> c.close());
+                  socket.write(PROTOCOL_3_COMPRESSED);
+                } else {
+                  socket.write(PROTOCOL_3);
+                }
+              } else {
+                // Just send back pong directly on connection
+                socket.write(PONG);
+              }
+            } else if (deliverMessageLocally(received) != null) {
+              undelivered(received);
             }
           }
         }
@@ -266,7 +323,59 @@ public class ClusteredEventBus extends EventBusImpl {
     };
   }
 
+  /**
+   * Grant back the credit of a flow controlled message received from a node when it has no handlers, the write of
+   * the message succeeded on the sending node so its producer does not restore the credit itself.
+   */
+  private void undelivered(ClusteredMessage msg) {
+    String creditAddress = msg.creditAddress();
+    if (creditAddress != null) {
+      grantCredits(msg, creditAddress, 1);
+    }
+  }
+
+  /**
+   * Grant back the credit of a flow controlled message written to a node supporting only the wire protocol version 2,
+   * such node never grants the credits back so its producer would stall.
+   */
+  void unsupportedFlowControl(ClusteredMessage msg) {
+    String creditAddress = msg.creditAddress();
+    if (creditAddress != null) {
+      grantCredits(msg, creditAddress, 1);
+    }
+  }
+
+  /**
+   * Read the messages of a batch frame, the messages that cannot be read are failed.
+   */
+  private List<ClusteredMessage> readBatch(Buffer frame, WireDictionary dictionary) {
+    List<ClusteredMessage> batch = new ArrayList<>();
+    int pos = 1;
+    while (pos < frame.length()) {
+      int length = frame.getInt(pos);
+      pos += 4;
+      ClusteredMessage received = new ClusteredMessage(this);
+      received.readFromWire(frame.slice(pos, pos + length), codecManager, dictionary);
+      pos += length;
+      if (metrics != null) {
+        metrics.messageRead(received.address(), length);
+      }
+      if (received.hasFailure()) {
+        received.internalError();
+      } else {
+        batch.add(received);
+      }
+    }
+    return batch;
+  }
+
   private <T> void sendToNode(OutboundDeliveryContext<T> sendContext, String nodeId) {
+    Future<Message<T>> reply = sendContext.reply();
+    if (reply != null && nodeId != null) {
+      long start = System.nanoTime();
+      nodeSelector.requestSent(nodeId);
+      reply.onComplete(ar -> nodeSelector.requestCompleted(nodeId, System.nanoTime() - start));
+    }
     if (nodeId != null && !nodeId.equals(this.nodeId)) {
       sendRemote(sendContext, nodeId, sendContext.message);
     } else {
@@ -292,6 +401,7 @@ public class ClusteredEventBus extends EventBusImpl {
   private <T> void clusteredSendReply(String replyDest, OutboundDeliveryContext<T> sendContext) {
     MessageImpl message = sendContext.message;
     if (!replyDest.equals(nodeId)) {
+      ((ClusteredMessage<?, ?>) message).encodeContent();
       sendRemote(sendContext, replyDest, message);
     } else {
       super.sendOrPub(sendContext);
@@ -304,23 +414,51 @@ public class ClusteredEventBus extends EventBusImpl {
     // Once we connect we send them.
     // This can also be invoked concurrently from different threads, so it gets a little
     // tricky
-    ConnectionHolder holder = connections.get(remoteNodeId);
-    if (holder == null) {
+    ConnectionHolder[] group = connections.get(remoteNodeId);
+    if (group == null) {
       // When process is creating a lot of connections this can take some time
       // so increase the timeout
-      holder = new ConnectionHolder(this, remoteNodeId, options);
-      ConnectionHolder prevHolder = connections.putIfAbsent(remoteNodeId, holder);
-      if (prevHolder != null) {
+      group = createConnections(remoteNodeId);
+      ConnectionHolder[] prevGroup = connections.putIfAbsent(remoteNodeId, group);
+      if (prevGroup != null) {
         // Another one sneaked in
-        holder = prevHolder;
+        group = prevGroup;
       } else {
-        holder.connect();
+        for (ConnectionHolder holder : group) {
+          holder.connect();
+        }
       }
     }
+    ConnectionHolder holder;
+    if (group.length == 1) {
+      holder = group[0];
+    } else {
+      // Messages sent to the same address use the same connection to remain ordered
+      holder = group[(message.address().hashCode() & 0x7FFFFFFF) % group.length];
+    }
     holder.writeMessage(sendContext);
   }
 
-  ConcurrentMap<String, ConnectionHolder> connections() {
+  private ConnectionHolder[] createConnections(String remoteNodeId) {
+    int size = options.getClusterConnectionsPerNode();
+    ConnectionHolder[] group = new ConnectionHolder[size];
+    if (size == 1) {
+      group[0] = new ConnectionHolder(this, remoteNodeId, options, group, null);
+    } else {
+      // Pin each connection to a different event loop
+      List<EventLoop> eventLoops = new ArrayList<>();
+      for (EventExecutor executor : vertx.getEventLoopGroup()) {
+        eventLoops.add((EventLoop) executor);
+      }
+      int start = Math.max(0, eventLoops.indexOf(vertx.nextEventLoop()));
+      for (int i = 0;i < size;i++) {
+        group[i] = new ConnectionHolder(this, remoteNodeId, options, group, eventLoops.get((start + i) % eventLoops.size()));
+      }
+    }
+    return group;
+  }
+
+  ConcurrentMap<String, ConnectionHolder[]> connections() {
     return connections;
   }
 
@@ -331,5 +469,9 @@ public class ClusteredEventBus extends EventBusImpl {
   EventBusOptions options() {
     return options;
   }
+
+  NodeSelector nodeSelector() {
+    return nodeSelector;
+  }
 }
 
@@ -11,6 +11,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -21,9 +24,12 @@ import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.CodecManager;
 import io.vertx.core.eventbus.impl.EventBusImpl;
 import io.vertx.core.eventbus.impl.MessageImpl;
+import io.vertx.core.eventbus.impl.MessageProducerImpl;
+import io.vertx.core.eventbus.impl.OutboundDeliveryContext;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +42,27 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
 
   private static final byte WIRE_PROTOCOL_VERSION = 2;
 
+  /**
+   * The wire protocol version interning the strings in the {@link WireDictionary} of the connection, a connection
+   * uses this version once both peers agreed on it.
+   */
+  static final byte WIRE_PROTOCOL_VERSION_3 = 3;
+
+  /**
+   * The first byte of a frame made of the frames of a batch of messages sent to the same address, a batch frame is
+   * only written on a connection that agreed on the wire protocol version 3.
+   */
+  static final byte BATCH_FRAME = 0x20;
+
+  private static final int CODEC_NAME_FIELD = 0;
+  private static final int ADDRESS_FIELD = 1;
+  private static final int REPLY_ADDRESS_FIELD = 2;
+
+  /**
+   * The initial capacity of the buffer of a body encoded by its codec, it avoids growing the buffer of small bodies.
+   */
+  private static final int BODY_SIZE_ESTIMATE = 1024;
+
   private String sender;
   private String repliedTo;
   private Buffer wireBuffer;
@@ -44,6 +71,9 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   private boolean fromWire;
   private boolean toWire;
   private String failure;
+  // The headers and the body encoded by the sending thread, shared by the frames of the message
+  private byte[][] encodedHeaders;
+  private Buffer encodedBody;
 
   public ClusteredMessage(EventBusImpl bus) {
     super(bus);
@@ -73,6 +103,13 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     return reply;
   }
 
+  @Override
+  protected MessageImpl createCredits(String creditAddress, int credits) {
+    ClusteredMessage message = (ClusteredMessage) super.createCredits(creditAddress, credits);
+    message.repliedTo = sender;
+    return message;
+  }
+
   public ClusteredMessage<U, V> copyBeforeReceive() {
     return new ClusteredMessage<>(this);
   }
@@ -92,6 +129,25 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     return headers;
   }
 
+  @Override
+  public String creditAddress() {
+    decodeCredits();
+    return creditAddress;
+  }
+
+  @Override
+  public int creditBatch() {
+    decodeCredits();
+    return creditBatch;
+  }
+
+  private void decodeCredits() {
+    // The flow control of a message read from the wire is in its headers
+    if (headers == null && headersPos != 0) {
+      decodeHeaders();
+    }
+  }
+
   @Override
   public V body() {
     // Lazily decode the body
@@ -108,37 +164,218 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   public Buffer encodeToWire() {
+    return Buffer.buffer(encodeFrame(null));
+  }
+
+  /**
+   * Encode this message to a wire frame.
+   * <p>
+   * The size of the frame header is computed before it is written so the header is allocated with its exact size,
+   * the frame is a composite of the header and of the body {@link #encodeContent() encoded} by the sending thread.
+   * <p>
+   * With a {@code dictionary} the frame uses the wire protocol version 3: the codec name, the address and the sender
+   * are interned in the dictionary of the connection, reply addresses are never interned as they are used once.
+   * Without a {@code dictionary} the frame does not carry the flow control headers, a node supporting only the wire
+   * protocol version 2 would never grant the credits back.
+   *
+   * @param dictionary the dictionary of the connection or {@code null} for the wire protocol version 2
+   * @return the frame
+   */
+  ByteBuf encodeFrame(WireDictionary dictionary) {
     toWire = true;
-    int length = 1024; // TODO make this configurable
-    Buffer buffer = Buffer.buffer(length);
-    buffer.appendInt(0);
-    buffer.appendByte(WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
+    String[] fields = { systemCodecID == -1 ? messageCodec.name() : null, address, replyAddress, sender };
+    byte[][] fieldBytes = new byte[fields.length][];
+    int[] fieldTags = new int[fields.length];
+    int size = 4 + 1 + 1 + 1;
+    for (int i = 0;i < fields.length;i++) {
+      String field = fields[i];
+      if (i == CODEC_NAME_FIELD && field == null) {
+        // System codec
+        continue;
+      }
+      if (dictionary != null) {
+        int tag = dictionary.tag(field, i != REPLY_ADDRESS_FIELD && !(i == ADDRESS_FIELD && field.startsWith(EventBusImpl.REPLY_ADDRESS_PREFIX)));
+        fieldTags[i] = tag;
+        size += WireDictionary.varIntSize(tag);
+        if (tag == WireDictionary.LITERAL || tag == WireDictionary.DEFINE) {
+          byte[] bytes = field.getBytes(CharsetUtil.UTF_8);
+          fieldBytes[i] = bytes;
+          size += WireDictionary.varIntSize(bytes.length) + bytes.length;
+        }
+      } else {
+        size += 4;
+        if (field != null) {
+          byte[] bytes = field.getBytes(CharsetUtil.UTF_8);
+          fieldBytes[i] = bytes;
+          size += bytes.length;
+        }
+      }
+    }
+    encodeContent();
+    byte[][] headerBytes = encodedHeaders;
+    int numHeaderBytes = headerBytes != null ? headerBytes.length : 0;
+    if (dictionary == null && creditAddress != null) {
+      // The flow control headers are the last ones
+      numHeaderBytes -= 4;
+    }
+    int headersSize = 4;
+    if (numHeaderBytes > 0) {
+      headersSize += 4;
+      for (int i = 0;i < numHeaderBytes;i++) {
+        headersSize += 4 + headerBytes[i].length;
+      }
+    }
+    ByteBuf body = encodedBody.getByteBuf();
+    boolean rawBody = isRawBody();
+    size += headersSize;
+    if (rawBody) {
+      // The body length prefix
+      size += 4;
+    }
+    Buffer buffer = Buffer.buffer(size);
+    buffer.appendInt(0);
+    buffer.appendByte(dictionary != null ? WIRE_PROTOCOL_VERSION_3 : WIRE_PROTOCOL_VERSION);
     buffer.appendByte(systemCodecID);
-    if (systemCodecID == -1) {
-      // User codec
-      writeString(buffer, messageCodec.name());
+    for (int i = 0;i < fields.length;i++) {
+      if (i == CODEC_NAME_FIELD && fields[i] == null) {
+        continue;
+      }
+      if (i == ADDRESS_FIELD) {
+        buffer.appendByte(send ? (byte) 0 : (byte) 1);
+      }
+      byte[] bytes = fieldBytes[i];
+      if (dictionary != null) {
+        WireDictionary.appendVarInt(buffer, fieldTags[i]);
+        if (bytes != null) {
+          WireDictionary.appendVarInt(buffer, bytes.length);
+          buffer.appendBytes(bytes);
+        }
+      } else if (bytes != null) {
+        writeBytes(buffer, bytes);
+      } else {
+        buffer.appendInt(0);
+      }
     }
-    buffer.appendByte(send ? (byte) 0 : (byte) 1);
-    writeString(buffer, address);
-    if (replyAddress != null) {
-      writeString(buffer, replyAddress);
+    if (numHeaderBytes > 0) {
+      buffer.appendInt(headersSize);
+      buffer.appendInt(numHeaderBytes / 2);
+      for (int i = 0;i < numHeaderBytes;i++) {
+        writeBytes(buffer, headerBytes[i]);
+      }
+    } else {
+      buffer.appendInt(4);
+    }
+    int bodyLength = body.readableBytes();
+    if (rawBody) {
+      buffer.appendInt(bodyLength);
+    }
+    buffer.setInt(0, buffer.length() + bodyLength - 4);
+    return Unpooled.wrappedBuffer(buffer.getByteBuf(), body);
+  }
+
+  /**
+   * Encode the headers and the body of this message, the {@link ClusteredEventBus} calls it on the thread sending the
+   * message once the outbound interceptors have been executed, before the message is routed to the cluster nodes: the
+   * headers and the body can then be modified once {@code send} returns while the frames are written by the event loops
+   * of the connections. The messages sent with {@link io.vertx.core.eventbus.DeliveryOptions#setLocalOnly local only}
+   * delivery are not encoded.
+   * <p>
+   * A read-only {@link Buffer} body is not copied. The other {@link Buffer} and {@code byte[]} bodies are copied, they
+   * are written after their length, the other bodies are encoded by their codec.
+   */
+  void encodeContent() {
+    if (encodedBody != null) {
+      // Published to several nodes
+      return;
+    }
+    List<Map.Entry<String, String>> entries = headers != null ? headers.entries() : Collections.emptyList();
+    int numHeaders = entries.size() + (creditAddress != null ? 2 : 0);
+    if (numHeaders > 0) {
+      byte[][] headerBytes = new byte[numHeaders * 2][];
+      int idx = 0;
+      for (Map.Entry<String, String> entry : entries) {
+        headerBytes[idx++] = entry.getKey().getBytes(CharsetUtil.UTF_8);
+        headerBytes[idx++] = entry.getValue().getBytes(CharsetUtil.UTF_8);
+      }
+      if (creditAddress != null) {
+        // The flow control is carried by headers on the wire
+        headerBytes[idx++] = MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME.getBytes(CharsetUtil.UTF_8);
+        headerBytes[idx++] = creditAddress.getBytes(CharsetUtil.UTF_8);
+        headerBytes[idx++] = MessageProducerImpl.CREDIT_BATCH_HEADER_NAME.getBytes(CharsetUtil.UTF_8);
+        headerBytes[idx] = String.valueOf(creditBatch).getBytes(CharsetUtil.UTF_8);
+      }
+      encodedHeaders = headerBytes;
+    }
+    if (messageCodec == CodecManager.BUFFER_MESSAGE_CODEC) {
+      Buffer body = (Buffer) sentBody;
+      encodedBody = body.isReadOnly() ? body : body.copy();
+    } else if (messageCodec == CodecManager.BYTE_ARRAY_MESSAGE_CODEC) {
+      encodedBody = Buffer.buffer((byte[]) sentBody);
     } else {
-      buffer.appendInt(0);
+      // The length of a string body followed by its bytes, exact for ASCII strings
+      int estimate = sentBody instanceof String ? 4 + ((String) sentBody).length() : BODY_SIZE_ESTIMATE;
+      Buffer body = Buffer.buffer(estimate);
+      messageCodec.encodeToWire(body, sentBody);
+      encodedBody = body;
+    }
+  }
+
+  private boolean isRawBody() {
+    return messageCodec == CodecManager.BUFFER_MESSAGE_CODEC || messageCodec == CodecManager.BYTE_ARRAY_MESSAGE_CODEC;
+  }
+
+  /**
+   * Encode a batch of messages to a single frame: the {@link #BATCH_FRAME} byte followed by the frame of each
+   * message including its length.
+   *
+   * @param batch the contexts of the messages of the batch
+   * @param dictionary the dictionary of the connection
+   * @return the frame
+   */
+  static ByteBuf encodeBatchFrame(List<? extends OutboundDeliveryContext<?>> batch, WireDictionary dictionary) {
+    CompositeByteBuf frame = Unpooled.compositeBuffer(batch.size() + 1);
+    ByteBuf header = Unpooled.buffer(5, 5);
+    header.writeInt(0);
+    header.writeByte(BATCH_FRAME);
+    frame.addComponent(true, header);
+    for (OutboundDeliveryContext<?> ctx : batch) {
+      frame.addComponent(true, ((ClusteredMessage<?, ?>) ctx.message).encodeFrame(dictionary));
     }
-    writeString(buffer, sender);
-    encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    frame.setInt(0, frame.readableBytes() - 4);
+    return frame;
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Read a frame of a connection.
+   *
+   * @param dictionary the dictionary of the connection or {@code null} when the connection did not agree on the
+   *                   wire protocol version 3
+   */
+  void readFromWire(Buffer buffer, CodecManager codecManager, WireDictionary dictionary) {
     int pos = 0;
     // Overall Length already read when passed in here
     byte protocolVersion = buffer.getByte(pos);
+    if (protocolVersion == WIRE_PROTOCOL_VERSION_3) {
+      if (dictionary == null) {
+        setFailure("Wire protocol version " + protocolVersion + " not agreed on the connection");
+      } else {
+        try {
+          readFromWire(buffer, codecManager, dictionary, pos + 1);
+        } catch (RuntimeException e) {
+          setFailure("Invalid wire protocol version " + protocolVersion + " frame: " + e.getMessage());
+        }
+      }
+      wireBuffer = buffer;
+      fromWire = true;
+      return;
+    }
     if (protocolVersion > WIRE_PROTOCOL_VERSION) {
-      setFailure("Invalid wire protocol version " + protocolVersion + " should be <= " + WIRE_PROTOCOL_VERSION);
+      setFailure("Invalid wire protocol version " + protocolVersion + " should be <= " + WIRE_PROTOCOL_VERSION_3);
     }
     pos++;
     byte systemCodecCode = buffer.getByte(pos);
@@ -185,6 +422,35 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     fromWire = true;
   }
 
+  private void readFromWire(Buffer buffer, CodecManager codecManager, WireDictionary dictionary, int pos) {
+    byte systemCodecCode = buffer.getByte(pos);
+    pos++;
+    if (systemCodecCode == -1) {
+      // User codec
+      String codecName = dictionary.read(buffer, pos);
+      pos += dictionary.consumed();
+      messageCodec = codecManager.getCodec(codecName);
+      if (messageCodec == null) {
+        setFailure("No message codec registered with name " + codecName);
+      }
+    } else {
+      messageCodec = codecManager.systemCodecs()[systemCodecCode];
+    }
+    send = buffer.getByte(pos) == 0;
+    pos++;
+    // Read all the strings, the dictionary must see each string defined by the frame
+    address = dictionary.read(buffer, pos);
+    pos += dictionary.consumed();
+    replyAddress = dictionary.read(buffer, pos);
+    pos += dictionary.consumed();
+    sender = dictionary.read(buffer, pos);
+    pos += dictionary.consumed();
+    headersPos = pos;
+    int headersLength = buffer.getInt(pos);
+    pos += headersLength;
+    bodyPos = pos;
+  }
+
   private void setFailure(String s) {
     if (failure == null) {
       failure = s;
@@ -196,23 +462,6 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     bodyPos = 0;
   }
 
-  private void encodeHeaders(Buffer buffer) {
-    if (headers != null && !headers.isEmpty()) {
-      int headersLengthPos = buffer.length();
-      buffer.appendInt(0);
-      buffer.appendInt(headers.size());
-      List<Map.Entry<String, String>> entries = headers.entries();
-      for (Map.Entry<String, String> entry: entries) {
-        writeString(buffer, entry.getKey());
-        writeString(buffer, entry.getValue());
-      }
-      int headersEndPos = buffer.length();
-      buffer.setInt(headersLengthPos, headersEndPos - headersLengthPos);
-    } else {
-      buffer.appendInt(4);
-    }
-  }
-
   private void decodeHeaders() {
     int length = wireBuffer.getInt(headersPos);
     if (length != 4) {
@@ -231,20 +480,26 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
         bytes = wireBuffer.getBytes(headersPos, headersPos + valLength);
         String val = new String(bytes, CharsetUtil.UTF_8);
         headersPos += valLength;
-        headers.add(key, val);
+        if (MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME.equals(key)) {
+          // The flow control headers are not visible to the consumer
+          creditAddress = val;
+        } else if (MessageProducerImpl.CREDIT_BATCH_HEADER_NAME.equals(key)) {
+          try {
+            creditBatch = Integer.parseInt(val);
+          } catch (NumberFormatException e) {
+            creditBatch = 1;
+          }
+        } else {
+          headers.add(key, val);
+        }
       }
     }
     headersPos = 0;
   }
 
-  private void writeBody(Buffer buff) {
-    messageCodec.encodeToWire(buff, sentBody);
-  }
-
-  private void writeString(Buffer buff, String str) {
-    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
-    buff.appendInt(strBytes.length);
-    buff.appendBytes(strBytes);
+  private static void writeBytes(Buffer buffer, byte[] bytes) {
+    buffer.appendInt(bytes.length);
+    buffer.appendBytes(bytes);
   }
 
   String getSender() {
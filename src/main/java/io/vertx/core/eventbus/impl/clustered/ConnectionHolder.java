@@ -11,12 +11,21 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.eventbus.impl.OutboundDeliveryContext;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
 import io.vertx.core.impl.CloseFuture;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
@@ -24,13 +33,39 @@ import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.core.net.impl.NetSocketInternal;
 import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
+ * The connection to a remote cluster node.
+ * <p>
+ * Messages are queued in a bounded multi producer / single consumer queue without locking. The event loop of the
+ * connection drains the queue: it gathers the frames of up to {@link #MAX_BATCH_SIZE} messages in a single composite
+ * buffer written with a single flush. Messages sent when the queue is full are failed with a
+ * {@link ReplyFailure#WRITE_QUEUE_FULL} reply failure and reported to {@link EventBusMetrics#writeQueueFull}, a
+ * {@link io.vertx.core.eventbus.MessageProducer} then gets its credit back.
+ * <p>
+ * The headers and the body of a message are encoded by the sending thread before the message is queued, only the
+ * frame header depending on the state of the connection is encoded by the event loop of the connection.
+ * <p>
+ * The connections to a node belong to a group of {@link EventBusOptions#getClusterConnectionsPerNode()} connections,
+ * each connected from its own event loop. When a connection of the group closes, the whole group is closed.
+ * <p>
+ * When {@link EventBusOptions#isClusterCompression()} is set, the connection requests compression during the protocol
+ * negotiation, the frames greater than {@link EventBusOptions#getClusterCompressionThreshold()} are then compressed
+ * by the {@link WireCompressor} of the connection.
+ * <p>
+ * Only a server agreeing on the wire protocol version 3 grants back the credits of the messages sent by a
+ * {@link io.vertx.core.eventbus.MessageProducer}, the credit of a message written to a server supporting only the
+ * version 2 is granted back as soon as the message is written: the producer is not flow controlled by such server.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 class ConnectionHolder {
@@ -39,27 +74,71 @@ class ConnectionHolder {
 
   private static final String PING_ADDRESS = "__vertx_ping";
 
+  /**
+   * The address of the ping sent when the connection is established to agree on the wire protocol version 3.
+   */
+  static final String NEGOTIATION_ADDRESS = "__vertx_protocol_3";
+
+  /**
+   * The header of the negotiation ping requesting the compression of the frames.
+   */
+  static final String COMPRESSION_HEADER = "compression";
+
+  /**
+   * The flag set on the reply to the negotiation when the server accepts compression.
+   */
+  static final byte COMPRESSION_ACCEPTED = 0x10;
+
+  /**
+   * The max number of messages written at once.
+   */
+  static final int MAX_BATCH_SIZE = 256;
+
+  /**
+   * The number of bytes after which no more messages are added to a batch.
+   */
+  static final int MAX_BATCH_BYTES = 64 * 1024;
+
+  private static final AtomicIntegerFieldUpdater<ConnectionHolder> DRAINING_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConnectionHolder.class, "draining");
+
   private final ClusteredEventBus eventBus;
   private final String remoteNodeId;
+  private final ConnectionHolder[] group;
+  private final EventLoop eventLoop;
   private final VertxInternal vertx;
   private final EventBusMetrics metrics;
   private final EventBusOptions busOptions;
   private final CloseFuture clientCloseFuture;
+  private final int maxQueueSize;
+  private final int compressionThreshold;
+  private final Queue<OutboundDeliveryContext<?>> queue = PlatformDependent.newMpscQueue();
+  private final AtomicInteger queueSize = new AtomicInteger();
+  private final Runnable drainTask = this::drain;
 
   private NetClient client;
-  private Queue<OutboundDeliveryContext<?>> pending;
-  private NetSocket socket;
-  private boolean connected;
+  private boolean closed;
+  // Set once the connection agreed on the wire protocol version
+  private volatile NetSocketInternal socket;
+  private WireDictionary dictionary;
+  private volatile WireCompressor compressor;
+  private volatile Throwable closeCause;
+  // The thread draining the queue is elected by a CAS on this flag
+  private volatile int draining;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
+  private long pingTime;
 
-  ConnectionHolder(ClusteredEventBus eventBus, String remoteNodeId, EventBusOptions options) {
+  ConnectionHolder(ClusteredEventBus eventBus, String remoteNodeId, EventBusOptions options, ConnectionHolder[] group, EventLoop eventLoop) {
     this.eventBus = eventBus;
     this.busOptions = options;
     this.remoteNodeId = remoteNodeId;
+    this.group = group;
+    this.eventLoop = eventLoop;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
     this.clientCloseFuture = new CloseFuture();
+    this.maxQueueSize = options.getClusterWriteQueueMaxSize();
+    this.compressionThreshold = options.getClusterCompressionThreshold();
   }
 
   private NetClientOptions getClientOptions(EventBusOptions options) {
@@ -74,7 +153,14 @@ class ConnectionHolder {
       NetClientOptions clientOptions = getClientOptions(busOptions);
       client = vertx.createNetClient(clientOptions, clientCloseFuture);
     }
-    Promise<NodeInfo> promise = Promise.promise();
+    Promise<NodeInfo> promise;
+    if (eventLoop != null) {
+      // Connect from a context of the event loop so the connection uses this event loop
+      ContextInternal context = vertx.createEventLoopContext(eventLoop, null, Thread.currentThread().getContextClassLoader());
+      promise = context.promise();
+    } else {
+      promise = Promise.promise();
+    }
     eventBus.vertx().getClusterManager().getNodeInfo(remoteNodeId, promise);
     promise.future()
       .flatMap(info -> client.connect(info.port(), info.host()))
@@ -88,23 +174,138 @@ class ConnectionHolder {
       });
   }
 
-  // TODO optimise this (contention on monitor)
-  synchronized void writeMessage(OutboundDeliveryContext<?> ctx) {
-    if (connected) {
-      Buffer data = ((ClusteredMessage) ctx.message).encodeToWire();
+  void writeMessage(OutboundDeliveryContext<?> ctx) {
+    if (queueSize.incrementAndGet() > maxQueueSize) {
+      queueSize.decrementAndGet();
       if (metrics != null) {
-        metrics.messageWritten(ctx.message.address(), data.length());
+        metrics.writeQueueFull(remoteNodeId, ctx.message.address());
       }
-      socket.write(data, ctx);
+      ctx.written(new ReplyException(ReplyFailure.WRITE_QUEUE_FULL, "Write queue of server " + remoteNodeId + " is full"));
+      return;
+    }
+    List<? extends OutboundDeliveryContext<?>> batch = ctx.batch();
+    if (batch == null) {
+      ((ClusteredMessage<?, ?>) ctx.message).encodeContent();
     } else {
-      if (pending == null) {
-        if (log.isDebugEnabled()) {
-          log.debug("Not connected to server " + remoteNodeId + " - starting queuing");
+      for (OutboundDeliveryContext<?> msg : batch) {
+        ((ClusteredMessage<?, ?>) msg.message).encodeContent();
+      }
+    }
+    queue.add(ctx);
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    while (!queue.isEmpty() && DRAINING_UPDATER.compareAndSet(this, 0, 1)) {
+      if (closeCause != null) {
+        drain();
+        return;
+      }
+      NetSocketInternal so = socket;
+      if (so != null) {
+        so.channelHandlerContext().executor().execute(drainTask);
+        return;
+      }
+      draining = 0;
+      // Messages remain queued until the connection is established or closed
+      if (socket == null && closeCause == null) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Drain the queue, only called by the thread that set the {@code draining} flag.
+   */
+  private void drain() {
+    Throwable cause = closeCause;
+    if (cause != null) {
+      OutboundDeliveryContext<?> ctx;
+      while ((ctx = queue.poll()) != null) {
+        queueSize.decrementAndGet();
+        ctx.written(cause);
+      }
+    } else {
+      if (metrics != null) {
+        metrics.writeQueueDepth(remoteNodeId, queueSize.get());
+      }
+      if (writeBatch()) {
+        // Yield to the other tasks of the event loop
+        socket.channelHandlerContext().executor().execute(drainTask);
+        return;
+      }
+    }
+    draining = 0;
+    scheduleDrain();
+  }
+
+  /**
+   * Write a batch of queued messages.
+   *
+   * @return whether the batch is full
+   */
+  private boolean writeBatch() {
+    // The frames are gathered without copying them
+    CompositeByteBuf batch = Unpooled.compositeBuffer(MAX_BATCH_SIZE);
+    List<OutboundDeliveryContext<?>> written = new ArrayList<>();
+    WireCompressor compressor = this.compressor;
+    OutboundDeliveryContext<?> ctx;
+    while (written.size() < MAX_BATCH_SIZE && batch.readableBytes() < MAX_BATCH_BYTES && (ctx = queue.poll()) != null) {
+      queueSize.decrementAndGet();
+      ByteBuf frame = encodeFrame(ctx);
+      if (compressor != null && frame.readableBytes() >= compressionThreshold) {
+        int length = frame.readableBytes() - 4;
+        long start = System.nanoTime();
+        frame = compressor.compress(frame);
+        if (metrics != null) {
+          metrics.messageCompressed(ctx.message.address(), length, frame.readableBytes() - 4, System.nanoTime() - start);
         }
-        pending = new ArrayDeque<>();
       }
-      pending.add(ctx);
+      if (metrics != null) {
+        metrics.messageWritten(ctx.message.address(), frame.readableBytes());
+      }
+      batch.addComponent(true, frame);
+      written.add(ctx);
     }
+    boolean full = written.size() == MAX_BATCH_SIZE || batch.readableBytes() >= MAX_BATCH_BYTES;
+    if (written.size() == 1) {
+      socket.write(Buffer.buffer(batch), written.get(0));
+    } else if (written.size() > 1) {
+      socket.write(Buffer.buffer(batch), ar -> {
+        for (OutboundDeliveryContext<?> msg : written) {
+          msg.handle(ar);
+        }
+      });
+    } else {
+      batch.release();
+    }
+    return full;
+  }
+
+  private ByteBuf encodeFrame(OutboundDeliveryContext<?> ctx) {
+    List<? extends OutboundDeliveryContext<?>> batch = ctx.batch();
+    if (dictionary != null) {
+      if (batch == null) {
+        return ((ClusteredMessage<?, ?>) ctx.message).encodeFrame(dictionary);
+      }
+      return ClusteredMessage.encodeBatchFrame(batch, dictionary);
+    }
+    if (batch == null) {
+      return encodeFrameV2((ClusteredMessage<?, ?>) ctx.message);
+    }
+    // The server does not understand batch frames, the frames of the messages are written one after the other
+    CompositeByteBuf frames = Unpooled.compositeBuffer(batch.size());
+    for (OutboundDeliveryContext<?> msg : batch) {
+      frames.addComponent(true, encodeFrameV2((ClusteredMessage<?, ?>) msg.message));
+    }
+    return frames;
+  }
+
+  private ByteBuf encodeFrameV2(ClusteredMessage<?, ?> msg) {
+    ByteBuf frame = msg.encodeFrame(null);
+    // The server does not grant credits
+    eventBus.unsupportedFlowControl(msg);
+    return frame;
   }
 
   void close() {
@@ -112,27 +313,37 @@ class ConnectionHolder {
   }
 
   private void close(Throwable cause) {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
     if (timeoutID != -1) {
       vertx.cancelTimer(timeoutID);
     }
     if (pingTimeoutID != -1) {
       vertx.cancelTimer(pingTimeoutID);
     }
-    synchronized (this) {
-      OutboundDeliveryContext<?> msg;
-      if (pending != null) {
-        while ((msg = pending.poll()) != null) {
-          msg.written(cause);
-        }
-      }
+    WireCompressor compressor = this.compressor;
+    if (compressor != null) {
+      compressor.close();
     }
+    // Fail the queued messages
+    closeCause = cause;
+    scheduleDrain();
     clientCloseFuture.close(Promise.promise());
     // The holder can be null or different if the target server is restarted with same nodeInfo
     // before the cleanup for the previous one has been processed
-    if (eventBus.connections().remove(remoteNodeId, this)) {
+    if (eventBus.connections().remove(remoteNodeId, group)) {
       if (log.isDebugEnabled()) {
         log.debug("Cluster connection closed for server " + remoteNodeId);
       }
+      for (ConnectionHolder holder : group) {
+        if (holder != this) {
+          holder.close(cause);
+        }
+      }
     }
   }
 
@@ -148,37 +359,53 @@ class ConnectionHolder {
       ClusteredMessage pingMessage =
         new ClusteredMessage<>(remoteNodeId, PING_ADDRESS, null, null, new PingMessageCodec(), true, eventBus);
       Buffer data = pingMessage.encodeToWire();
+      pingTime = System.nanoTime();
       socket.write(data);
     });
   }
 
-  private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
-    connected = true;
+  private void connected(NetSocket socket) {
     socket.exceptionHandler(err -> {
       close(err);
     });
     socket.closeHandler(v -> close());
     socket.handler(data -> {
-      // Got a pong back
-      vertx.cancelTimer(timeoutID);
-      schedulePing();
-    });
-    // Start a pinger
-    schedulePing();
-    if (pending != null) {
-      if (log.isDebugEnabled()) {
-        log.debug("Draining the queue for server " + remoteNodeId);
-      }
-      for (OutboundDeliveryContext<?> ctx : pending) {
-        Buffer data = ((ClusteredMessage<?, ?>)ctx.message).encodeToWire();
-        if (metrics != null) {
-          metrics.messageWritten(ctx.message.address(), data.length());
+      if (this.socket == null) {
+        // Got the reply to the protocol negotiation, a server supporting only the wire protocol version 2
+        // replies with a regular pong
+        vertx.cancelTimer(timeoutID);
+        byte reply = data.getByte(0);
+        if ((reply & ~COMPRESSION_ACCEPTED) == ClusteredMessage.WIRE_PROTOCOL_VERSION_3) {
+          dictionary = new WireDictionary();
+          if ((reply & COMPRESSION_ACCEPTED) != 0) {
+            compressor = new WireCompressor();
+          }
         }
-        socket.write(data, ctx);
+        this.socket = (NetSocketInternal) socket;
+        // Start a pinger
+        schedulePing();
+        if (log.isDebugEnabled()) {
+          log.debug("Draining the queue for server " + remoteNodeId);
+        }
+        scheduleDrain();
+      } else {
+        // Got a pong back
+        vertx.cancelTimer(timeoutID);
+        eventBus.nodeSelector().roundTripTimeMeasured(remoteNodeId, System.nanoTime() - pingTime);
+        schedulePing();
       }
+    });
+    timeoutID = vertx.setTimer(eventBus.options().getClusterPingReplyInterval(), id -> {
+      log.warn("No reply to the protocol negotiation from server " + remoteNodeId + " - will consider it dead");
+      close();
+    });
+    MultiMap headers = null;
+    if (busOptions.isClusterCompression()) {
+      headers = MultiMap.caseInsensitiveMultiMap().add(COMPRESSION_HEADER, WireCompressor.DEFLATE);
     }
-    pending = null;
+    ClusteredMessage negotiationMessage =
+      new ClusteredMessage<>(remoteNodeId, NEGOTIATION_ADDRESS, headers, null, new PingMessageCodec(), true, eventBus);
+    socket.write(negotiationMessage.encodeToWire());
   }
 
 }
@@ -18,12 +18,12 @@ import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.impl.OutboundDeliveryContext;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.ContextLocal;
 
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 
 /**
@@ -31,6 +31,8 @@ import java.util.function.BiConsumer;
  */
 public class Serializer {
 
+  private static final ContextLocal<Serializer> SERIALIZER = ContextLocal.registerLocal(Serializer.class);
+
   private final ContextInternal context;
   private final Map<String, SerializerQueue> queues;
 
@@ -43,18 +45,8 @@ public class Serializer {
   }
 
   public static Serializer get(ContextInternal context) {
-    ConcurrentMap<Object, Object> contextData = context.contextData();
-    Serializer serializer = (Serializer) contextData.get(Serializer.class);
-    if (serializer == null) {
-      Serializer candidate = new Serializer(context);
-      Serializer previous = (Serializer) contextData.putIfAbsent(Serializer.class, candidate);
-      if (previous == null) {
-        serializer = candidate;
-      } else {
-        serializer = previous;
-      }
-    }
-    return serializer;
+    // Shared by the duplicates of the context
+    return context.unwrap().getLocal(SERIALIZER, () -> new Serializer(context));
   }
 
   public <T> void queue(
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The compression of the frames of a cluster connection.
+ * <p>
+ * The frames of a connection are compressed with a single raw deflate stream, each frame is flushed with
+ * {@link Deflater#SYNC_FLUSH} so it can be decompressed as soon as it is received while the following frames still
+ * benefit from the content of the previous frames.
+ * <p>
+ * A compressed frame replaces the protocol version byte of the frame with {@link #DEFLATED_FRAME} followed by the
+ * compressed bytes of the original frame, the frames that are not compressed are left unchanged.
+ * <p>
+ * A compressor is only used by the event loop writing or reading the connection.
+ */
+class WireCompressor {
+
+  /**
+   * The value of the header of the negotiation ping requesting compression.
+   */
+  static final String DEFLATE = "deflate";
+
+  /**
+   * The first byte of a compressed frame.
+   */
+  static final byte DEFLATED_FRAME = 0x40;
+
+  private static final int CHUNK_SIZE = 8 * 1024;
+
+  private final byte[] chunk = new byte[CHUNK_SIZE];
+  private Deflater deflater;
+  private Inflater inflater;
+  private boolean closed;
+
+  /**
+   * Compress a frame, the frame is released.
+   *
+   * @param frame the frame including its length
+   * @return the compressed frame including its length
+   */
+  synchronized ByteBuf compress(ByteBuf frame) {
+    if (closed) {
+      return frame;
+    }
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+    byte[] input = new byte[frame.readableBytes() - 4];
+    frame.getBytes(frame.readerIndex() + 4, input);
+    frame.release();
+    deflater.setInput(input);
+    ByteBuf compressed = Unpooled.buffer(5 + input.length / 2);
+    compressed.writeInt(0);
+    compressed.writeByte(DEFLATED_FRAME);
+    int len;
+    do {
+      len = deflater.deflate(chunk, 0, chunk.length, Deflater.SYNC_FLUSH);
+      compressed.writeBytes(chunk, 0, len);
+    } while (len == chunk.length);
+    compressed.setInt(0, compressed.readableBytes() - 4);
+    return compressed;
+  }
+
+  /**
+   * Decompress a frame.
+   *
+   * @param buffer the compressed frame without its length
+   * @return the original frame without its length
+   */
+  synchronized Buffer decompress(Buffer buffer) throws DataFormatException {
+    if (closed) {
+      throw new IllegalStateException("Closed");
+    }
+    if (inflater == null) {
+      inflater = new Inflater(true);
+    }
+    byte[] input = buffer.getBytes(1, buffer.length());
+    inflater.setInput(input);
+    Buffer frame = Buffer.buffer(input.length * 4);
+    int len;
+    while ((len = inflater.inflate(chunk)) > 0) {
+      frame.appendBytes(chunk, 0, len);
+    }
+    return frame;
+  }
+
+  /**
+   * Release the native resources of the compressor.
+   */
+  synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (deflater != null) {
+      deflater.end();
+    }
+    if (inflater != null) {
+      inflater.end();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.util.CharsetUtil;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The string dictionary of a cluster connection using the wire protocol version 3.
+ * <p>
+ * A string is encoded as a varint tag: {@link #NULL} is a {@code null} string, {@link #LITERAL} and {@link #DEFINE}
+ * are followed by the varint length and the UTF-8 bytes of the string, a defined string is added to the dictionary.
+ * A tag greater or equal to {@link #REFERENCE} refers to the string of id {@code tag - REFERENCE} of the dictionary.
+ * <p>
+ * Both peers add the defined strings in the order of the frames of the connection, so their dictionaries remain
+ * identical. A dictionary holds at most {@link #MAX_SIZE} strings, the other strings are sent as literals.
+ * <p>
+ * A dictionary is only used by the event loop writing or reading the connection.
+ */
+class WireDictionary {
+
+  static final int MAX_SIZE = 4096;
+
+  static final int NULL = 0;
+  static final int LITERAL = 1;
+  static final int DEFINE = 2;
+  static final int REFERENCE = 3;
+
+  // Encoder side
+  private final Map<String, Integer> ids = new HashMap<>();
+  // Decoder side
+  private final List<String> strings = new ArrayList<>();
+  private int consumed;
+
+  /**
+   * Get the tag encoding a string, a string interned for the first time is added to the dictionary.
+   *
+   * @param s the string
+   * @param intern whether to add the string to the dictionary
+   * @return the tag
+   */
+  int tag(String s, boolean intern) {
+    if (s == null) {
+      return NULL;
+    }
+    Integer id = ids.get(s);
+    if (id != null) {
+      return REFERENCE + id;
+    }
+    if (intern && ids.size() < MAX_SIZE) {
+      ids.put(s, ids.size());
+      return DEFINE;
+    }
+    return LITERAL;
+  }
+
+  /**
+   * Read a string at {@code pos}, the number of bytes read is then returned by {@link #consumed()}.
+   *
+   * @throws IllegalStateException when the string refers to an unknown id
+   */
+  String read(Buffer buffer, int pos) {
+    int start = pos;
+    int tag = getVarInt(buffer, pos);
+    pos += varIntSize(tag);
+    String s;
+    if (tag == NULL) {
+      s = null;
+    } else if (tag == LITERAL || tag == DEFINE) {
+      int length = getVarInt(buffer, pos);
+      pos += varIntSize(length);
+      s = new String(buffer.getBytes(pos, pos + length), CharsetUtil.UTF_8);
+      pos += length;
+      if (tag == DEFINE) {
+        strings.add(s);
+      }
+    } else {
+      int id = tag - REFERENCE;
+      if (id >= strings.size()) {
+        throw new IllegalStateException("Unknown dictionary id " + id);
+      }
+      s = strings.get(id);
+    }
+    consumed = pos - start;
+    return s;
+  }
+
+  /**
+   * @return the number of bytes of the last string read
+   */
+  int consumed() {
+    return consumed;
+  }
+
+  static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  static void appendVarInt(Buffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.appendByte((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.appendByte((byte) value);
+  }
+
+  static int getVarInt(Buffer buffer, int pos) {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = buffer.getByte(pos++);
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+}
@@ -18,6 +18,9 @@ import io.vertx.core.impl.future.SucceededFuture;
 import io.vertx.core.impl.launcher.VertxCommandLauncher;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
 
 import static io.vertx.core.impl.VertxThread.DISABLE_TCCL;
 
@@ -29,6 +32,12 @@ import static io.vertx.core.impl.VertxThread.DISABLE_TCCL;
  */
 abstract class AbstractContext implements ContextInternal {
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<AbstractContext, AtomicReferenceArray> LOCALS_UPDATER =
+    AtomicReferenceFieldUpdater.newUpdater(AbstractContext.class, AtomicReferenceArray.class, "locals");
+
+  private volatile AtomicReferenceArray<Object> locals;
+
   @Override
   public abstract boolean isEventLoopContext();
 
@@ -49,6 +58,24 @@ abstract class AbstractContext implements ContextInternal {
     emit(null, task);
   }
 
+  @Override
+  public final <T> void emitAll(Iterable<? extends T> events, Handler<T> task) {
+    emit(events, list -> {
+      for (T event : list) {
+        try {
+          task.handle(event);
+        } catch (Throwable t) {
+          reportException(t);
+        }
+      }
+    });
+  }
+
+  @Override
+  public final <T> Handler<T> emitter(Handler<T> task) {
+    return new ContextEmitter<>(this, task);
+  }
+
   @Override
   public final void execute(Handler<Void> task) {
     execute(null, task);
@@ -61,8 +88,12 @@ abstract class AbstractContext implements ContextInternal {
 
   public final ContextInternal beginDispatch() {
     ContextInternal prev;
-    VertxThread th = (VertxThread) Thread.currentThread();
-    prev = th.beginEmission(this);
+    Thread th = Thread.currentThread();
+    if (th instanceof VertxThread) {
+      prev = ((VertxThread) th).beginEmission(this);
+    } else {
+      prev = trackedWorker().beginEmission(this);
+    }
     if (!DISABLE_TCCL) {
       th.setContextClassLoader(classLoader());
     }
@@ -70,11 +101,23 @@ abstract class AbstractContext implements ContextInternal {
   }
 
   public final void endDispatch(ContextInternal previous) {
-    VertxThread th = (VertxThread) Thread.currentThread();
+    Thread th = Thread.currentThread();
     if (!DISABLE_TCCL) {
       th.setContextClassLoader(previous != null ? previous.classLoader() : null);
     }
-    th.endEmission(previous);
+    if (th instanceof VertxThread) {
+      ((VertxThread) th).endEmission(previous);
+    } else {
+      trackedWorker().endEmission(previous);
+    }
+  }
+
+  private static WorkerThreadTracker.Worker trackedWorker() {
+    WorkerThreadTracker.Worker worker = WorkerThreadTracker.currentWorker();
+    if (worker == null) {
+      throw new IllegalStateException("Not on a Vert.x thread");
+    }
+    return worker;
   }
 
   @Override
@@ -218,6 +261,78 @@ abstract class AbstractContext implements ContextInternal {
     return localContextData().remove(key) != null;
   }
 
+  private AtomicReferenceArray<Object> locals() {
+    AtomicReferenceArray<Object> l = locals;
+    if (l == null) {
+      l = new AtomicReferenceArray<>(ContextLocal.count());
+      if (!LOCALS_UPDATER.compareAndSet(this, null, l)) {
+        l = locals;
+      }
+    }
+    return l;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public final <T> T getLocal(ContextLocal<T> key) {
+    AtomicReferenceArray<Object> l = locals;
+    if (l == null) {
+      return null;
+    }
+    int idx = key.index;
+    if (idx < l.length()) {
+      return (T) l.get(idx);
+    }
+    return (T) localContextData().get(key);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public final <T> T getLocal(ContextLocal<T> key, Supplier<? extends T> initialValueSupplier) {
+    T value = getLocal(key);
+    if (value != null) {
+      return value;
+    }
+    T initial = initialValueSupplier.get();
+    AtomicReferenceArray<Object> l = locals();
+    int idx = key.index;
+    if (idx < l.length()) {
+      if (l.compareAndSet(idx, null, initial)) {
+        return initial;
+      }
+      return (T) l.get(idx);
+    }
+    Object previous = localContextData().putIfAbsent(key, initial);
+    return previous != null ? (T) previous : initial;
+  }
+
+  @Override
+  public final <T> void putLocal(ContextLocal<T> key, T value) {
+    AtomicReferenceArray<Object> l = locals();
+    int idx = key.index;
+    if (idx < l.length()) {
+      l.set(idx, value);
+    } else if (value != null) {
+      localContextData().put(key, value);
+    } else {
+      localContextData().remove(key);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public final <T> T removeLocal(ContextLocal<T> key) {
+    AtomicReferenceArray<Object> l = locals;
+    if (l == null) {
+      return null;
+    }
+    int idx = key.index;
+    if (idx < l.length()) {
+      return (T) l.getAndSet(idx, null);
+    }
+    return (T) localContextData().remove(key);
+  }
+
   public abstract CloseHooks closeHooks();
 
   private static <T> void setResultHandler(ContextInternal ctx, Future<T> fut, Handler<AsyncResult<T>> resultHandler) {
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A worker pool executor sized between a min and a max number of threads.
+ * <p>
+ * The pool keeps {@code minSize} threads and grows by one thread whenever a task waited in the queue longer than
+ * the max queue wait, until it reaches {@code maxSize} threads. The threads above {@code minSize} terminate after
+ * being idle for the idle timeout. Both decisions are reported to the {@link PoolMetrics}.
+ * <p>
+ * The queue wait is checked when a task is submitted, when a task is dequeued and periodically by the
+ * {@link BlockedThreadChecker} timer so the pool also grows when all its threads are blocked, a single timer task
+ * checks all the adaptive pools.
+ * <p>
+ * The queue itself is not inspected: the submitted tasks are chained in submission order and the oldest task not yet
+ * started is tracked in a volatile field, this head is advanced along the chain past the started tasks.
+ */
+public class AdaptiveWorkerExecutor extends ThreadPoolExecutor {
+
+  private final int minSize;
+  private final int maxSize;
+  private final long maxQueueWait;
+  private static final AtomicReferenceFieldUpdater<AdaptiveWorkerExecutor, Task> TAIL_UPDATER =
+    AtomicReferenceFieldUpdater.newUpdater(AdaptiveWorkerExecutor.class, Task.class, "tail");
+  private static final AtomicReferenceFieldUpdater<AdaptiveWorkerExecutor, Task> HEAD_UPDATER =
+    AtomicReferenceFieldUpdater.newUpdater(AdaptiveWorkerExecutor.class, Task.class, "head");
+
+  private final PoolMetrics<?> metrics;
+  private final BlockedThreadChecker checker;
+  private final Runnable checkQueue = this::checkQueue;
+  // The last submitted task
+  private volatile Task tail;
+  // The oldest task not yet started, it can be a started task until it is advanced
+  private volatile Task head;
+
+  AdaptiveWorkerExecutor(int minSize, int maxSize, long maxQueueWait, TimeUnit maxQueueWaitUnit,
+                         long idleTimeout, TimeUnit idleTimeoutUnit, ThreadFactory threadFactory, PoolMetrics<?> metrics,
+                         BlockedThreadChecker checker) {
+    super(minSize, maxSize, idleTimeout, idleTimeoutUnit, new LinkedBlockingQueue<>(), threadFactory);
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.maxQueueWait = maxQueueWaitUnit.toNanos(maxQueueWait);
+    this.metrics = metrics;
+    setThreadFactory(runnable -> threadFactory.newThread(() -> {
+      try {
+        runnable.run();
+      } finally {
+        shrunk();
+      }
+    }));
+    this.checker = checker;
+    if (checker != null) {
+      checker.addQueueCheck(checkQueue, maxQueueWait, maxQueueWaitUnit);
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Task task = new Task(command);
+    Task prev = TAIL_UPDATER.getAndSet(this, task);
+    if (prev != null) {
+      prev.next = task;
+    }
+    if (prev == null || prev.started) {
+      // The head was advanced past the previous task before it was linked to this task
+      HEAD_UPDATER.compareAndSet(this, null, task);
+    }
+    advanceHead();
+    try {
+      super.execute(task);
+    } catch (RuntimeException e) {
+      // Rejected
+      task.started = true;
+      advanceHead();
+      throw e;
+    }
+    checkQueue();
+  }
+
+  /**
+   * Advance the head past the started tasks, a task is marked as started before advancing the head so a task that
+   * starts concurrently is skipped by its own advance.
+   */
+  private void advanceHead() {
+    Task h;
+    while ((h = head) != null && h.started) {
+      HEAD_UPDATER.compareAndSet(this, h, h.next);
+    }
+  }
+
+  /**
+   * @return the time the oldest task not yet started has been waiting in nanoseconds, {@code 0} when there is none
+   */
+  long queueWait() {
+    advanceHead();
+    Task h = head;
+    return h != null ? Math.max(0L, System.nanoTime() - h.submitTime) : 0L;
+  }
+
+  private void checkQueue() {
+    long queueWait = queueWait();
+    if (queueWait > 0L) {
+      checkQueueWait(queueWait);
+    }
+  }
+
+  @Override
+  protected void beforeExecute(Thread t, Runnable r) {
+    if (r instanceof Task) {
+      Task task = (Task) r;
+      task.started = true;
+      advanceHead();
+      checkQueueWait(System.nanoTime() - task.submitTime);
+    }
+  }
+
+  private void checkQueueWait(long queueWait) {
+    if (queueWait > maxQueueWait && !getQueue().isEmpty()) {
+      grow(queueWait);
+    }
+  }
+
+  private synchronized void grow(long queueWait) {
+    int size = getPoolSize();
+    if (size < maxSize && !isShutdown()) {
+      // Raising the core size starts a thread for the queued tasks, the new thread is
+      // above the min size once the core size is restored and times out when idle
+      setCorePoolSize(size + 1);
+      setCorePoolSize(minSize);
+      if (metrics != null) {
+        metrics.grown(getPoolSize(), queueWait);
+      }
+    }
+  }
+
+  @Override
+  protected void terminated() {
+    if (checker != null) {
+      checker.removeQueueCheck(checkQueue);
+    }
+  }
+
+  private void shrunk() {
+    if (metrics != null && !isShutdown()) {
+      metrics.shrunk(getPoolSize());
+    }
+  }
+
+  private static final class Task implements Runnable {
+
+    private final Runnable command;
+    private final long submitTime = System.nanoTime();
+    private volatile Task next;
+    private volatile boolean started;
+
+    private Task(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      command.run();
+    }
+  }
+}
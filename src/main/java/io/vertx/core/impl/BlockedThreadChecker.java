@@ -16,9 +16,11 @@ import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -38,41 +40,122 @@ public class BlockedThreadChecker {
   private static final Logger log = LoggerFactory.getLogger(BlockedThreadChecker.class);
 
   private final Map<Thread, Task> threads = new WeakHashMap<>();
+  // Short-lived threads (e.g virtual threads) running a single task, they are removed when the task ends
+  private final Map<Thread, Task> taskThreads = new ConcurrentHashMap<>();
   private final Timer timer; // Need to use our own timer - can't use event loop for this
+  // The queue checks of the worker pools, they are run by a single timer task
+  private final Set<Runnable> queueChecks = ConcurrentHashMap.newKeySet();
+  private TimerTask queueCheckTask; // Guarded by queueChecks
+  private long queueCheckPeriod;
 
   BlockedThreadChecker(long interval, TimeUnit intervalUnit, long warningExceptionTime, TimeUnit warningExceptionTimeUnit) {
     timer = new Timer("vertx-blocked-thread-checker", true);
     timer.schedule(new TimerTask() {
       @Override
       public void run() {
+        long now = System.nanoTime();
         synchronized (BlockedThreadChecker.this) {
-          long now = System.nanoTime();
           for (Map.Entry<Thread, Task> entry : threads.entrySet()) {
-            long execStart = entry.getValue().startTime();
-            long dur = now - execStart;
-            final long timeLimit = entry.getValue().maxExecTime();
-            TimeUnit maxExecTimeUnit = entry.getValue().maxExecTimeUnit();
-            long val = maxExecTimeUnit.convert(dur, TimeUnit.NANOSECONDS);
-            if (execStart != 0 && val >= timeLimit) {
-              final String message = "Thread " + entry.getKey() + " has been blocked for " + (dur / 1_000_000) + " ms, time limit is " + TimeUnit.MILLISECONDS.convert(timeLimit, maxExecTimeUnit) + " ms";
-              if (warningExceptionTimeUnit.convert(dur, TimeUnit.NANOSECONDS) <= warningExceptionTime) {
-                log.warn(message);
-              } else {
-                VertxException stackTrace = new VertxException("Thread blocked");
-                stackTrace.setStackTrace(entry.getKey().getStackTrace());
-                log.warn(message, stackTrace);
-              }
-            }
+            check(now, entry.getKey(), entry.getValue());
+          }
+        }
+        for (Map.Entry<Thread, Task> entry : taskThreads.entrySet()) {
+          check(now, entry.getKey(), entry.getValue());
+        }
+      }
+      private void check(long now, Thread thread, Task task) {
+        long execStart = task.startTime();
+        long dur = now - execStart;
+        final long timeLimit = task.maxExecTime();
+        TimeUnit maxExecTimeUnit = task.maxExecTimeUnit();
+        long val = maxExecTimeUnit.convert(dur, TimeUnit.NANOSECONDS);
+        if (execStart != 0 && val >= timeLimit) {
+          final String message = "Thread " + thread + " has been blocked for " + (dur / 1_000_000) + " ms, time limit is " + TimeUnit.MILLISECONDS.convert(timeLimit, maxExecTimeUnit) + " ms";
+          if (warningExceptionTimeUnit.convert(dur, TimeUnit.NANOSECONDS) <= warningExceptionTime) {
+            log.warn(message);
+          } else {
+            VertxException stackTrace = new VertxException("Thread blocked");
+            stackTrace.setStackTrace(thread.getStackTrace());
+            log.warn(message, stackTrace);
           }
         }
       }
     }, intervalUnit.toMillis(interval), intervalUnit.toMillis(interval));
   }
 
+  /**
+   * Periodically run a {@code task} on the checker timer.
+   *
+   * @return the timer task, cancelling it stops running the {@code task}
+   */
+  TimerTask schedule(Runnable task, long period, TimeUnit periodUnit) {
+    long millis = Math.max(1, periodUnit.toMillis(period));
+    TimerTask timerTask = new TimerTask() {
+      @Override
+      public void run() {
+        try {
+          task.run();
+        } catch (Throwable t) {
+          // An exception would cancel the timer
+          log.error("Caught unexpected Throwable", t);
+        }
+      }
+    };
+    timer.schedule(timerTask, millis, millis);
+    return timerTask;
+  }
+
+  /**
+   * Add a worker pool queue check, all the queue checks are run by a single timer task with the smallest period
+   * of the checks.
+   *
+   * @param check the check, {@link #removeQueueCheck(Runnable)} must be called with the same instance
+   */
+  void addQueueCheck(Runnable check, long period, TimeUnit periodUnit) {
+    long millis = Math.max(1, periodUnit.toMillis(period));
+    synchronized (queueChecks) {
+      queueChecks.add(check);
+      if (queueCheckTask == null || millis < queueCheckPeriod) {
+        if (queueCheckTask != null) {
+          queueCheckTask.cancel();
+        }
+        queueCheckPeriod = millis;
+        queueCheckTask = schedule(() -> queueChecks.forEach(Runnable::run), millis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Remove a queue check added with {@link #addQueueCheck}.
+   */
+  void removeQueueCheck(Runnable check) {
+    synchronized (queueChecks) {
+      if (queueChecks.remove(check) && queueChecks.isEmpty() && queueCheckTask != null) {
+        queueCheckTask.cancel();
+        queueCheckTask = null;
+      }
+    }
+  }
+
   synchronized void registerThread(Thread thread, Task checked) {
     threads.put(thread, checked);
   }
 
+  /**
+   * Register the current thread for the duration of a single task, unlike {@link #registerThread} this does not
+   * contend with the checker timer, the thread must be unregistered with {@link #unregisterTask()} when the task ends.
+   */
+  void registerTask(Task checked) {
+    taskThreads.put(Thread.currentThread(), checked);
+  }
+
+  /**
+   * Unregister the current thread registered with {@link #registerTask}.
+   */
+  void unregisterTask() {
+    taskThreads.remove(Thread.currentThread());
+  }
+
   public void close() {
     timer.cancel();
   }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * A quota on the blocking tasks of a deployment or a worker executor in a shared {@link WorkerPool}.
+ * <p>
+ * At most {@code maxConcurrency} tasks run concurrently in the pool, the other tasks wait in the bulkhead queue which
+ * holds at most {@code maxQueueSize} blocking tasks, blocking tasks submitted beyond are rejected: they are
+ * {@link #tryAcquire admitted} before they are queued. The worker context events are never rejected, they only wait
+ * for a concurrency slot. The tasks are submitted to the pool with the
+ * bulkhead {@code priority}.
+ * <p>
+ * A negative {@code maxConcurrency} or {@code maxQueueSize} means unbounded.
+ */
+public class Bulkhead {
+
+  private final int maxConcurrency;
+  private final int maxQueueSize;
+  private final int priority;
+  private final ConcurrentMap<WorkerPool, Executor> executors = new ConcurrentHashMap<>();
+  private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+  private int pending;
+  private int running;
+
+  public Bulkhead(int maxConcurrency, int maxQueueSize, int priority) {
+    this.maxConcurrency = maxConcurrency;
+    this.maxQueueSize = maxQueueSize;
+    this.priority = priority;
+  }
+
+  /**
+   * Admit a task, the task must {@link #release() release} its admission once it is completed.
+   *
+   * @return {@code false} when the task shall be rejected
+   */
+  synchronized boolean tryAcquire() {
+    if (maxConcurrency >= 0 && maxQueueSize >= 0 && pending >= maxConcurrency + maxQueueSize) {
+      return false;
+    }
+    pending++;
+    return true;
+  }
+
+  /**
+   * Release the admission of a completed task.
+   */
+  synchronized void release() {
+    pending--;
+  }
+
+  /**
+   * @return the executor running the tasks of this bulkhead on the {@code pool}
+   */
+  Executor executor(WorkerPool pool) {
+    // The executor must be stable for the TaskQueue
+    return executors.computeIfAbsent(pool, p -> {
+      Executor exec = p.executor(priority);
+      if (maxConcurrency < 0) {
+        return exec;
+      }
+      return task -> execute(task, exec);
+    });
+  }
+
+  private void execute(Runnable task, Executor exec) {
+    synchronized (this) {
+      if (running >= maxConcurrency) {
+        waiting.add(() -> execute(task, exec));
+        return;
+      }
+      running++;
+    }
+    try {
+      exec.execute(() -> {
+        try {
+          task.run();
+        } finally {
+          next();
+        }
+      });
+    } catch (RuntimeException e) {
+      next();
+      throw e;
+    }
+  }
+
+  private void next() {
+    Runnable task;
+    synchronized (this) {
+      running--;
+      task = waiting.poll();
+    }
+    if (task != null) {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.Handler;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A handler emitting the events handed off by any thread to a task on a context.
+ * <p>
+ * The events are queued in a multi producer / single consumer queue and a single drain task is scheduled on the
+ * context when the queue becomes non empty: a burst of events costs a single hand-off to the context instead of one
+ * per event. The drain task emits at most {@link #MAX_BATCH_SIZE} events and then yields the context thread to the
+ * other tasks. Events are emitted in the order they are handed off, any exception thrown by the task is reported
+ * on the context.
+ */
+final class ContextEmitter<T> implements Handler<T> {
+
+  /**
+   * The max number of events emitted per execution of the drain task.
+   */
+  static final int MAX_BATCH_SIZE = 1024;
+
+  private static final Object NULL = new Object();
+  private static final AtomicIntegerFieldUpdater<ContextEmitter> SCHEDULED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ContextEmitter.class, "scheduled");
+
+  private final ContextInternal context;
+  private final Handler<T> task;
+  private final Queue<Object> queue = PlatformDependent.newMpscQueue();
+  private final Handler<Void> drainTask = v -> drain();
+  private volatile int scheduled;
+
+  ContextEmitter(ContextInternal context, Handler<T> task) {
+    this.context = context;
+    this.task = task;
+  }
+
+  @Override
+  public void handle(T event) {
+    queue.offer(event != null ? event : NULL);
+    if (scheduled == 0 && SCHEDULED_UPDATER.compareAndSet(this, 0, 1)) {
+      context.runOnContext(drainTask);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void drain() {
+    for (int i = 0;i < MAX_BATCH_SIZE;i++) {
+      Object event = queue.poll();
+      if (event == null) {
+        scheduled = 0;
+        // An event might have been queued after the poll and before the flag was cleared
+        if (!queue.isEmpty() && SCHEDULED_UPDATER.compareAndSet(this, 0, 1)) {
+          context.runOnContext(drainTask);
+        }
+        return;
+      }
+      try {
+        task.handle(event != NULL ? (T) event : null);
+      } catch (Throwable t) {
+        context.reportException(t);
+      }
+    }
+    // Yield to the other tasks of the context
+    context.runOnContext(drainTask);
+  }
+}
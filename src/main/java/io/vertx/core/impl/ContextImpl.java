@@ -46,7 +46,17 @@ abstract class ContextImpl extends AbstractContext {
         vertxThread.endEmission(prev);
       }
     } else {
-      task.handle(null);
+      WorkerThreadTracker.Worker worker = WorkerThreadTracker.currentWorker();
+      if (worker != null) {
+        ContextInternal prev = worker.beginEmission(null);
+        try {
+          task.handle(null);
+        } finally {
+          worker.endEmission(prev);
+        }
+      } else {
+        task.handle(null);
+      }
     }
   }
 
@@ -68,6 +78,8 @@ abstract class ContextImpl extends AbstractContext {
   final TaskQueue internalOrderedTasks;
   final WorkerPool internalBlockingPool;
   final WorkerPool workerPool;
+  final Bulkhead bulkhead;
+  final Executor workerExec;
   final TaskQueue orderedTasks;
 
   ContextImpl(VertxInternal vertx,
@@ -88,6 +100,8 @@ abstract class ContextImpl extends AbstractContext {
     this.tccl = tccl;
     this.owner = vertx;
     this.workerPool = workerPool;
+    this.bulkhead = deployment != null ? deployment.bulkhead() : null;
+    this.workerExec = executor(workerPool, bulkhead);
     this.closeHooks = closeHooks;
     this.internalBlockingPool = internalBlockingPool;
     this.orderedTasks = new TaskQueue();
@@ -154,18 +168,37 @@ abstract class ContextImpl extends AbstractContext {
 
   @Override
   public <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered) {
-    return executeBlocking(this, blockingCodeHandler, workerPool, ordered ? orderedTasks : null);
+    return executeBlocking(this, blockingCodeHandler, workerPool, bulkhead, ordered ? orderedTasks : null);
   }
 
   @Override
   public <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, TaskQueue queue) {
-    return executeBlocking(this, blockingCodeHandler, workerPool, queue);
+    return executeBlocking(this, blockingCodeHandler, workerPool, bulkhead, queue);
+  }
+
+  /**
+   * @return the executor running tasks on the {@code workerPool} under the {@code bulkhead} quota and priority
+   */
+  static Executor executor(WorkerPool workerPool, Bulkhead bulkhead) {
+    return bulkhead != null ? bulkhead.executor(workerPool) : workerPool.executor(0);
   }
 
   static <T> Future<T> executeBlocking(ContextInternal context, Handler<Promise<T>> blockingCodeHandler,
       WorkerPool workerPool, TaskQueue queue) {
+    return executeBlocking(context, blockingCodeHandler, workerPool, null, queue);
+  }
+
+  static <T> Future<T> executeBlocking(ContextInternal context, Handler<Promise<T>> blockingCodeHandler,
+      WorkerPool workerPool, Bulkhead bulkhead, TaskQueue queue) {
     PoolMetrics metrics = workerPool.metrics();
     Object queueMetric = metrics != null ? metrics.submitted() : null;
+    if (bulkhead != null && !bulkhead.tryAcquire()) {
+      // The bulkhead queue is full
+      if (metrics != null) {
+        metrics.rejected(queueMetric);
+      }
+      return context.failedFuture(new RejectedExecutionException("Too many pending blocking tasks"));
+    }
     Promise<T> promise = context.promise();
     Future<T> fut = promise.future();
     try {
@@ -174,18 +207,24 @@ abstract class ContextImpl extends AbstractContext {
         if (metrics != null) {
           execMetric = metrics.begin(queueMetric);
         }
-        context.dispatch(promise, f -> {
-          try {
-            blockingCodeHandler.handle(promise);
-          } catch (Throwable e) {
-            promise.tryFail(e);
+        try {
+          context.dispatch(promise, f -> {
+            try {
+              blockingCodeHandler.handle(promise);
+            } catch (Throwable e) {
+              promise.tryFail(e);
+            }
+          });
+        } finally {
+          if (bulkhead != null) {
+            bulkhead.release();
           }
-        });
+        }
         if (metrics != null) {
           metrics.end(execMetric, fut.succeeded());
         }
       };
-      Executor exec = workerPool.executor();
+      Executor exec = executor(workerPool, bulkhead);
       if (queue != null) {
         queue.execute(command, exec);
       } else {
@@ -193,6 +232,9 @@ abstract class ContextImpl extends AbstractContext {
       }
     } catch (RejectedExecutionException e) {
       // Pool is already shut down
+      if (bulkhead != null) {
+        bulkhead.release();
+      }
       if (metrics != null) {
         metrics.rejected(queueMetric);
       }
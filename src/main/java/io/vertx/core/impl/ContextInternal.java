@@ -18,6 +18,7 @@ import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 /**
  * This interface provides an api for vert.x core internal use only
@@ -36,7 +37,8 @@ public interface ContextInternal extends Context {
     if (current instanceof VertxThread) {
       return ((VertxThread) current).context();
     }
-    return null;
+    WorkerThreadTracker.Worker worker = WorkerThreadTracker.currentWorker();
+    return worker != null ? worker.context() : null;
   }
 
   /**
@@ -133,6 +135,31 @@ public interface ContextInternal extends Context {
    */
   void emit(Handler<Void> task);
 
+  /**
+   * Emit each of the given {@code events} to the {@code task} with a single switch on this context, this is cheaper
+   * than emitting the events one by one from a thread that is not the thread of this context.
+   * <br/>
+   * Any exception thrown from the {@literal task} will be reported on this context and the remaining events will
+   * still be emitted.
+   *
+   * @param events the events
+   * @param task the handler to execute with each event
+   */
+  <T> void emitAll(Iterable<? extends T> events, Handler<T> task);
+
+  /**
+   * Create a handler that any thread can call to emit an event to the {@code task} on this context.
+   * <br/>
+   * The events are queued and emitted in batches, in order, so a producer emitting many events from another thread
+   * switches on this context once per batch instead of once per event.
+   * <br/>
+   * Any exception thrown from the {@literal task} will be reported on this context.
+   *
+   * @param task the handler to execute with each event
+   * @return the handler to emit events
+   */
+  <T> Handler<T> emitter(Handler<T> task);
+
   /**
    * @see #execute(Object, Handler)
    */
@@ -229,6 +256,40 @@ public interface ContextInternal extends Context {
    */
   ConcurrentMap<Object, Object> localContextData();
 
+  /**
+   * Get the value of a context local, this is faster than a lookup in the {@link #localContextData()}.
+   *
+   * @param key the registered key
+   * @return the value or {@code null}
+   */
+  <T> T getLocal(ContextLocal<T> key);
+
+  /**
+   * Get the value of a context local, when the value is absent the {@code initialValueSupplier} value is atomically
+   * associated with the key unless another thread associated a value concurrently.
+   *
+   * @param key the registered key
+   * @param initialValueSupplier the supplier of the value to associate when the value is absent
+   * @return the current value
+   */
+  <T> T getLocal(ContextLocal<T> key, Supplier<? extends T> initialValueSupplier);
+
+  /**
+   * Set the value of a context local, a {@code null} value removes the value.
+   *
+   * @param key the registered key
+   * @param value the value
+   */
+  <T> void putLocal(ContextLocal<T> key, T value);
+
+  /**
+   * Remove the value of a context local.
+   *
+   * @param key the registered key
+   * @return the removed value or {@code null}
+   */
+  <T> T removeLocal(ContextLocal<T> key);
+
   /**
    * @return the classloader associated with this context
    */
@@ -260,6 +321,13 @@ public interface ContextInternal extends Context {
    */
   ContextInternal duplicate();
 
+  /**
+   * @return the context this context was duplicated from or this context when it is not a duplicate
+   */
+  default ContextInternal unwrap() {
+    return this;
+  }
+
   /**
    * Like {@link Vertx#setPeriodic(long, Handler)} except the periodic timer will fire on this context.
    */
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import java.util.Objects;
+
+/**
+ * A key of the context local storage.
+ * <p>
+ * Each registered key owns a slot index in the local storage of the contexts, accessing a value is a plain array
+ * access instead of a {@link java.util.concurrent.ConcurrentMap} lookup. Keys shall be registered once, typically
+ * in a static field, before contexts are created: the local storage of a context is sized when it is first used and
+ * the keys registered afterwards fall back to the {@link ContextInternal#localContextData() local context data} of
+ * this context.
+ *
+ * @param <T> the type of the value
+ */
+public final class ContextLocal<T> {
+
+  private static volatile int count;
+
+  /**
+   * Register a context local key.
+   *
+   * @param type the type of the value
+   * @return the key
+   */
+  public static synchronized <T> ContextLocal<T> registerLocal(Class<T> type) {
+    Objects.requireNonNull(type, "No null type accepted");
+    return new ContextLocal<>(count++, type);
+  }
+
+  /**
+   * @return the number of registered keys
+   */
+  static int count() {
+    return count;
+  }
+
+  final int index;
+  final Class<T> type;
+
+  private ContextLocal(int index, Class<T> type) {
+    this.index = index;
+    this.type = type;
+  }
+
+  @Override
+  public String toString() {
+    return "ContextLocal[index=" + index + ",type=" + type.getName() + "]";
+  }
+}
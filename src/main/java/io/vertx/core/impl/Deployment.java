@@ -50,6 +50,13 @@ public interface Deployment {
 
   DeploymentOptions deploymentOptions();
 
+  /**
+   * @return the bulkhead of the deployment blocking tasks or {@code null} when the deployment has no quota nor priority
+   */
+  default Bulkhead bulkhead() {
+    return null;
+  }
+
   Set<Context> getContexts();
 
   Set<Verticle> getVerticles();
@@ -185,9 +185,10 @@ public class DeploymentManager {
     AtomicBoolean failureReported = new AtomicBoolean();
     for (Verticle verticle: verticles) {
       CloseHooks closeHooks = new CloseHooks(log);
-      WorkerPool workerPool = poolName != null ? vertx.createSharedWorkerPool(poolName, options.getWorkerPoolSize(), options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()) : null;
-      ContextImpl context = (ContextImpl) (options.isWorker() ? vertx.createWorkerContext(deployment, closeHooks, workerPool, tccl) :
-        vertx.createEventLoopContext(deployment, closeHooks, workerPool, tccl));
+      WorkerPool workerPool = poolName != null ? vertx.createSharedWorkerPool(poolName, options.getWorkerPoolSize(), options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit(), options.getUseVirtualThreads()) : null;
+      WorkerPool contextPool = workerPool == null && options.getUseVirtualThreads() ? vertx.virtualThreadWorkerPool() : workerPool;
+      ContextImpl context = (ContextImpl) (options.isWorker() ? vertx.createWorkerContext(deployment, closeHooks, contextPool, tccl) :
+        vertx.createEventLoopContext(deployment, closeHooks, contextPool, tccl));
       VerticleHolder holder = new VerticleHolder(verticle, context, workerPool, closeHooks);
       deployment.addVerticle(holder);
       context.runOnContext(v -> {
@@ -260,6 +261,7 @@ public class DeploymentManager {
     private final List<VerticleHolder> verticles = new CopyOnWriteArrayList<>();
     private final Set<Deployment> children = new ConcurrentHashSet<>();
     private final DeploymentOptions options;
+    private final Bulkhead bulkhead;
     private Handler<Void> undeployHandler;
     private int status = ST_DEPLOYED;
     private volatile boolean child;
@@ -270,6 +272,16 @@ public class DeploymentManager {
       this.conf = options.getConfig() != null ? options.getConfig().copy() : new JsonObject();
       this.verticleIdentifier = verticleIdentifier;
       this.options = options;
+      if (options.getMaxWorkerConcurrency() > 0 || options.getWorkerPriority() != 0) {
+        this.bulkhead = new Bulkhead(options.getMaxWorkerConcurrency(), options.getMaxWorkerQueueSize(), options.getWorkerPriority());
+      } else {
+        this.bulkhead = null;
+      }
+    }
+
+    @Override
+    public Bulkhead bulkhead() {
+      return bulkhead;
     }
 
     public void addVerticle(VerticleHolder holder) {
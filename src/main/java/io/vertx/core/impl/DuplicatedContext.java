@@ -21,6 +21,7 @@ import io.vertx.core.spi.tracing.VertxTracer;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A context that forwards most operations to a delegate. This context
@@ -31,25 +32,37 @@ import java.util.concurrent.ConcurrentMap;
  *  <li>maintains its own local data instead of the delegate.</li>
  * </ul>
  *
+ * A duplicated context is created for each request or message, its task queue and its local data are allocated
+ * lazily without locking when they are first used, so a duplicated context that does not use them is a single small
+ * object.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 class DuplicatedContext extends AbstractContext {
 
+  private static final AtomicReferenceFieldUpdater<DuplicatedContext, TaskQueue> ORDERED_TASKS_UPDATER =
+    AtomicReferenceFieldUpdater.newUpdater(DuplicatedContext.class, TaskQueue.class, "orderedTasks");
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<DuplicatedContext, ConcurrentMap> LOCAL_DATA_UPDATER =
+    AtomicReferenceFieldUpdater.newUpdater(DuplicatedContext.class, ConcurrentMap.class, "localData");
+
   protected final ContextImpl delegate;
-  private TaskQueue orderedTasks;
-  private ConcurrentMap<Object, Object> localData;
+  private volatile TaskQueue orderedTasks;
+  private volatile ConcurrentMap<Object, Object> localData;
 
   DuplicatedContext(ContextImpl delegate) {
     this.delegate = delegate;
   }
 
   final TaskQueue orderedTasks() {
-    synchronized (this) {
-      if (orderedTasks == null) {
-        orderedTasks = new TaskQueue();
+    TaskQueue queue = orderedTasks;
+    if (queue == null) {
+      queue = new TaskQueue();
+      if (!ORDERED_TASKS_UPDATER.compareAndSet(this, null, queue)) {
+        queue = orderedTasks;
       }
-      return orderedTasks;
     }
+    return queue;
   }
 
   @Override
@@ -140,12 +153,14 @@ class DuplicatedContext extends AbstractContext {
 
   @Override
   public final ConcurrentMap<Object, Object> localContextData() {
-    synchronized (this) {
-      if (localData == null) {
-        localData = new ConcurrentHashMap<>();
+    ConcurrentMap<Object, Object> data = localData;
+    if (data == null) {
+      data = new ConcurrentHashMap<>();
+      if (!LOCAL_DATA_UPDATER.compareAndSet(this, null, data)) {
+        data = localData;
       }
-      return localData;
     }
+    return data;
   }
 
   @Override
@@ -166,12 +181,12 @@ class DuplicatedContext extends AbstractContext {
     } else {
       queue = null;
     }
-    return ContextImpl.executeBlocking(this, action, delegate.workerPool, queue);
+    return ContextImpl.executeBlocking(this, action, delegate.workerPool, delegate.bulkhead, queue);
   }
 
   @Override
   public final <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, TaskQueue queue) {
-    return ContextImpl.executeBlocking(this, blockingCodeHandler, delegate.workerPool, queue);
+    return ContextImpl.executeBlocking(this, blockingCodeHandler, delegate.workerPool, delegate.bulkhead, queue);
   }
 
   @Override
@@ -204,4 +219,9 @@ class DuplicatedContext extends AbstractContext {
     return new DuplicatedContext(delegate);
   }
 
+  @Override
+  public ContextInternal unwrap() {
+    return delegate;
+  }
+
 }
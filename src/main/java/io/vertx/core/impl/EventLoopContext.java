@@ -23,6 +23,8 @@ import java.util.concurrent.RejectedExecutionException;
  */
 public class EventLoopContext extends ContextImpl {
 
+  private final boolean profiling;
+
   EventLoopContext(VertxInternal vertx,
                    VertxTracer<?, ?> tracer,
                    EventLoop eventLoop,
@@ -32,12 +34,27 @@ public class EventLoopContext extends ContextImpl {
                    CloseHooks closeHooks,
                    ClassLoader tccl) {
     super(vertx, tracer, eventLoop, internalBlockingPool, workerPool, deployment, closeHooks, tccl);
+    this.profiling = vertx.eventLoopProfiler() != null;
+  }
+
+  /**
+   * Record the time {@code task} spends in the event loop queue when event loop profiling is enabled.
+   */
+  private Runnable profiled(Runnable task) {
+    if (!profiling) {
+      return task;
+    }
+    long submitTime = System.nanoTime();
+    return () -> {
+      EventLoopProfiler.taskDequeued(submitTime);
+      task.run();
+    };
   }
 
   @Override
   void runOnContext(AbstractContext ctx, Handler<Void> action) {
     try {
-      nettyEventLoop().execute(() -> ctx.dispatch(action));
+      nettyEventLoop().execute(profiled(() -> ctx.dispatch(action)));
     } catch (RejectedExecutionException ignore) {
       // Pool is already shut down
     }
@@ -56,7 +73,7 @@ public class EventLoopContext extends ContextImpl {
         ctx.endDispatch(prev);
       }
     } else {
-      eventLoop.execute(() -> emit(ctx, argument, task));
+      eventLoop.execute(profiled(() -> emit(ctx, argument, task)));
     }
   }
 
@@ -72,7 +89,7 @@ public class EventLoopContext extends ContextImpl {
     if (eventLoop.inEventLoop()) {
       task.handle(argument);
     } else {
-      eventLoop.execute(() -> task.handle(argument));
+      eventLoop.execute(profiled(() -> task.handle(argument)));
     }
   }
 
@@ -82,7 +99,7 @@ public class EventLoopContext extends ContextImpl {
     if (eventLoop.inEventLoop()) {
       task.run();
     } else {
-      eventLoop.execute(task);
+      eventLoop.execute(profiled(task));
     }
   }
 
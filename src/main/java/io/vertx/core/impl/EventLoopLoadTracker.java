@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.spi.EventLoopSelector;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the load of the event loops for the {@link EventLoopSelector}: the number of deployment contexts and server
+ * channels assigned to each event loop and, when event loop profiling is enabled, their measured busy ratio.
+ */
+public class EventLoopLoadTracker implements EventLoopSelector.Load {
+
+  private final ConcurrentMap<EventLoop, AtomicInteger> registrations = new ConcurrentHashMap<>();
+  private final EventLoopProfiler profiler;
+
+  EventLoopLoadTracker(EventLoopProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  /**
+   * Signal a context or a channel is assigned to the {@code eventLoop}.
+   */
+  public void register(EventLoop eventLoop) {
+    registrations.computeIfAbsent(eventLoop, el -> new AtomicInteger()).incrementAndGet();
+  }
+
+  /**
+   * Signal a context or a channel assigned to the {@code eventLoop} is closed.
+   */
+  public void unregister(EventLoop eventLoop) {
+    AtomicInteger count = registrations.get(eventLoop);
+    if (count != null) {
+      count.decrementAndGet();
+    }
+  }
+
+  @Override
+  public int registrations(EventLoop eventLoop) {
+    AtomicInteger count = registrations.get(eventLoop);
+    return count != null ? count.get() : 0;
+  }
+
+  @Override
+  public double busyRatio(EventLoop eventLoop) {
+    return profiler != null ? profiler.busyRatio(eventLoop) : -1D;
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.metrics.EventLoopMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects the latency profile of the event loop threads: the execution time and the queue delay of the tasks and
+ * the time the event loop spends running tasks.
+ * <p>
+ * Each event loop thread records its own {@link Profile} without synchronization, snapshots are taken concurrently
+ * and are therefore approximate. The {@link BlockedThreadChecker} timer periodically looks for tasks running past
+ * the slow task threshold and samples the stack of their thread once per task.
+ */
+public class EventLoopProfiler {
+
+  /**
+   * The max number of slow task samples retained per event loop.
+   */
+  static final int MAX_SLOW_TASKS = 16;
+
+  private final VertxMetrics metrics;
+  private final long slowTaskThreshold;
+  private final List<Profile> profiles = new CopyOnWriteArrayList<>();
+
+  EventLoopProfiler(VertxMetrics metrics, long slowTaskThreshold, TimeUnit slowTaskThresholdUnit) {
+    this.metrics = metrics;
+    this.slowTaskThreshold = slowTaskThresholdUnit.toNanos(slowTaskThreshold);
+  }
+
+  /**
+   * @return the interval at which running tasks shall be checked against the slow task threshold, in nanoseconds
+   */
+  long samplingInterval() {
+    return Math.max(TimeUnit.MILLISECONDS.toNanos(10), slowTaskThreshold / 2);
+  }
+
+  /**
+   * Create the profile of an event loop thread.
+   */
+  Profile createProfile(VertxThread thread) {
+    EventLoopMetrics threadMetrics = metrics != null ? metrics.createEventLoopMetrics(thread.getName()) : null;
+    Profile profile = new Profile(thread, threadMetrics);
+    profiles.add(profile);
+    return profile;
+  }
+
+  /**
+   * Record the queue delay of a task submitted at {@code submitTime} to the profile of the current thread.
+   */
+  static void taskDequeued(long submitTime) {
+    Thread thread = Thread.currentThread();
+    if (thread instanceof VertxThread) {
+      Profile profile = ((VertxThread) thread).profile();
+      if (profile != null) {
+        profile.taskDequeued(System.nanoTime() - submitTime);
+      }
+    }
+  }
+
+  /**
+   * @return the recent busy ratio of the {@code eventLoop} or {@code -1} when its thread is not yet started
+   */
+  double busyRatio(EventLoop eventLoop) {
+    for (Profile profile : profiles) {
+      if (eventLoop.inEventLoop(profile.thread)) {
+        return profile.recentBusyRatio;
+      }
+    }
+    return -1D;
+  }
+
+  /**
+   * Update the recent busy ratio of the event loop threads and sample the stack of the threads running a task past
+   * the slow task threshold.
+   */
+  void sample() {
+    long now = System.nanoTime();
+    for (Profile profile : profiles) {
+      profile.sample(now, slowTaskThreshold);
+    }
+  }
+
+  /**
+   * @return a JSON snapshot of the profile of each event loop thread
+   */
+  public JsonObject snapshot() {
+    JsonArray eventLoops = new JsonArray();
+    for (Profile profile : profiles) {
+      eventLoops.add(profile.snapshot());
+    }
+    return new JsonObject()
+      .put("slowTaskThreshold", slowTaskThreshold)
+      .put("eventLoops", eventLoops);
+  }
+
+  /**
+   * The profile of an event loop thread.
+   */
+  static final class Profile {
+
+    private final VertxThread thread;
+    private final EventLoopMetrics metrics;
+    private final long startTime = System.nanoTime();
+    private final Histogram executionTime = new Histogram();
+    private final Histogram queueDelay = new Histogram();
+    private final AtomicLong busyTime = new AtomicLong();
+    private final ArrayDeque<JsonObject> slowTasks = new ArrayDeque<>();
+    private long sampledStart;
+    private long lastSampleTime = startTime;
+    private long lastSampleBusyTime;
+    private volatile double recentBusyRatio;
+
+    private Profile(VertxThread thread, EventLoopMetrics metrics) {
+      this.thread = thread;
+      this.metrics = metrics;
+    }
+
+    /**
+     * Called from the event loop thread.
+     */
+    void taskDequeued(long delay) {
+      queueDelay.record(delay);
+      if (metrics != null) {
+        metrics.taskDequeued(delay);
+      }
+    }
+
+    /**
+     * Called from the event loop thread.
+     */
+    void taskExecuted(long duration) {
+      executionTime.record(duration);
+      busyTime.lazySet(busyTime.get() + duration);
+      if (metrics != null) {
+        metrics.taskExecuted(duration);
+      }
+    }
+
+    /**
+     * Called from the blocked thread checker thread.
+     */
+    void sample(long now, long threshold) {
+      long elapsed = now - lastSampleTime;
+      if (elapsed > 0) {
+        // Exponentially weighted moving average of the busy ratio
+        long busy = busyTime.get();
+        double ratio = Math.min(1D, (double) (busy - lastSampleBusyTime) / elapsed);
+        recentBusyRatio = (recentBusyRatio + ratio) / 2;
+        lastSampleTime = now;
+        lastSampleBusyTime = busy;
+      }
+      long execStart = thread.startTime();
+      if (execStart == 0 || execStart == sampledStart) {
+        return;
+      }
+      long duration = now - execStart;
+      if (duration < threshold) {
+        return;
+      }
+      sampledStart = execStart;
+      StackTraceElement[] stackTrace = thread.getStackTrace();
+      JsonArray frames = new JsonArray();
+      for (StackTraceElement frame : stackTrace) {
+        frames.add(frame.toString());
+      }
+      synchronized (slowTasks) {
+        if (slowTasks.size() == MAX_SLOW_TASKS) {
+          slowTasks.removeFirst();
+        }
+        slowTasks.addLast(new JsonObject().put("executionTime", duration).put("stackTrace", frames));
+      }
+      if (metrics != null) {
+        metrics.slowTask(duration, stackTrace);
+      }
+    }
+
+    JsonObject snapshot() {
+      long elapsed = System.nanoTime() - startTime;
+      long busy = busyTime.get();
+      JsonArray samples;
+      synchronized (slowTasks) {
+        samples = new JsonArray();
+        for (JsonObject sample : slowTasks) {
+          samples.add(sample.copy());
+        }
+      }
+      return new JsonObject()
+        .put("thread", thread.getName())
+        .put("executionTime", executionTime.snapshot())
+        .put("queueDelay", queueDelay.snapshot())
+        .put("busyTime", busy)
+        .put("busyRatio", elapsed > 0 ? Math.min(1D, (double) busy / elapsed) : 0D)
+        .put("recentBusyRatio", recentBusyRatio)
+        .put("slowTasks", samples);
+    }
+  }
+
+  /**
+   * A single writer histogram of durations with power of two buckets, percentiles are reported as the upper bound
+   * of their bucket.
+   */
+  static final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long value) {
+      if (value < 0) {
+        value = 0;
+      }
+      int idx = value == 0 ? 0 : 64 - Long.numberOfLeadingZeros(value);
+      if (idx >= BUCKETS) {
+        idx = BUCKETS - 1;
+      }
+      buckets.lazySet(idx, buckets.get(idx) + 1);
+      sum.lazySet(sum.get() + value);
+      if (value > max.get()) {
+        max.lazySet(value);
+      }
+    }
+
+    private long percentile(long[] counts, long total, double p) {
+      long rank = (long) Math.ceil(total * p);
+      long acc = 0;
+      for (int i = 0;i < counts.length;i++) {
+        acc += counts[i];
+        if (acc >= rank) {
+          return i == 0 ? 0 : (1L << i) - 1;
+        }
+      }
+      return max.get();
+    }
+
+    JsonObject snapshot() {
+      long[] counts = new long[BUCKETS];
+      long total = 0;
+      for (int i = 0;i < BUCKETS;i++) {
+        counts[i] = buckets.get(i);
+        total += counts[i];
+      }
+      JsonObject json = new JsonObject()
+        .put("count", total)
+        .put("sum", sum.get())
+        .put("max", max.get());
+      if (total > 0) {
+        long upper = max.get();
+        json.put("p50", Math.min(upper, percentile(counts, total, 0.5D)))
+          .put("p90", Math.min(upper, percentile(counts, total, 0.9D)))
+          .put("p99", Math.min(upper, percentile(counts, total, 0.99D)))
+          .put("p999", Math.min(upper, percentile(counts, total, 0.999D)));
+      }
+      return json;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.spi.EventLoopSelector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the least loaded event loop, either by number of registrations or by measured busy ratio.
+ * <p>
+ * The scan starts at a rotating offset so event loops with the same load are selected in a round-robin fashion.
+ */
+public class LeastLoadedEventLoopSelector implements EventLoopSelector {
+
+  private final boolean busy;
+  private final AtomicInteger offset = new AtomicInteger();
+
+  public LeastLoadedEventLoopSelector(boolean busy) {
+    this.busy = busy;
+  }
+
+  @Override
+  public EventLoop select(List<EventLoop> eventLoops, Load load) {
+    int size = eventLoops.size();
+    int start = (offset.getAndIncrement() & Integer.MAX_VALUE) % size;
+    EventLoop selected = null;
+    double selectedRatio = 0D;
+    int selectedRegistrations = 0;
+    for (int i = 0;i < size;i++) {
+      EventLoop eventLoop = eventLoops.get((start + i) % size);
+      double ratio = busy ? load.busyRatio(eventLoop) : -1D;
+      int registrations = load.registrations(eventLoop);
+      if (selected == null || ratio < selectedRatio || (ratio == selectedRatio && registrations < selectedRegistrations)) {
+        selected = eventLoop;
+        selectedRatio = ratio;
+        selectedRegistrations = registrations;
+      }
+    }
+    return selected;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.spi.EventLoopSelector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round-robin event loop selection.
+ */
+public class RoundRobinEventLoopSelector implements EventLoopSelector {
+
+  private final AtomicInteger idx = new AtomicInteger();
+
+  @Override
+  public EventLoop select(List<EventLoop> eventLoops, Load load) {
+    return eventLoops.get((idx.getAndIncrement() & Integer.MAX_VALUE) % eventLoops.size());
+  }
+}
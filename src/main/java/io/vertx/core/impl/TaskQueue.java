@@ -14,8 +14,9 @@ package io.vertx.core.impl;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 
-import java.util.LinkedList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A task queue that always run all tasks in order. The executor to run the tasks is passed when
@@ -24,6 +25,9 @@ import java.util.concurrent.Executor;
  *
  * More specifically, any call B to the {@link #execute(Runnable, Executor)} method that happens-after another call A to the
  * same method, will result in B's task running after A's.
+ * <p>
+ * The queue is lock-free: tasks are linked in an intrusive multi producer / single consumer queue (each task is
+ * its own queue node) and a single runner at a time is elected with a CAS on the {@code running} flag.
  *
  * @author <a href="david.lloyd@jboss.com">David Lloyd</a>
  * @author <a href="mailto:tim.fox@jboss.com">Tim Fox</a>
@@ -33,10 +37,14 @@ public class TaskQueue {
 
   static final Logger log = LoggerFactory.getLogger(TaskQueue.class);
 
+  private static final AtomicReferenceFieldUpdater<TaskQueue, Task> TAIL_UPDATER = AtomicReferenceFieldUpdater.newUpdater(TaskQueue.class, Task.class, "tail");
+  private static final AtomicIntegerFieldUpdater<TaskQueue> RUNNING_UPDATER = AtomicIntegerFieldUpdater.newUpdater(TaskQueue.class, "running");
+
   private static class Task {
 
-    private final Runnable runnable;
+    private Runnable runnable;
     private final Executor exec;
+    private volatile Task next;
 
     public Task(Runnable runnable, Executor exec) {
       this.runnable = runnable;
@@ -44,36 +52,54 @@ public class TaskQueue {
     }
   }
 
-  // @protectedby tasks
-  private final LinkedList<Task> tasks = new LinkedList<>();
+  // The last consumed task, only accessed by the runner
+  private Task head;
+
+  // The last produced task
+  private volatile Task tail;
 
-  // @protectedby tasks
+  // 1 when a runner is scheduled or running
+  private volatile int running;
+
+  // The executor the runner has been scheduled on, written by the thread that sets running to 1
   private Executor current;
 
   private final Runnable runner;
 
   public TaskQueue() {
+    Task stub = new Task(null, null);
+    head = stub;
+    tail = stub;
     runner = this::run;
   }
 
   private void run() {
     for (; ; ) {
-      final Task task;
-      synchronized (tasks) {
-        task = tasks.poll();
-        if (task == null) {
-          current = null;
-          return;
-        }
-        if (task.exec != current) {
-          tasks.addFirst(task);
-          task.exec.execute(runner);
-          current = task.exec;
+      Task task = head.next;
+      if (task == null) {
+        running = 0;
+        // A producer might have linked a task after we observed an empty queue and before we reset the flag,
+        // this producer then failed to become the runner
+        if (head.next == null || !RUNNING_UPDATER.compareAndSet(this, 0, 1)) {
           return;
         }
+        continue;
+      }
+      Runnable runnable = task.runnable;
+      if (runnable == null) {
+        // The executor of the task rejected it
+        head = task;
+        continue;
       }
+      if (task.exec != current) {
+        current = task.exec;
+        task.exec.execute(runner);
+        return;
+      }
+      task.runnable = null;
+      head = task;
       try {
-        task.runnable.run();
+        runnable.run();
       } catch (Throwable t) {
         log.error("Caught unexpected Throwable", t);
       }
@@ -86,11 +112,19 @@ public class TaskQueue {
    * @param task the task to run.
    */
   public void execute(Runnable task, Executor executor) {
-    synchronized (tasks) {
-      tasks.add(new Task(task, executor));
-      if (current == null) {
-        current = executor;
+    Task t = new Task(task, executor);
+    Task prev = TAIL_UPDATER.getAndSet(this, t);
+    prev.next = t;
+    if (RUNNING_UPDATER.compareAndSet(this, 0, 1)) {
+      current = executor;
+      try {
         executor.execute(runner);
+      } catch (RuntimeException e) {
+        // The task cannot be unlinked as other tasks might be linked after it, it is cancelled instead and skipped
+        // by the next runner
+        t.runnable = null;
+        running = 0;
+        throw e;
       }
     }
   }
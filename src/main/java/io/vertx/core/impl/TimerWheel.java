@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel scheduling the timeouts of an event loop.
+ * <p>
+ * Timeouts are hashed by their deadline tick into buckets, a bucket is a doubly linked list of timeouts so inserting
+ * and cancelling a timeout are {@code O(1)}, a timeout is its own list node. Timeouts are never fired before their
+ * deadline: a timeout is placed in the first tick that is greater or equals than its deadline and a tick is
+ * processed only once its time has elapsed.
+ * <p>
+ * The wheel state is only accessed from the event loop thread, operations performed from other threads are executed
+ * on the event loop. The event loop is woken up by a single scheduled task targeting the next non empty bucket instead
+ * of one scheduled task per timeout.
+ */
+public final class TimerWheel {
+
+  private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+  /**
+   * The number of buckets of the wheel.
+   */
+  static final int WHEEL_SIZE = 512;
+
+  /**
+   * A timeout managed by the wheel.
+   */
+  public static abstract class Timeout {
+
+    private long deadline;
+    private long deadlineTick;
+    private long period;
+    private int bucket = -1;
+    private boolean cancelled;
+    private Timeout prev;
+    private Timeout next;
+
+    /**
+     * Called on the event loop thread when the timeout expires.
+     */
+    protected abstract void expire();
+  }
+
+  private final EventLoop eventLoop;
+  private final long tickNanos;
+  private final long startTime;
+  private final Timeout[] heads = new Timeout[WHEEL_SIZE];
+  private final Timeout[] tails = new Timeout[WHEEL_SIZE];
+  private final Runnable tickTask = this::tick;
+  private long processedTick;
+  private int size;
+  private ScheduledFuture<?> wakeup;
+  private long wakeupTick = Long.MAX_VALUE;
+
+  public TimerWheel(EventLoop eventLoop, long tickDuration, TimeUnit tickDurationUnit) {
+    if (tickDuration < 1) {
+      throw new IllegalArgumentException("tickDuration must be > 0");
+    }
+    this.eventLoop = eventLoop;
+    this.tickNanos = tickDurationUnit.toNanos(tickDuration);
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * @return the event loop of this wheel
+   */
+  public EventLoop eventLoop() {
+    return eventLoop;
+  }
+
+  /**
+   * Schedule a {@code timeout}, this method can be called from any thread.
+   *
+   * @param timeout the timeout
+   * @param delay the delay before the timeout expires
+   * @param periodic whether the timeout expires periodically every {@code delay}
+   * @param unit the unit of {@code delay}
+   */
+  public void schedule(Timeout timeout, long delay, boolean periodic, TimeUnit unit) {
+    long delayNanos = unit.toNanos(delay);
+    long deadline = System.nanoTime() + delayNanos - startTime;
+    timeout.period = periodic ? delayNanos : 0L;
+    if (eventLoop.inEventLoop()) {
+      add(timeout, deadline);
+    } else {
+      eventLoop.execute(() -> add(timeout, deadline));
+    }
+  }
+
+  /**
+   * Cancel a {@code timeout}, this method can be called from any thread.
+   *
+   * @param timeout the timeout to cancel
+   */
+  public void cancel(Timeout timeout) {
+    if (eventLoop.inEventLoop()) {
+      remove(timeout);
+    } else {
+      eventLoop.execute(() -> remove(timeout));
+    }
+  }
+
+  /**
+   * @return the number of timeouts in the wheel, this method must be called from the event loop thread
+   */
+  int size() {
+    return size;
+  }
+
+  private void add(Timeout timeout, long deadline) {
+    if (timeout.cancelled) {
+      return;
+    }
+    // Round up so the timeout never expires before its deadline
+    long tick = (deadline + tickNanos - 1) / tickNanos;
+    if (tick <= processedTick) {
+      tick = processedTick + 1;
+    }
+    int idx = (int) (tick & (WHEEL_SIZE - 1));
+    timeout.deadline = deadline;
+    timeout.deadlineTick = tick;
+    timeout.bucket = idx;
+    timeout.next = null;
+    Timeout tail = tails[idx];
+    timeout.prev = tail;
+    if (tail == null) {
+      heads[idx] = timeout;
+    } else {
+      tail.next = timeout;
+    }
+    tails[idx] = timeout;
+    size++;
+    if (tick < wakeupTick) {
+      scheduleWakeup(tick);
+    }
+  }
+
+  private void remove(Timeout timeout) {
+    timeout.cancelled = true;
+    if (timeout.bucket != -1) {
+      unlink(timeout);
+      if (size == 0 && wakeup != null) {
+        wakeup.cancel(false);
+        wakeup = null;
+        wakeupTick = Long.MAX_VALUE;
+      }
+    }
+  }
+
+  private void unlink(Timeout timeout) {
+    int idx = timeout.bucket;
+    Timeout prev = timeout.prev;
+    Timeout next = timeout.next;
+    if (prev == null) {
+      heads[idx] = next;
+    } else {
+      prev.next = next;
+    }
+    if (next == null) {
+      tails[idx] = prev;
+    } else {
+      next.prev = prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.bucket = -1;
+    size--;
+  }
+
+  private void scheduleWakeup(long tick) {
+    if (wakeup != null) {
+      wakeup.cancel(false);
+    }
+    long delay = startTime + tick * tickNanos - System.nanoTime();
+    wakeupTick = tick;
+    wakeup = eventLoop.schedule(tickTask, Math.max(0L, delay), TimeUnit.NANOSECONDS);
+  }
+
+  private void tick() {
+    wakeup = null;
+    // Prevent add from scheduling a wake-up while processing, the next wake-up is computed at the end
+    wakeupTick = Long.MIN_VALUE;
+    long currentTick = (System.nanoTime() - startTime) / tickNanos;
+    long from = processedTick + 1;
+    if (currentTick - from >= WHEEL_SIZE) {
+      from = currentTick - WHEEL_SIZE + 1;
+    }
+    processedTick = currentTick;
+    // Detach the expired timeouts first, as expiring a timeout can add or remove timeouts
+    Timeout expired = null;
+    Timeout last = null;
+    for (long t = from;t <= currentTick;t++) {
+      Timeout timeout = heads[(int) (t & (WHEEL_SIZE - 1))];
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.deadlineTick <= currentTick) {
+          unlink(timeout);
+          if (last == null) {
+            expired = timeout;
+          } else {
+            last.next = timeout;
+          }
+          last = timeout;
+        }
+        timeout = next;
+      }
+    }
+    while (expired != null) {
+      Timeout next = expired.next;
+      expired.next = null;
+      if (!expired.cancelled) {
+        if (expired.period > 0) {
+          add(expired, expired.deadline + expired.period);
+        }
+        try {
+          expired.expire();
+        } catch (Throwable t) {
+          log.error("Caught unexpected Throwable", t);
+        }
+      }
+      expired = next;
+    }
+    wakeupTick = Long.MAX_VALUE;
+    if (size > 0) {
+      scheduleWakeup(nextTick());
+    }
+  }
+
+  /**
+   * @return the tick of the first non empty bucket after the processed tick
+   */
+  private long nextTick() {
+    for (long t = processedTick + 1;t <= processedTick + WHEEL_SIZE;t++) {
+      if (heads[(int) (t & (WHEEL_SIZE - 1))] != null) {
+        return t;
+      }
+    }
+    throw new IllegalStateException();
+  }
+}
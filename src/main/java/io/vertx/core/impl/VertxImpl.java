@@ -15,6 +15,7 @@ import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.ResourceLeakDetector;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Future;
@@ -55,6 +56,7 @@ import io.vertx.core.net.impl.TCPServerBase;
 import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.core.shareddata.impl.SharedDataImpl;
+import io.vertx.core.spi.EventLoopSelector;
 import io.vertx.core.spi.VerticleFactory;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.spi.cluster.NodeSelector;
@@ -97,6 +99,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  private final ConcurrentMap<EventLoop, TimerWheel> timerWheels = new ConcurrentHashMap<>();
+  private final long timerTickResolution;
+  private final TimeUnit timerTickResolutionUnit;
   private final ClusterManager clusterManager;
   private final NodeSelector nodeSelector;
   private final DeploymentManager deploymentManager;
@@ -106,10 +111,15 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final Map<ServerID, NetServerImpl> sharedNetServers = new HashMap<>();
   final WorkerPool workerPool;
   final WorkerPool internalBlockingPool;
+  private WorkerPool virtualThreadWorkerPool;
   private final ThreadFactory eventLoopThreadFactory;
   private final EventLoopGroup eventLoopGroup;
   private final EventLoopGroup acceptorEventLoopGroup;
   private final BlockedThreadChecker checker;
+  private final EventLoopProfiler eventLoopProfiler;
+  private final EventLoopSelector eventLoopSelector;
+  private final EventLoopLoadTracker eventLoopLoad;
+  private final List<EventLoop> eventLoops;
   private final AddressResolver addressResolver;
   private final AddressResolverOptions addressResolverOptions;
   private final EventBusInternal eventBus;
@@ -118,6 +128,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private volatile Handler<Throwable> exceptionHandler;
   private final Map<String, SharedWorkerPool> namedWorkerPools;
   private final int defaultWorkerPoolSize;
+  private final boolean useWorkStealingPool;
+  private final boolean adaptiveWorkerPools;
+  private final int workerPoolMinSize;
+  private final long workerPoolMaxQueueWait;
+  private final long workerPoolIdleTimeout;
   private final long maxWorkerExecTime;
   private final TimeUnit maxWorkerExecTimeUnit;
   private final long maxEventLoopExecTime;
@@ -135,25 +150,66 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     closeHooks = new CloseHooks(log);
     maxEventLoopExecTime = options.getMaxEventLoopExecuteTime();
     maxEventLoopExecTimeUnit = options.getMaxEventLoopExecuteTimeUnit();
+    timerTickResolution = options.getTimerTickResolution();
+    timerTickResolutionUnit = options.getTimerTickResolutionUnit();
     checker = new BlockedThreadChecker(options.getBlockedThreadCheckInterval(), options.getBlockedThreadCheckIntervalUnit(), options.getWarningExceptionTime(), options.getWarningExceptionTimeUnit());
-    eventLoopThreadFactory = new VertxThreadFactory("vert.x-eventloop-thread-", checker, false, maxEventLoopExecTime, maxEventLoopExecTimeUnit);
+    if (options.isEventLoopProfilingEnabled()) {
+      eventLoopProfiler = new EventLoopProfiler(metrics, options.getSlowTaskThreshold(), options.getSlowTaskThresholdUnit());
+      checker.schedule(eventLoopProfiler::sample, eventLoopProfiler.samplingInterval(), TimeUnit.NANOSECONDS);
+    } else {
+      eventLoopProfiler = null;
+    }
+    eventLoopThreadFactory = new VertxThreadFactory("vert.x-eventloop-thread-", checker, false, maxEventLoopExecTime, maxEventLoopExecTimeUnit, eventLoopProfiler);
     eventLoopGroup = transport.eventLoopGroup(Transport.IO_EVENT_LOOP_GROUP, options.getEventLoopPoolSize(), eventLoopThreadFactory, NETTY_IO_RATIO);
+    eventLoopSelector = options.getEventLoopSelector();
+    if (eventLoopSelector != null) {
+      List<EventLoop> loops = new ArrayList<>();
+      for (EventExecutor executor : eventLoopGroup) {
+        loops.add((EventLoop) executor);
+      }
+      eventLoops = Collections.unmodifiableList(loops);
+      eventLoopLoad = new EventLoopLoadTracker(eventLoopProfiler);
+    } else {
+      eventLoops = null;
+      eventLoopLoad = null;
+    }
     ThreadFactory acceptorEventLoopThreadFactory = new VertxThreadFactory("vert.x-acceptor-thread-", checker, false, options.getMaxEventLoopExecuteTime(), options.getMaxEventLoopExecuteTimeUnit());
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
     acceptorEventLoopGroup = transport.eventLoopGroup(Transport.ACCEPTOR_EVENT_LOOP_GROUP, 1, acceptorEventLoopThreadFactory, 100);
 
     int workerPoolSize = options.getWorkerPoolSize();
-    ExecutorService workerExec = new ThreadPoolExecutor(workerPoolSize, workerPoolSize,
-      0L, TimeUnit.MILLISECONDS, new LinkedTransferQueue<>(),
-      new VertxThreadFactory("vert.x-worker-thread-", checker, true, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()));
-    PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", options.getWorkerPoolSize()) : null;
+    ExecutorService workerExec = null;
+    if (options.getUseVirtualThreads()) {
+      workerExec = VirtualThreadFactory.newExecutor("vert.x-virtual-worker-thread-", checker, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit());
+    }
+    boolean virtualWorkers = workerExec != null;
+    useWorkStealingPool = options.getUseWorkStealingPool();
+    if (workerExec == null && useWorkStealingPool) {
+      workerExec = WorkStealingThreadFactory.newExecutor("vert.x-worker-thread-", workerPoolSize, checker, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit());
+    }
+    PoolMetrics workerPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-worker-thread", virtualWorkers ? -1 : options.getWorkerPoolSize()) : null;
+    adaptiveWorkerPools = options.isAdaptiveWorkerPoolsEnabled();
+    workerPoolMinSize = options.getWorkerPoolMinSize();
+    workerPoolMaxQueueWait = options.getWorkerPoolMaxQueueWaitUnit().toNanos(options.getWorkerPoolMaxQueueWait());
+    workerPoolIdleTimeout = options.getWorkerPoolIdleTimeoutUnit().toNanos(options.getWorkerPoolIdleTimeout());
+    if (workerExec == null) {
+      workerExec = adaptiveExecutor("vert.x-worker-thread-", workerPoolSize, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit(), workerPoolMetrics);
+    }
+    if (workerExec == null) {
+      workerExec = new ThreadPoolExecutor(workerPoolSize, workerPoolSize,
+        0L, TimeUnit.MILLISECONDS, new LinkedTransferQueue<>(),
+        new VertxThreadFactory("vert.x-worker-thread-", checker, true, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()));
+    }
     ExecutorService internalBlockingExec = Executors.newFixedThreadPool(options.getInternalBlockingPoolSize(),
         new VertxThreadFactory("vert.x-internal-blocking-", checker, true, options.getMaxWorkerExecuteTime(), options.getMaxWorkerExecuteTimeUnit()));
     PoolMetrics internalBlockingPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-internal-blocking", options.getInternalBlockingPoolSize()) : null;
     internalBlockingPool = new WorkerPool(internalBlockingExec, internalBlockingPoolMetrics);
     namedWorkerPools = new HashMap<>();
     workerPool = new WorkerPool(workerExec, workerPoolMetrics);
+    if (virtualWorkers) {
+      virtualThreadWorkerPool = workerPool;
+    }
     defaultWorkerPoolSize = options.getWorkerPoolSize();
     maxWorkerExecTime = options.getMaxWorkerExecuteTime();
     maxWorkerExecTimeUnit = options.getMaxWorkerExecuteTimeUnit();
@@ -166,7 +222,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     this.tracer = tracer;
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
-    this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this);
+    this.eventBus = clusterManager != null ? new ClusteredEventBus(this, options, clusterManager, nodeSelector) : new EventBusImpl(this, options.getEventBusOptions());
     this.sharedData = new SharedDataImpl(this, clusterManager);
     this.deploymentManager = new DeploymentManager(this);
     this.verticleManager = new VerticleManager(this, deploymentManager);
@@ -451,9 +507,59 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
   }
 
+  @Override
+  public EventLoopProfiler eventLoopProfiler() {
+    return eventLoopProfiler;
+  }
+
+  @Override
+  public synchronized WorkerPool virtualThreadWorkerPool() {
+    if (virtualThreadWorkerPool == null) {
+      ExecutorService exec = VirtualThreadFactory.newExecutor("vert.x-virtual-worker-thread-", checker, maxWorkerExecTime, maxWorkerExecTimeUnit);
+      if (exec != null) {
+        PoolMetrics poolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-virtual-worker-thread", -1) : null;
+        virtualThreadWorkerPool = new WorkerPool(exec, poolMetrics);
+      } else {
+        virtualThreadWorkerPool = workerPool;
+      }
+    }
+    return virtualThreadWorkerPool;
+  }
+
+  @Override
+  public EventLoop nextEventLoop() {
+    return eventLoopSelector != null ? eventLoopSelector.select(eventLoops, eventLoopLoad) : eventLoopGroup.next();
+  }
+
+  @Override
+  public EventLoopSelector eventLoopSelector() {
+    return eventLoopSelector;
+  }
+
+  @Override
+  public EventLoopLoadTracker eventLoopLoad() {
+    return eventLoopLoad;
+  }
+
+  /**
+   * Account the context of a deployment in the load of its event loop until the deployment is undeployed.
+   */
+  private void registerLoad(ContextInternal context, CloseHooks closeHooks) {
+    if (eventLoopLoad != null && closeHooks != null) {
+      EventLoop eventLoop = context.nettyEventLoop();
+      eventLoopLoad.register(eventLoop);
+      closeHooks.add(completion -> {
+        eventLoopLoad.unregister(eventLoop);
+        completion.complete();
+      });
+    }
+  }
+
   @Override
   public EventLoopContext createEventLoopContext(Deployment deployment, CloseHooks closeHooks, WorkerPool workerPool, ClassLoader tccl) {
-    return new EventLoopContext(this, tracer, eventLoopGroup.next(), internalBlockingPool, workerPool != null ? workerPool : this.workerPool, deployment, closeHooks, tccl);
+    EventLoopContext context = new EventLoopContext(this, tracer, nextEventLoop(), internalBlockingPool, workerPool != null ? workerPool : this.workerPool, deployment, closeHooks, tccl);
+    registerLoad(context, closeHooks);
+    return context;
   }
 
   @Override
@@ -468,7 +574,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
   @Override
   public ContextInternal createWorkerContext(Deployment deployment, CloseHooks closeHooks, WorkerPool workerPool, ClassLoader tccl) {
-    return new WorkerContext(this, tracer, internalBlockingPool, workerPool != null ? workerPool : this.workerPool, deployment, closeHooks, tccl);
+    WorkerContext context = new WorkerContext(this, tracer, internalBlockingPool, workerPool != null ? workerPool : this.workerPool, deployment, closeHooks, tccl);
+    registerLoad(context, closeHooks);
+    return context;
   }
 
   @Override
@@ -514,6 +622,23 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return timerId;
   }
 
+  @Override
+  public TimerWheel timerWheel(EventLoop eventLoop) {
+    TimerWheel wheel = timerWheels.get(eventLoop);
+    if (wheel == null) {
+      TimerWheel created = new TimerWheel(eventLoop, timerTickResolution, timerTickResolutionUnit);
+      wheel = timerWheels.putIfAbsent(eventLoop, created);
+      if (wheel == null) {
+        wheel = created;
+        if (eventLoop.parent() != eventLoopGroup && eventLoop.parent() != acceptorEventLoopGroup) {
+          // The wheel of an event loop not owned by this instance is removed once the event loop terminates
+          eventLoop.terminationFuture().addListener(future -> timerWheels.remove(eventLoop, created));
+        }
+      }
+    }
+    return wheel;
+  }
+
   public AbstractContext getContext() {
     AbstractContext context = (AbstractContext) ContextInternal.current();
     if (context != null && context.owner() == this) {
@@ -853,6 +978,13 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
       workerPool.close();
       internalBlockingPool.close();
+      WorkerPool virtualPool;
+      synchronized (VertxImpl.this) {
+        virtualPool = virtualThreadWorkerPool;
+      }
+      if (virtualPool != null && virtualPool != workerPool) {
+        virtualPool.close();
+      }
       new ArrayList<>(namedWorkerPools.values()).forEach(WorkerPool::close);
 
       acceptorEventLoopGroup.shutdownGracefully(0, 10, TimeUnit.SECONDS).addListener(new GenericFutureListener() {
@@ -867,6 +999,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
               if (!future.isSuccess()) {
                 log.warn("Failure in shutting down event loop group", future.cause());
               }
+              timerWheels.clear();
               if (metrics != null) {
                 metrics.close();
               }
@@ -899,32 +1032,30 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
    * removing the timer successfully owns the timer termination (i.e cancel or timer) to avoid race conditions
    * between timeout and cancellation.
    * <p/>
-   * This class does not rely on the internal {@link #future} for the termination to handle the worker case
-   * since the actual timer {@link #handler} execution is scheduled when the {@link #future} executes.
+   * This class does not rely on the {@link #wheel} for the termination to handle the worker case
+   * since the actual timer {@link #handler} execution is scheduled when the timeout expires.
+   * <p/>
+   * Timers are scheduled on the {@link TimerWheel} of the context event loop, a timer is its own wheel entry.
    */
-  private class InternalTimerHandler implements Handler<Void>, Closeable, Runnable {
+  private class InternalTimerHandler extends TimerWheel.Timeout implements Handler<Void>, Closeable {
 
     private final Handler<Long> handler;
     private final boolean periodic;
     private final long timerID;
     private final ContextInternal context;
-    private final java.util.concurrent.Future<?> future;
+    private final TimerWheel wheel;
 
     InternalTimerHandler(long timerID, Handler<Long> runnable, boolean periodic, long delay, ContextInternal context) {
       this.context = context;
       this.timerID = timerID;
       this.handler = runnable;
       this.periodic = periodic;
-      EventLoop el = context.nettyEventLoop();
-      if (periodic) {
-        future = el.scheduleAtFixedRate(this, delay, delay, TimeUnit.MILLISECONDS);
-      } else {
-        future = el.schedule(this, delay, TimeUnit.MILLISECONDS);
-      }
+      this.wheel = timerWheel(context.nettyEventLoop());
+      wheel.schedule(this, delay, periodic, TimeUnit.MILLISECONDS);
     }
 
     @Override
-    public void run() {
+    protected void expire() {
       context.emit(this);
     }
 
@@ -944,7 +1075,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
 
     private void cancel() {
-      future.cancel(false);
+      wheel.cancel(this);
       if (context.isDeployment()) {
         context.removeCloseHook(this);
       }
@@ -953,7 +1084,7 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     // Called via Context close hook when Verticle is undeployed
     public void close(Promise<Void> completion) {
       if (timeouts.remove(timerID) != null) {
-        future.cancel(false);
+        wheel.cancel(this);
       }
       completion.complete();
     }
@@ -1110,7 +1241,24 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return namedExec;
   }
 
-  public synchronized SharedWorkerPool createSharedWorkerPool(String name, int poolSize, long maxExecuteTime, TimeUnit maxExecuteTimeUnit) {
+  public SharedWorkerPool createSharedWorkerPool(String name, int poolSize, long maxExecuteTime, TimeUnit maxExecuteTimeUnit) {
+    return createSharedWorkerPool(name, poolSize, maxExecuteTime, maxExecuteTimeUnit, false);
+  }
+
+  /**
+   * @return an adaptive executor growing up to {@code poolSize} threads or {@code null} when adaptive worker pools are
+   *         disabled or {@code poolSize} is not greater than the min size
+   */
+  private ExecutorService adaptiveExecutor(String prefix, int poolSize, long maxExecuteTime, TimeUnit maxExecuteTimeUnit, PoolMetrics metrics) {
+    if (!adaptiveWorkerPools || poolSize <= workerPoolMinSize) {
+      return null;
+    }
+    return new AdaptiveWorkerExecutor(workerPoolMinSize, poolSize, workerPoolMaxQueueWait, TimeUnit.NANOSECONDS,
+      workerPoolIdleTimeout, TimeUnit.NANOSECONDS, new VertxThreadFactory(prefix, checker, true, maxExecuteTime, maxExecuteTimeUnit), metrics, checker);
+  }
+
+  @Override
+  public synchronized SharedWorkerPool createSharedWorkerPool(String name, int poolSize, long maxExecuteTime, TimeUnit maxExecuteTimeUnit, boolean useVirtualThreads) {
     if (poolSize < 1) {
       throw new IllegalArgumentException("poolSize must be > 0");
     }
@@ -1119,8 +1267,21 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
     SharedWorkerPool sharedWorkerPool = namedWorkerPools.get(name);
     if (sharedWorkerPool == null) {
-      ExecutorService workerExec = Executors.newFixedThreadPool(poolSize, new VertxThreadFactory(name + "-", checker, true, maxExecuteTime, maxExecuteTimeUnit));
-      PoolMetrics workerMetrics = metrics != null ? metrics.createPoolMetrics("worker", name, poolSize) : null;
+      ExecutorService workerExec = null;
+      if (useVirtualThreads) {
+        workerExec = VirtualThreadFactory.newExecutor(name + "-", checker, maxExecuteTime, maxExecuteTimeUnit);
+      }
+      int maxPoolSize = workerExec != null ? -1 : poolSize;
+      PoolMetrics workerMetrics = metrics != null ? metrics.createPoolMetrics("worker", name, maxPoolSize) : null;
+      if (workerExec == null && useWorkStealingPool) {
+        workerExec = WorkStealingThreadFactory.newExecutor(name + "-", poolSize, checker, maxExecuteTime, maxExecuteTimeUnit);
+      }
+      if (workerExec == null) {
+        workerExec = adaptiveExecutor(name + "-", poolSize, maxExecuteTime, maxExecuteTimeUnit, workerMetrics);
+      }
+      if (workerExec == null) {
+        workerExec = Executors.newFixedThreadPool(poolSize, new VertxThreadFactory(name + "-", checker, true, maxExecuteTime, maxExecuteTimeUnit));
+      }
       namedWorkerPools.put(name, sharedWorkerPool = new SharedWorkerPool(name, workerExec, workerMetrics));
     } else {
       sharedWorkerPool.refCount++;
@@ -26,6 +26,7 @@ import io.vertx.core.net.impl.NetServerImpl;
 import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.net.impl.TCPServerBase;
 import io.vertx.core.net.impl.transport.Transport;
+import io.vertx.core.spi.EventLoopSelector;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
@@ -67,6 +68,27 @@ public interface VertxInternal extends Vertx {
 
   EventLoopGroup getAcceptorEventLoopGroup();
 
+  /**
+   * @return the event loop of a new context, chosen by the configured {@link EventLoopSelector}
+   */
+  EventLoop nextEventLoop();
+
+  /**
+   * @return the configured event loop selector or {@code null} when event loops are assigned by the event loop group
+   */
+  EventLoopSelector eventLoopSelector();
+
+  /**
+   * @return the load of the event loops or {@code null} when no event loop selector is configured
+   */
+  EventLoopLoadTracker eventLoopLoad();
+
+  /**
+   * @return the timing wheel scheduling the timeouts of the {@code eventLoop}, the wheel of an event loop not owned by
+   *         this instance is discarded once the event loop terminates
+   */
+  TimerWheel timerWheel(EventLoop eventLoop);
+
   ExecutorService getWorkerPool();
 
   Map<ServerID, HttpServerImpl> sharedHttpServers();
@@ -133,6 +155,22 @@ public interface VertxInternal extends Vertx {
 
   WorkerPool createSharedWorkerPool(String name, int poolSize, long maxExecuteTime, TimeUnit maxExecuteTimeUnit);
 
+  /**
+   * Like {@link #createSharedWorkerPool(String, int, long, TimeUnit)} but the pool runs its tasks on virtual threads
+   * when {@code useVirtualThreads} is {@code true} and the JVM supports them, the {@code poolSize} is then ignored.
+   */
+  WorkerPool createSharedWorkerPool(String name, int poolSize, long maxExecuteTime, TimeUnit maxExecuteTimeUnit, boolean useVirtualThreads);
+
+  /**
+   * @return the worker pool running tasks on virtual threads, or the default worker pool when the JVM does not support virtual threads
+   */
+  WorkerPool virtualThreadWorkerPool();
+
+  /**
+   * @return the event loop profiler or {@code null} when event loop profiling is disabled
+   */
+  EventLoopProfiler eventLoopProfiler();
+
   void simulateKill();
 
   Deployment getDeployment(String deploymentID);
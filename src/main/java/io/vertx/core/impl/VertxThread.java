@@ -28,6 +28,7 @@ public final class VertxThread extends FastThreadLocalThread implements BlockedT
   private final TimeUnit maxExecTimeUnit;
   private long execStart;
   private ContextInternal context;
+  private EventLoopProfiler.Profile profile;
 
   public VertxThread(Runnable target, String name, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit) {
     super(target, name);
@@ -51,10 +52,24 @@ public final class VertxThread extends FastThreadLocalThread implements BlockedT
 
   private void executeEnd() {
     if (context == null) {
+      if (profile != null) {
+        profile.taskExecuted(System.nanoTime() - execStart);
+      }
       execStart = 0;
     }
   }
 
+  /**
+   * @return the profile of this thread when event loop profiling is enabled, this method must be called from the current thread
+   */
+  EventLoopProfiler.Profile profile() {
+    return profile;
+  }
+
+  void profile(EventLoopProfiler.Profile profile) {
+    this.profile = profile;
+  }
+
   public long startTime() {
     return execStart;
   }
@@ -26,13 +26,19 @@ public class VertxThreadFactory implements ThreadFactory {
   private final boolean worker;
   private final long maxExecTime;
   private final TimeUnit maxExecTimeUnit;
+  private final EventLoopProfiler profiler;
 
   VertxThreadFactory(String prefix, BlockedThreadChecker checker, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit) {
+    this(prefix, checker, worker, maxExecTime, maxExecTimeUnit, null);
+  }
+
+  VertxThreadFactory(String prefix, BlockedThreadChecker checker, boolean worker, long maxExecTime, TimeUnit maxExecTimeUnit, EventLoopProfiler profiler) {
     this.prefix = prefix;
     this.checker = checker;
     this.worker = worker;
     this.maxExecTime = maxExecTime;
     this.maxExecTimeUnit = maxExecTimeUnit;
+    this.profiler = profiler;
   }
 
   public Thread newThread(Runnable runnable) {
@@ -42,6 +48,9 @@ public class VertxThreadFactory implements ThreadFactory {
     if (checker != null) {
       checker.registerThread(t, t);
     }
+    if (profiler != null) {
+      t.profile(profiler.createProfile(t));
+    }
     // I know the default is false anyway, but just to be explicit-  Vert.x threads are NOT daemons
     // we want to prevent the JVM from exiting until Vert.x instances are closed
     t.setDaemon(false);
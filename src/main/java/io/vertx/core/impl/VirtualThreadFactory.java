@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread factory creating JDK virtual threads for worker pools, virtual threads are available on JDK 21+
+ * and this class uses reflection so Vert.x can still run on older JDKs.
+ * <p>
+ * A virtual thread cannot be a {@link VertxThread}, it is tracked by the {@link WorkerThreadTracker} instead.
+ */
+public class VirtualThreadFactory implements ThreadFactory {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadFactory.class);
+
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_FACTORY;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method builderName = null;
+    Method builderFactory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      builderName = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor = java.util.concurrent.Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // Virtual threads are a preview feature on JDK 19/20, this fails when preview features are not enabled
+      ofVirtual.invoke(null);
+    } catch (Throwable ignore) {
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_FACTORY = builderFactory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  /**
+   * @return whether the JVM supports virtual threads
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Create an executor service running each task on a new virtual thread.
+   *
+   * @return the executor or {@code null} when the JVM does not support virtual threads
+   */
+  static ExecutorService newExecutor(String prefix, BlockedThreadChecker checker, long maxExecTime, TimeUnit maxExecTimeUnit) {
+    if (!isSupported()) {
+      log.warn("Virtual threads are not supported by this JVM (JDK 21+ is required), falling back to platform threads");
+      return null;
+    }
+    try {
+      VirtualThreadFactory factory = new VirtualThreadFactory(prefix, checker, maxExecTime, maxExecTimeUnit);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+    } catch (Exception e) {
+      log.warn("Could not create a virtual thread executor, falling back to platform threads", e);
+      return null;
+    }
+  }
+
+  private final ThreadFactory factory;
+  private final BlockedThreadChecker checker;
+  private final long maxExecTime;
+  private final TimeUnit maxExecTimeUnit;
+
+  private VirtualThreadFactory(String prefix, BlockedThreadChecker checker, long maxExecTime, TimeUnit maxExecTimeUnit) throws Exception {
+    Object builder = OF_VIRTUAL.invoke(null);
+    builder = BUILDER_NAME.invoke(builder, prefix, 0L);
+    this.factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+    this.checker = checker;
+    this.maxExecTime = maxExecTime;
+    this.maxExecTimeUnit = maxExecTimeUnit;
+  }
+
+  @Override
+  public Thread newThread(Runnable runnable) {
+    WorkerThreadTracker.Worker worker = new WorkerThreadTracker.Worker(maxExecTime, maxExecTimeUnit);
+    return factory.newThread(() -> {
+      WorkerThreadTracker.currentWorker(worker);
+      if (checker != null) {
+        checker.registerTask(worker);
+      }
+      try {
+        runnable.run();
+      } finally {
+        if (checker != null) {
+          checker.unregisterTask();
+        }
+        WorkerThreadTracker.currentWorker(null);
+      }
+    });
+  }
+}
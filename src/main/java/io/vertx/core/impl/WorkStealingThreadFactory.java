@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread factory for work-stealing worker pools backed by a {@link ForkJoinPool}.
+ * <p>
+ * A {@link ForkJoinWorkerThread} cannot be a {@link VertxThread}, like virtual threads each thread is tracked by the
+ * {@link WorkerThreadTracker}.
+ */
+public class WorkStealingThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+  /**
+   * Create a work-stealing executor service with {@code parallelism} threads.
+   * <p>
+   * The pool is in async mode: the tasks submitted from a pool thread are executed in FIFO order, like the tasks
+   * submitted from other threads.
+   */
+  static ExecutorService newExecutor(String prefix, int parallelism, BlockedThreadChecker checker, long maxExecTime, TimeUnit maxExecTimeUnit) {
+    WorkStealingThreadFactory factory = new WorkStealingThreadFactory(prefix, checker, maxExecTime, maxExecTimeUnit);
+    return new ForkJoinPool(parallelism, factory, null, true);
+  }
+
+  private final String prefix;
+  private final AtomicInteger threadCount = new AtomicInteger(0);
+  private final BlockedThreadChecker checker;
+  private final long maxExecTime;
+  private final TimeUnit maxExecTimeUnit;
+
+  private WorkStealingThreadFactory(String prefix, BlockedThreadChecker checker, long maxExecTime, TimeUnit maxExecTimeUnit) {
+    this.prefix = prefix;
+    this.checker = checker;
+    this.maxExecTime = maxExecTime;
+    this.maxExecTimeUnit = maxExecTimeUnit;
+  }
+
+  @Override
+  public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+    WorkerThreadTracker.Worker worker = new WorkerThreadTracker.Worker(maxExecTime, maxExecTimeUnit);
+    WorkerThread t = new WorkerThread(pool, worker);
+    t.setName(prefix + threadCount.getAndIncrement());
+    // Like Vert.x threads, pool threads are not daemons
+    t.setDaemon(false);
+    if (checker != null) {
+      checker.registerThread(t, worker);
+    }
+    return t;
+  }
+
+  private static class WorkerThread extends ForkJoinWorkerThread {
+
+    private final WorkerThreadTracker.Worker worker;
+
+    private WorkerThread(ForkJoinPool pool, WorkerThreadTracker.Worker worker) {
+      super(pool);
+      this.worker = worker;
+    }
+
+    @Override
+    protected void onStart() {
+      super.onStart();
+      WorkerThreadTracker.currentWorker(worker);
+    }
+
+    @Override
+    protected void onTermination(Throwable exception) {
+      WorkerThreadTracker.currentWorker(null);
+      super.onTermination(exception);
+    }
+  }
+}
@@ -31,7 +31,7 @@ public class WorkerContext extends ContextImpl {
                 Deployment deployment,
                 CloseHooks closeHooks,
                 ClassLoader tccl) {
-    super(vertx, tracer, vertx.getEventLoopGroup().next(), internalBlockingPool, workerPool, deployment, closeHooks, tccl);
+    super(vertx, tracer, vertx.nextEventLoop(), internalBlockingPool, workerPool, deployment, closeHooks, tccl);
   }
 
   @Override
@@ -105,7 +105,7 @@ public class WorkerContext extends ContextImpl {
           metrics.end(execMetric, true);
         }
       }
-    }, workerPool.executor());
+    }, workerExec);
   }
 
   private <T> void execute(TaskQueue queue, T argument, Handler<T> task) {
@@ -126,7 +126,7 @@ public class WorkerContext extends ContextImpl {
             metrics.end(execMetric, true);
           }
         }
-      }, workerPool.executor());
+      }, workerExec);
     }
   }
 
@@ -26,6 +26,7 @@ class WorkerExecutorImpl implements MetricsProvider, WorkerExecutorInternal {
   private final VertxInternal vertx;
   private final CloseHooks closeHooks;
   private final VertxImpl.SharedWorkerPool pool;
+  private volatile Bulkhead bulkhead;
   private boolean closed;
 
   public WorkerExecutorImpl(VertxInternal vertx, CloseHooks closeHooks, VertxImpl.SharedWorkerPool pool) {
@@ -55,6 +56,12 @@ class WorkerExecutorImpl implements MetricsProvider, WorkerExecutorInternal {
     return pool;
   }
 
+  @Override
+  public WorkerExecutorInternal bulkhead(Bulkhead bulkhead) {
+    this.bulkhead = bulkhead;
+    return this;
+  }
+
   @Override
   public <T> Future<@Nullable T> executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered) {
     if (closed) {
@@ -62,7 +69,8 @@ class WorkerExecutorImpl implements MetricsProvider, WorkerExecutorInternal {
     }
     ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
     ContextImpl impl = context instanceof DuplicatedContext ? ((DuplicatedContext)context).delegate : (ContextImpl) context;
-    return ContextImpl.executeBlocking(context, blockingCodeHandler, pool, ordered ? impl.orderedTasks : null);
+    Bulkhead b = bulkhead;
+    return ContextImpl.executeBlocking(context, blockingCodeHandler, pool, b != null ? b : impl.bulkhead, ordered ? impl.orderedTasks : null);
   }
 
   public synchronized <T> void executeBlocking(Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> asyncResultHandler) {
@@ -21,4 +21,13 @@ public interface WorkerExecutorInternal extends WorkerExecutor, Closeable {
   Vertx vertx();
 
   WorkerPool getPool();
+
+  /**
+   * Set a bulkhead on the tasks of this executor, when no bulkhead is set the tasks are accounted to the bulkhead
+   * of the calling deployment.
+   *
+   * @param bulkhead the bulkhead
+   * @return a reference to this, so the API can be used fluently
+   */
+  WorkerExecutorInternal bulkhead(Bulkhead bulkhead);
 }
@@ -13,15 +13,31 @@ package io.vertx.core.impl;
 
 import io.vertx.core.spi.metrics.PoolMetrics;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * A pool running blocking tasks.
+ * <p>
+ * Tasks can be submitted with a priority. Until a non zero priority is used, tasks are submitted directly to the pool.
+ * Once an executor with a non zero priority has been created, every task of the pool, including the tasks with the
+ * default priority {@code 0}, is kept in a priority queue and a pool thread runs the pending task with the highest
+ * priority, tasks of equal priority run in submission order.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class WorkerPool {
 
   private final ExecutorService pool;
   private final PoolMetrics metrics;
+  private final PriorityBlockingQueue<PriorityTask> tasks = new PriorityBlockingQueue<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final Runnable runNext = this::runNext;
+  private final Executor defaultExecutor = task -> execute(task, 0);
+  private volatile boolean prioritized;
 
   public WorkerPool(ExecutorService pool, PoolMetrics metrics) {
     this.pool = pool;
@@ -32,6 +48,39 @@ public class WorkerPool {
     return pool;
   }
 
+  /**
+   * @return an executor submitting tasks with the given {@code priority}, higher priorities run first
+   */
+  Executor executor(int priority) {
+    if (priority == 0) {
+      return defaultExecutor;
+    }
+    prioritized = true;
+    return task -> execute(task, priority);
+  }
+
+  private void execute(Runnable task, int priority) {
+    if (!prioritized) {
+      pool.execute(task);
+      return;
+    }
+    PriorityTask t = new PriorityTask(task, priority, sequence.getAndIncrement());
+    tasks.add(t);
+    try {
+      pool.execute(runNext);
+    } catch (RejectedExecutionException e) {
+      tasks.remove(t);
+      throw e;
+    }
+  }
+
+  private void runNext() {
+    PriorityTask task = tasks.poll();
+    if (task != null) {
+      task.task.run();
+    }
+  }
+
   PoolMetrics metrics() {
     return metrics;
   }
@@ -42,4 +91,25 @@ public class WorkerPool {
     }
     pool.shutdownNow();
   }
+
+  private static final class PriorityTask implements Comparable<PriorityTask> {
+
+    private final Runnable task;
+    private final int priority;
+    private final long sequence;
+
+    private PriorityTask(Runnable task, int priority, long sequence) {
+      this.task = task;
+      this.priority = priority;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(PriorityTask o) {
+      if (priority != o.priority) {
+        return priority > o.priority ? -1 : 1;
+      }
+      return Long.compare(sequence, o.sequence);
+    }
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the worker threads that cannot be a {@link VertxThread}, i.e the virtual threads created by a
+ * {@link VirtualThreadFactory} and the threads of a {@link WorkStealingThreadFactory work-stealing pool}.
+ * <p>
+ * The state a {@link VertxThread} usually carries (the current context and the execution start time) is held instead
+ * by a {@link Worker} bound to the thread with a thread local.
+ */
+public final class WorkerThreadTracker {
+
+  private static final ThreadLocal<Worker> current = new ThreadLocal<>();
+
+  private WorkerThreadTracker() {
+  }
+
+  /**
+   * @return the worker state of the current thread, {@code null} when the current thread is not a tracked worker thread
+   */
+  static Worker currentWorker() {
+    return current.get();
+  }
+
+  /**
+   * Bind the worker state of the current thread, {@code null} unbinds it.
+   */
+  static void currentWorker(Worker worker) {
+    if (worker != null) {
+      current.set(worker);
+    } else {
+      current.remove();
+    }
+  }
+
+  /**
+   * @return whether the current thread is a worker thread bound to a {@link Worker}
+   */
+  public static boolean isOnTrackedWorkerThread() {
+    return current.get() != null;
+  }
+
+  /**
+   * The state of a tracked worker thread, it mirrors the emission state of {@link VertxThread}.
+   */
+  static final class Worker implements BlockedThreadChecker.Task {
+
+    private final long maxExecTime;
+    private final TimeUnit maxExecTimeUnit;
+    private volatile long execStart;
+    private ContextInternal context;
+
+    Worker(long maxExecTime, TimeUnit maxExecTimeUnit) {
+      this.maxExecTime = maxExecTime;
+      this.maxExecTimeUnit = maxExecTimeUnit;
+    }
+
+    ContextInternal context() {
+      return context;
+    }
+
+    ContextInternal beginEmission(ContextInternal context) {
+      if (!ContextImpl.DISABLE_TIMINGS && this.context == null) {
+        execStart = System.nanoTime();
+      }
+      ContextInternal prev = this.context;
+      this.context = context;
+      return prev;
+    }
+
+    void endEmission(ContextInternal prev) {
+      context = prev;
+      if (!ContextImpl.DISABLE_TIMINGS && prev == null) {
+        execStart = 0;
+      }
+    }
+
+    @Override
+    public long startTime() {
+      return execStart;
+    }
+
+    @Override
+    public long maxExecTime() {
+      return maxExecTime;
+    }
+
+    @Override
+    public TimeUnit maxExecTimeUnit() {
+      return maxExecTimeUnit;
+    }
+  }
+}
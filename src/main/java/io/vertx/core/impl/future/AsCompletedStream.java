@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stream emitting the results of a list of futures in the order they complete, the stream ends after
+ * the last result has been emitted.
+ * <p>
+ * Completed results are queued in a lock-free queue and emitted by a single drain loop that any thread can
+ * enter, results completed while the stream is paused or has no handler are buffered.
+ * <p>
+ * When the stream is created on a context, the results are emitted on this context whatever the thread completing
+ * the futures.
+ */
+public class AsCompletedStream<T> implements ReadStream<AsyncResult<T>> {
+
+  private static final Logger log = LoggerFactory.getLogger(AsCompletedStream.class);
+
+  private final Queue<AsyncResult<T>> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger wip = new AtomicInteger();
+  private final AtomicLong demand = new AtomicLong(Long.MAX_VALUE);
+  private final int size;
+  private final ContextInternal context;
+  private volatile Handler<AsyncResult<T>> handler;
+  private volatile Handler<Void> endHandler;
+  private volatile Handler<Throwable> exceptionHandler;
+  private int emitted;
+
+  public AsCompletedStream(List<? extends Future<T>> futures) {
+    this.size = futures.size();
+    this.context = ContextInternal.current();
+    Handler<AsyncResult<T>> onResult = ar -> {
+      queue.add(ar);
+      drain();
+    };
+    for (Future<T> future : futures) {
+      future.onComplete(onResult);
+    }
+  }
+
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    if (context == null || context.isRunningOnContext()) {
+      drainLoop();
+    } else {
+      context.emit(v -> drainLoop());
+    }
+  }
+
+  private void drainLoop() {
+    int missed = 1;
+    while (true) {
+      Handler<AsyncResult<T>> h;
+      // The drain loop is the only consumer of the queue, the peeked result is the one polled after the demand
+      // has been acquired
+      while ((h = handler) != null && queue.peek() != null && acquireDemand()) {
+        AsyncResult<T> ar = queue.poll();
+        emitted++;
+        try {
+          h.handle(ar);
+        } catch (Throwable t) {
+          handleException(t);
+        }
+      }
+      Handler<Void> eh;
+      if (emitted == size && (eh = endHandler) != null) {
+        emitted++;
+        try {
+          eh.handle(null);
+        } catch (Throwable t) {
+          handleException(t);
+        }
+      }
+      missed = wip.addAndGet(-missed);
+      if (missed == 0) {
+        break;
+      }
+    }
+  }
+
+  private boolean acquireDemand() {
+    while (true) {
+      long n = demand.get();
+      if (n == 0L) {
+        return false;
+      }
+      if (n == Long.MAX_VALUE || demand.compareAndSet(n, n - 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void handleException(Throwable t) {
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(t);
+    } else {
+      log.error("Unhandled exception", t);
+    }
+  }
+
+  @Override
+  public AsCompletedStream<T> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public AsCompletedStream<T> handler(Handler<AsyncResult<T>> handler) {
+    this.handler = handler;
+    if (handler != null) {
+      drain();
+    }
+    return this;
+  }
+
+  @Override
+  public AsCompletedStream<T> pause() {
+    demand.set(0L);
+    return this;
+  }
+
+  @Override
+  public AsCompletedStream<T> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public AsCompletedStream<T> fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException();
+    }
+    demand.getAndUpdate(n -> {
+      long val = n + amount;
+      return val < 0L ? Long.MAX_VALUE : val;
+    });
+    drain();
+    return this;
+  }
+
+  @Override
+  public AsCompletedStream<T> endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    drain();
+    return this;
+  }
+}
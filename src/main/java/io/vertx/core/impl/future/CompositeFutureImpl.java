@@ -16,110 +16,96 @@ import io.vertx.core.Future;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Handler;
 
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
+ * The composite future registers the same listener on each of its futures and counts completions with an atomic
+ * counter, the results are not copied and are read from the futures when they are requested.
+ *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class CompositeFutureImpl extends FutureImpl<CompositeFuture> implements CompositeFuture {
 
+  private static final int OP_ALL = 0;
+  private static final int OP_ANY = 1;
+  private static final int OP_JOIN = 2;
+
+  private static final AtomicIntegerFieldUpdater<CompositeFutureImpl> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(CompositeFutureImpl.class, "count");
+
   public static CompositeFuture all(Future<?>... results) {
-    CompositeFutureImpl composite = new CompositeFutureImpl(results);
-    int len = results.length;
-    for (Future<?> result : results) {
-      result.onComplete(ar -> {
-        if (ar.succeeded()) {
-          synchronized (composite) {
-            composite.count++;
-            if (composite.isComplete() || composite.count < len) {
-              return;
-            }
-          }
-          composite.succeed();
-        } else {
-          synchronized (composite) {
-            if (composite.isComplete()) {
-              return;
-            }
-          }
-          composite.fail(ar.cause());
-        }
-      });
-    }
-    if (len == 0) {
-      composite.succeed();
-    }
-    return composite;
+    return new CompositeFutureImpl(OP_ALL, results).init();
   }
 
   public static CompositeFuture any(Future<?>... results) {
-    CompositeFutureImpl composite = new CompositeFutureImpl(results);
-    int len = results.length;
-    for (Future<?> result : results) {
-      result.onComplete(ar -> {
-        if (ar.succeeded()) {
-          synchronized (composite) {
-            if (composite.isComplete()) {
-              return;
-            }
-          }
-          composite.succeed();
-        } else {
-          synchronized (composite) {
-            composite.count++;
-            if (composite.isComplete() || composite.count < len) {
-              return;
-            }
-          }
-          composite.fail(ar.cause());
-        }
-      });
-    }
-    if (results.length == 0) {
-      composite.succeed();
-    }
-    return composite;
+    return new CompositeFutureImpl(OP_ANY, results).init();
   }
 
-  private static final Function<CompositeFuture, Object> ALL = cf -> {
-    int size = cf.size();
-    for (int i = 0;i < size;i++) {
-      if (!cf.succeeded(i)) {
-        return cf.cause(i);
-      }
-    }
-    return cf;
-  };
-
   public static CompositeFuture join(Future<?>... results) {
-    return join(ALL, results);
+    return new CompositeFutureImpl(OP_JOIN, results).init();
   }
 
-  private  static CompositeFuture join(Function<CompositeFuture, Object> pred, Future<?>... results) {
-    CompositeFutureImpl composite = new CompositeFutureImpl(results);
-    int len = results.length;
-    for (Future<?> result : results) {
-      result.onComplete(ar -> {
-        synchronized (composite) {
-          composite.count++;
-          if (composite.isComplete() || composite.count < len) {
-            return;
+  private final int op;
+  private final Future[] results;
+  private volatile int count;
+
+  private CompositeFutureImpl(int op, Future<?>... results) {
+    this.op = op;
+    this.results = results;
+  }
+
+  private CompositeFuture init() {
+    if (results.length == 0) {
+      succeed();
+      return this;
+    }
+    Listener<Object> listener = new Listener<Object>() {
+      @Override
+      public void onSuccess(Object value) {
+        if (op == OP_ANY) {
+          succeed();
+        } else if (COUNT_UPDATER.incrementAndGet(CompositeFutureImpl.this) == results.length) {
+          if (op == OP_ALL) {
+            succeed();
+          } else {
+            joined();
           }
         }
-        composite.complete(pred.apply(composite));
-      });
-    }
-    if (len == 0) {
-      composite.succeed();
+      }
+      @Override
+      public void onFailure(Throwable failure) {
+        if (op == OP_ALL) {
+          fail(failure);
+        } else if (COUNT_UPDATER.incrementAndGet(CompositeFutureImpl.this) == results.length) {
+          if (op == OP_ANY) {
+            fail(failure);
+          } else {
+            joined();
+          }
+        }
+      }
+    };
+    for (Future<?> result : results) {
+      if (isComplete()) {
+        // No need to register more listeners
+        break;
+      }
+      if (result instanceof FutureInternal) {
+        ((FutureInternal<Object>) result).addListener(listener);
+      } else {
+        ((Future<Object>) result).onComplete(listener);
+      }
     }
-    return composite;
+    return this;
   }
 
-  private final Future[] results;
-  private int count;
-
-  private CompositeFutureImpl(Future<?>... results) {
-    this.results = results;
+  private void joined() {
+    for (Future<?> result : results) {
+      if (!result.succeeded()) {
+        fail(result.cause());
+        return;
+      }
+    }
+    succeed();
   }
 
   @Override
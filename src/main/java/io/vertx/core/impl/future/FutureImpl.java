@@ -18,11 +18,21 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.NoStackTraceThrowable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Future implementation.
+ * <p>
+ * The future state is held by a single volatile {@link #state} field updated with CAS transitions:
+ * <ul>
+ *   <li>{@code null}: not yet completed without listeners</li>
+ *   <li>a {@link ListenerNode}: not yet completed, the stack of registered listeners</li>
+ *   <li>a {@link Throwable}: failed</li>
+ *   <li>{@link #NULL_VALUE} or any other value: succeeded</li>
+ * </ul>
+ * Completed futures are read without locking.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -30,8 +40,10 @@ class FutureImpl<T> extends FutureBase<T> {
 
   private static final Object NULL_VALUE = new Object();
 
-  private Object value;
-  private Listener<T> listener;
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<FutureImpl, Object> STATE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(FutureImpl.class, Object.class, "state");
+
+  private volatile Object state;
 
   /**
    * Create a future that hasn't completed yet
@@ -47,39 +59,46 @@ class FutureImpl<T> extends FutureBase<T> {
     super(context);
   }
 
+  private static boolean isPending(Object s) {
+    return s == null || s instanceof ListenerNode;
+  }
+
   /**
    * The result of the operation. This will be null if the operation failed.
    */
-  public synchronized T result() {
-    return value instanceof Throwable ? null : value == NULL_VALUE ? null : (T) value;
+  public T result() {
+    Object s = state;
+    return isPending(s) || s instanceof Throwable || s == NULL_VALUE ? null : (T) s;
   }
 
   /**
    * An exception describing failure. This will be null if the operation succeeded.
    */
-  public synchronized Throwable cause() {
-    return value instanceof Throwable ? (Throwable) value : null;
+  public Throwable cause() {
+    Object s = state;
+    return s instanceof Throwable ? (Throwable) s : null;
   }
 
   /**
    * Did it succeed?
    */
-  public synchronized boolean succeeded() {
-    return value != null && !(value instanceof Throwable);
+  public boolean succeeded() {
+    Object s = state;
+    return !isPending(s) && !(s instanceof Throwable);
   }
 
   /**
    * Did it fail?
    */
-  public synchronized boolean failed() {
-    return value instanceof Throwable;
+  public boolean failed() {
+    return state instanceof Throwable;
   }
 
   /**
    * Has it completed?
    */
-  public synchronized boolean isComplete() {
-    return value != null;
+  public boolean isComplete() {
+    return !isPending(state);
   }
 
   @Override
@@ -136,48 +155,31 @@ class FutureImpl<T> extends FutureBase<T> {
 
   @Override
   public void addListener(Listener<T> listener) {
-    Object v;
-    synchronized (this) {
-      v = value;
-      if (v == null) {
-        if (this.listener == null) {
-          this.listener = listener;
-        } else {
-          ListenerArray<T> listeners;
-          if (this.listener instanceof FutureImpl.ListenerArray) {
-            listeners = (ListenerArray<T>) this.listener;
-          } else {
-            listeners = new ListenerArray<>();
-            listeners.add(this.listener);
-            this.listener = listeners;
-          }
-          listeners.add(listener);
-        }
+    ListenerNode<T> node = null;
+    Object s;
+    while (isPending(s = state)) {
+      if (node == null) {
+        node = new ListenerNode<>(listener);
+      }
+      node.next = (ListenerNode<T>) s;
+      if (STATE_UPDATER.compareAndSet(this, s, node)) {
         return;
       }
     }
-    if (v instanceof Throwable) {
-      emitFailure((Throwable) v, listener);
+    if (s instanceof Throwable) {
+      emitFailure((Throwable) s, listener);
     } else {
-      if (v == NULL_VALUE) {
-        v = null;
-      }
-      emitSuccess((T) v, listener);
+      emitSuccess(s == NULL_VALUE ? null : (T) s, listener);
     }
   }
 
   public boolean tryComplete(T result) {
-    Listener<T> l;
-    synchronized (this) {
-      if (value != null) {
-        return false;
-      }
-      value = result == null ? NULL_VALUE : result;
-      l = listener;
-      listener = null;
+    Object s = complete(result == null ? NULL_VALUE : result);
+    if (s == this) {
+      return false;
     }
-    if (l != null) {
-      emitSuccess(result, l);
+    if (s != null) {
+      emitSuccess(result, listeners((ListenerNode<T>) s));
     }
     return true;
   }
@@ -186,31 +188,65 @@ class FutureImpl<T> extends FutureBase<T> {
     if (cause == null) {
       cause = new NoStackTraceThrowable(null);
     }
-    Listener<T> l;
-    synchronized (this) {
-      if (value != null) {
-        return false;
-      }
-      value = cause;
-      l = listener;
-      listener = null;
+    Object s = complete(cause);
+    if (s == this) {
+      return false;
     }
-    if (l != null) {
-      emitFailure(cause, l);
+    if (s != null) {
+      emitFailure(cause, listeners((ListenerNode<T>) s));
     }
     return true;
   }
 
+  /**
+   * Transition to the completed {@code value} state.
+   *
+   * @return the registered listeners ({@code null} when there are none) or {@code this} when the future was already completed
+   */
+  private Object complete(Object value) {
+    Object s;
+    while (isPending(s = state)) {
+      if (STATE_UPDATER.compareAndSet(this, s, value)) {
+        return s;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * @return the listeners of the stack in registration order
+   */
+  private static <T> Listener<T> listeners(ListenerNode<T> node) {
+    if (node.next == null) {
+      return node.listener;
+    }
+    ListenerArray<T> listeners = new ListenerArray<>();
+    for (ListenerNode<T> n = node;n != null;n = n.next) {
+      listeners.add(n.listener);
+    }
+    Collections.reverse(listeners);
+    return listeners;
+  }
+
   @Override
   public String toString() {
-    synchronized (this) {
-      if (value instanceof Throwable) {
-        return "Future{cause=" + ((Throwable)value).getMessage() + "}";
-      }
-      if (value != null) {
-        return "Future{result=" + (value == NULL_VALUE ? "null" : value) + "}";
-      }
-      return "Future{unresolved}";
+    Object s = state;
+    if (s instanceof Throwable) {
+      return "Future{cause=" + ((Throwable)s).getMessage() + "}";
+    }
+    if (!isPending(s)) {
+      return "Future{result=" + (s == NULL_VALUE ? "null" : s) + "}";
+    }
+    return "Future{unresolved}";
+  }
+
+  private static final class ListenerNode<T> {
+
+    private final Listener<T> listener;
+    private ListenerNode<T> next;
+
+    ListenerNode(Listener<T> listener) {
+      this.listener = listener;
     }
   }
 
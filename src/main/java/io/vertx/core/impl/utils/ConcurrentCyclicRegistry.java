@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A concurrent registry of cyclic sequences of elements designed for keys that are frequently added and removed.
+ * <p/>
+ * Unlike a map of {@link ConcurrentCyclicSequence}, the sequence of a key is a mutable {@link Entry} that stays
+ * in the map as long as it is not empty: adding or removing an element of a key that has other elements only updates
+ * the elements array of its entry with a compare-and-set, the map is only updated when the first element of a key is
+ * added or when its last element is removed.
+ * <p/>
+ * An entry whose last element is removed is retired, an element added concurrently to a retired entry is added to
+ * a new entry instead, so the registry never loses an element.
+ * <p/>
+ * Like {@link ConcurrentCyclicSequence}, the round robin index of an entry is incremented without locking.
+ */
+public class ConcurrentCyclicRegistry<K, T> {
+
+  private final ConcurrentMap<K, Entry<T>> map = new ConcurrentHashMap<>();
+
+  /**
+   * Add {@code element} at the tail of the sequence of {@code key}.
+   *
+   * @param key the key
+   * @param element the element to add
+   */
+  public void add(K key, T element) {
+    while (true) {
+      Entry<T> entry = map.get(key);
+      if (entry == null) {
+        entry = new Entry<>(element);
+        if (map.putIfAbsent(key, entry) == null) {
+          return;
+        }
+      } else if (entry.add(element)) {
+        return;
+      } else {
+        // Retired entry, it is being removed from the map
+        map.remove(key, entry);
+      }
+    }
+  }
+
+  /**
+   * Remove the first occurrence of {@code element} in the sequence of {@code key}.
+   *
+   * @param key the key
+   * @param element the element to remove
+   * @return whether the element was removed
+   */
+  public boolean remove(K key, T element) {
+    Entry<T> entry = map.get(key);
+    if (entry == null) {
+      return false;
+    }
+    switch (entry.remove(element)) {
+      case Entry.RETIRED:
+        map.remove(key, entry);
+        return true;
+      case Entry.REMOVED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @param key the key
+   * @return the sequence of {@code key} or {@code null} when the key has no elements
+   */
+  public Entry<T> get(K key) {
+    Entry<T> entry = map.get(key);
+    return entry != null && entry.elements != null ? entry : null;
+  }
+
+  /**
+   * @return a view of the sequences of this registry
+   */
+  public Collection<Entry<T>> values() {
+    return Collections.unmodifiableCollection(map.values());
+  }
+
+  /**
+   * The mutable cyclic sequence of the elements of a key.
+   */
+  public static final class Entry<T> implements Iterable<T> {
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private static final int NOT_FOUND = 0;
+    private static final int REMOVED = 1;
+    private static final int RETIRED = 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Entry, Object[]> ELEMENTS_UPDATER =
+      AtomicReferenceFieldUpdater.newUpdater(Entry.class, Object[].class, "elements");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Entry> POS_UPDATER =
+      AtomicIntegerFieldUpdater.newUpdater(Entry.class, "pos");
+
+    // null when the entry is retired
+    private volatile Object[] elements;
+    private volatile int pos;
+
+    private Entry(T element) {
+      elements = new Object[] { element };
+    }
+
+    private boolean add(T element) {
+      while (true) {
+        Object[] current = elements;
+        if (current == null) {
+          return false;
+        }
+        int len = current.length;
+        Object[] copy = Arrays.copyOf(current, len + 1);
+        copy[len] = element;
+        if (ELEMENTS_UPDATER.compareAndSet(this, current, copy)) {
+          return true;
+        }
+      }
+    }
+
+    private int remove(T element) {
+      while (true) {
+        Object[] current = elements;
+        if (current == null) {
+          return NOT_FOUND;
+        }
+        int len = current.length;
+        int idx = -1;
+        for (int i = 0;i < len;i++) {
+          if (Objects.equals(element, current[i])) {
+            idx = i;
+            break;
+          }
+        }
+        if (idx == -1) {
+          return NOT_FOUND;
+        }
+        Object[] copy = null;
+        if (len > 1) {
+          copy = new Object[len - 1];
+          System.arraycopy(current, 0, copy, 0, idx);
+          System.arraycopy(current, idx + 1, copy, idx, len - idx - 1);
+        }
+        if (ELEMENTS_UPDATER.compareAndSet(this, current, copy)) {
+          return copy == null ? RETIRED : REMOVED;
+        }
+      }
+    }
+
+    /**
+     * @return the first element or {@code null} when the sequence is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T first() {
+      Object[] current = elements;
+      return (T) (current != null && current.length > 0 ? current[0] : null);
+    }
+
+    /**
+     * @return the next element in the sequence or {@code null} when the sequence is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T next() {
+      Object[] current = elements;
+      if (current == null) {
+        return null;
+      }
+      int len = current.length;
+      switch (len) {
+        case 0:
+          return null;
+        case 1:
+          return (T) current[0];
+        default:
+          int p = POS_UPDATER.getAndIncrement(this);
+          return (T) current[Math.abs(p % len)];
+      }
+    }
+
+    /**
+     * @return the size of this sequence
+     */
+    public int size() {
+      Object[] current = elements;
+      return current != null ? current.length : 0;
+    }
+
+    /**
+     * @return an iterator over a snapshot of the sequence starting at its first element, the iterator will not
+     *         throw {@link ConcurrentModificationException}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+      Object[] current = elements;
+      return Arrays.asList((T[]) (current != null ? current : EMPTY_ARRAY)).iterator();
+    }
+  }
+}
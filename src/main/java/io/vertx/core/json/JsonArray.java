@@ -12,6 +12,7 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.ReadOnlyList;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
@@ -566,6 +567,29 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
     return new JsonArray(copiedList);
   }
 
+  /**
+   * Get a read-only view of the JSON array.
+   * <p>
+   * The view shares the content of this array, the nested objects, arrays and buffers are returned as read-only
+   * views. Modifying the view throws an {@link UnsupportedOperationException}, a {@link #copy()} of the view is a
+   * regular JSON array.
+   *
+   * @return a read-only view of this array or this array when it is read-only
+   */
+  public JsonArray readOnly() {
+    if (list instanceof ReadOnlyList) {
+      return this;
+    }
+    return new JsonArray(new ReadOnlyList(list));
+  }
+
+  /**
+   * @return whether this array is a read-only view
+   */
+  public boolean isReadOnly() {
+    return list instanceof ReadOnlyList;
+  }
+
   /**
    * Get a Stream over the entries in the JSON array
    *
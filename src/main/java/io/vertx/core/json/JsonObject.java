@@ -11,6 +11,7 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.ReadOnlyMap;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.core.shareddata.impl.ClusterSerializable;
 
@@ -754,7 +755,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   @Override
   public JsonObject copy() {
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (map instanceof LinkedHashMap || map instanceof ReadOnlyMap) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -766,6 +767,29 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     return new JsonObject(copiedMap);
   }
 
+  /**
+   * Get a read-only view of the JSON object.
+   * <p>
+   * The view shares the content of this object, the nested objects, arrays and buffers are returned as read-only
+   * views. Modifying the view throws an {@link UnsupportedOperationException}, a {@link #copy()} of the view is a
+   * regular JSON object.
+   *
+   * @return a read-only view of this object or this object when it is read-only
+   */
+  public JsonObject readOnly() {
+    if (map instanceof ReadOnlyMap) {
+      return this;
+    }
+    return new JsonObject(new ReadOnlyMap(map));
+  }
+
+  /**
+   * @return whether this object is a read-only view
+   */
+  public boolean isReadOnly() {
+    return map instanceof ReadOnlyMap;
+  }
+
   /**
    * Get the underlying {@code Map} as is.
    *
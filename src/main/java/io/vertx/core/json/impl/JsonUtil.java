@@ -81,6 +81,43 @@ public final class JsonUtil {
     return val;
   }
 
+  /**
+   * Wraps the mutable values of a read-only JSON structure in read-only views.
+   * <ul>
+   *   <li>{@code Map} and {@code JsonObject} will be wrapped to a read-only {@code JsonObject}</li>
+   *   <li>{@code List} and {@code JsonArray} will be wrapped to a read-only {@code JsonArray}</li>
+   *   <li>{@code Buffer} will be wrapped to a read-only {@code Buffer}</li>
+   *   <li>{@code byte[]} will be copied</li>
+   * </ul>
+   *
+   * @param val java type
+   * @return the read-only value or {@code val} if it is immutable
+   */
+  @SuppressWarnings("unchecked")
+  public static Object readOnlyValue(Object val) {
+    if (val instanceof JsonObject) {
+      val = ((JsonObject) val).readOnly();
+    } else if (val instanceof Map) {
+      val = new JsonObject((Map) val).readOnly();
+    } else if (val instanceof JsonArray) {
+      val = ((JsonArray) val).readOnly();
+    } else if (val instanceof List) {
+      val = new JsonArray((List) val).readOnly();
+    } else if (val instanceof Buffer) {
+      val = ((Buffer) val).readOnly();
+    } else if (val instanceof byte[]) {
+      val = ((byte[]) val).clone();
+    }
+    return val;
+  }
+
+  /**
+   * @return the exception thrown when a read-only JSON structure is modified
+   */
+  public static UnsupportedOperationException readOnlyException() {
+    return new UnsupportedOperationException("Read-only JSON structure");
+  }
+
   @SuppressWarnings("unchecked")
   public static Object checkAndCopy(Object val) {
     if (val == null) {
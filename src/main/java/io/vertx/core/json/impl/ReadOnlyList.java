@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A read-only view of the list of a {@link io.vertx.core.json.JsonArray}, the values are wrapped in read-only
+ * views when they are accessed.
+ */
+public final class ReadOnlyList extends AbstractList<Object> {
+
+  private final List<Object> list;
+
+  public ReadOnlyList(List<Object> list) {
+    this.list = list;
+  }
+
+  @Override
+  public Object get(int index) {
+    return JsonUtil.readOnlyValue(list.get(index));
+  }
+
+  @Override
+  public int size() {
+    return list.size();
+  }
+
+  @Override
+  public Object set(int index, Object element) {
+    throw JsonUtil.readOnlyException();
+  }
+
+  @Override
+  public void add(int index, Object element) {
+    throw JsonUtil.readOnlyException();
+  }
+
+  @Override
+  public Object remove(int index) {
+    throw JsonUtil.readOnlyException();
+  }
+
+  @Override
+  public void clear() {
+    throw JsonUtil.readOnlyException();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only view of the map of a {@link io.vertx.core.json.JsonObject}, the values are wrapped in read-only
+ * views when they are accessed.
+ */
+public final class ReadOnlyMap extends AbstractMap<String, Object> {
+
+  private final Map<String, Object> map;
+
+  public ReadOnlyMap(Map<String, Object> map) {
+    this.map = map;
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return JsonUtil.readOnlyValue(map.get(key));
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    throw JsonUtil.readOnlyException();
+  }
+
+  @Override
+  public Object remove(Object key) {
+    throw JsonUtil.readOnlyException();
+  }
+
+  @Override
+  public void clear() {
+    throw JsonUtil.readOnlyException();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<Entry<String, Object>>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        Iterator<Entry<String, Object>> it = map.entrySet().iterator();
+        return new Iterator<Entry<String, Object>>() {
+          @Override
+          public boolean hasNext() {
+            return it.hasNext();
+          }
+          @Override
+          public Entry<String, Object> next() {
+            Entry<String, Object> entry = it.next();
+            return new SimpleImmutableEntry<>(entry.getKey(), JsonUtil.readOnlyValue(entry.getValue()));
+          }
+        };
+      }
+      @Override
+      public int size() {
+        return map.size();
+      }
+    };
+  }
+}
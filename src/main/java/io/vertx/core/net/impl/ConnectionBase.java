@@ -34,6 +34,7 @@ import javax.security.cert.X509Certificate;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
 
 import static io.vertx.core.spi.metrics.Metrics.METRICS_ENABLED;
 
@@ -62,6 +63,7 @@ public abstract class ConnectionBase {
   public static final AttributeKey<SocketAddress> LOCAL_ADDRESS_OVERRIDE = AttributeKey.valueOf("LocalAddressOverride");
   private static final Logger log = LoggerFactory.getLogger(ConnectionBase.class);
   private static final int MAX_REGION_SIZE = 1024 * 1024;
+  private static final int MAX_WRITE_BATCH_SIZE = 1024;
 
   public final VoidChannelPromise voidPromise;
   protected final VertxInternal vertx;
@@ -70,6 +72,7 @@ public abstract class ConnectionBase {
   private Handler<Throwable> exceptionHandler;
   private Handler<Void> closeHandler;
   private int writeInProgress;
+  private ArrayDeque<PendingWrite> pendingWrites;
   private Object metric;
   private SocketAddress remoteAddress;
   private SocketAddress localAddress;
@@ -226,19 +229,52 @@ public abstract class ConnectionBase {
     write(msg, forceFlush ? true : null, promise);
   }
 
+  private static final class PendingWrite {
+
+    private final Object msg;
+    private final boolean forceFlush;
+    private final ChannelPromise promise;
+
+    private PendingWrite(Object msg, boolean forceFlush, ChannelPromise promise) {
+      this.msg = msg;
+      this.forceFlush = forceFlush;
+      this.promise = promise;
+    }
+  }
+
   private void queueForWrite(Object msg, boolean forceFlush, ChannelPromise promise) {
-    writeInProgress++;
-    chctx.executor().execute(() -> {
+    // Called under the lock, a single drain task writes the messages queued meanwhile
+    if (pendingWrites == null) {
+      pendingWrites = new ArrayDeque<>();
+    }
+    pendingWrites.add(new PendingWrite(msg, forceFlush, promise));
+    if (writeInProgress++ == 0) {
+      chctx.executor().execute(this::drainWrites);
+    }
+  }
+
+  private void drainWrites() {
+    for (int i = 0;i < MAX_WRITE_BATCH_SIZE;i++) {
+      PendingWrite pending;
       boolean flush;
-      if (forceFlush) {
-        flush = true;
-      } else {
+      synchronized (this) {
+        pending = pendingWrites.poll();
+        if (pending == null) {
+          return;
+        }
+        flush = --writeInProgress == 0 || pending.forceFlush;
+      }
+      write(pending.msg, flush, pending.promise);
+      if (flush) {
         synchronized (this) {
-          flush = --writeInProgress == 0;
+          if (writeInProgress == 0) {
+            return;
+          }
         }
       }
-      write(msg, flush, promise);
-    });
+    }
+    // Yield to the other tasks of the event loop
+    chctx.executor().execute(this::drainWrites);
   }
 
   public void writeToChannel(Object obj) {
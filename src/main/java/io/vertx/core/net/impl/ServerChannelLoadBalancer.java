@@ -17,6 +17,8 @@ import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.util.concurrent.EventExecutor;
 import io.vertx.core.Handler;
+import io.vertx.core.impl.EventLoopLoadTracker;
+import io.vertx.core.spi.EventLoopSelector;
 
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,14 +35,25 @@ class ServerChannelLoadBalancer extends ChannelInitializer<Channel> {
   private final VertxEventLoopGroup workers;
   private final ConcurrentMap<EventLoop, WorkerList> workerMap = new ConcurrentHashMap<>();
   private final ChannelGroup channelGroup;
+  private final EventLoopLoadTracker load;
 
   // We maintain a separate hasHandlers variable so we can implement hasHandlers() efficiently
   // As it is called for every HTTP message received
   private volatile boolean hasHandlers;
 
   ServerChannelLoadBalancer(EventExecutor executor) {
-    this.workers = new VertxEventLoopGroup();
+    this(executor, null, null);
+  }
+
+  /**
+   * @param executor the executor of the channel group
+   * @param selector the selector choosing the worker of an accepted channel, {@code null} for round-robin
+   * @param load the event loops load, accepted channels are accounted until they are closed
+   */
+  ServerChannelLoadBalancer(EventExecutor executor, EventLoopSelector selector, EventLoopLoadTracker load) {
+    this.workers = new VertxEventLoopGroup(selector, load);
     this.channelGroup = new DefaultChannelGroup(executor);
+    this.load = load;
   }
 
   public VertxEventLoopGroup workers() {
@@ -58,6 +71,11 @@ class ServerChannelLoadBalancer extends ChannelInitializer<Channel> {
       ch.close();
     } else {
       channelGroup.add(ch);
+      if (load != null) {
+        EventLoop eventLoop = ch.eventLoop();
+        load.register(eventLoop);
+        ch.closeFuture().addListener(future -> load.unregister(eventLoop));
+      }
       handler.handle(ch);
     }
   }
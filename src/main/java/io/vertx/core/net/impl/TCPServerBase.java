@@ -116,7 +116,7 @@ public abstract class TCPServerBase implements Closeable, MetricsProvider {
       if (main == null) {
         servers = new HashSet<>();
         servers.add(this);
-        channelBalancer = new ServerChannelLoadBalancer(vertx.getAcceptorEventLoopGroup().next());
+        channelBalancer = new ServerChannelLoadBalancer(vertx.getAcceptorEventLoopGroup().next(), vertx.eventLoopSelector(), vertx.eventLoopLoad());
         channelBalancer.addWorker(eventLoop, worker);
 
         ServerBootstrap bootstrap = new ServerBootstrap();
@@ -13,6 +13,7 @@ package io.vertx.core.net.impl;
 
 import io.netty.channel.*;
 import io.netty.util.concurrent.*;
+import io.vertx.core.spi.EventLoopSelector;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,11 +31,29 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
 
   private int pos;
   private final List<EventLoopHolder> workers = new ArrayList<>();
+  private final List<EventLoop> eventLoops = new ArrayList<>();
+  private final EventLoopSelector selector;
+  private final EventLoopSelector.Load load;
+
+  public VertxEventLoopGroup() {
+    this(null, null);
+  }
+
+  /**
+   * @param selector the selector choosing the worker of a channel, when {@code null} workers are chosen in a round-robin fashion
+   * @param load the load of the workers
+   */
+  public VertxEventLoopGroup(EventLoopSelector selector, EventLoopSelector.Load load) {
+    this.selector = selector;
+    this.load = load;
+  }
 
   @Override
   public synchronized EventLoop next() {
     if (workers.isEmpty()) {
       throw new IllegalStateException();
+    } else if (selector != null) {
+      return selector.select(eventLoops, load);
     } else {
       EventLoop worker = workers.get(pos).worker;
       pos++;
@@ -82,6 +101,7 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
     EventLoopHolder holder = findHolder(worker);
     if (holder == null) {
       workers.add(new EventLoopHolder(worker));
+      eventLoops.add(worker);
     } else {
       holder.count++;
     }
@@ -123,6 +143,7 @@ public final class VertxEventLoopGroup extends AbstractEventExecutorGroup implem
       holder.count--;
       if (holder.count == 0) {
         workers.remove(holder);
+        eventLoops.remove(worker);
       }
       checkPos();
     } else {
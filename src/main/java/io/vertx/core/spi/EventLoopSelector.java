@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.impl.LeastLoadedEventLoopSelector;
+import io.vertx.core.impl.RoundRobinEventLoopSelector;
+
+import java.util.List;
+
+/**
+ * Selects the event loop of a new context and the event loop of a channel accepted by a server.
+ * <p>
+ * A selector can be called concurrently from any thread.
+ */
+public interface EventLoopSelector {
+
+  /**
+   * @return a selector assigning event loops in a round-robin fashion
+   */
+  static EventLoopSelector roundRobin() {
+    return new RoundRobinEventLoopSelector();
+  }
+
+  /**
+   * @return a selector assigning the event loop with the least registered contexts and channels
+   */
+  static EventLoopSelector leastLoaded() {
+    return new LeastLoadedEventLoopSelector(false);
+  }
+
+  /**
+   * Return a selector assigning the event loop with the lowest measured busy ratio, the number of registered contexts
+   * and channels breaks ties.
+   * <p>
+   * The busy ratio is only measured when event loop profiling is enabled, otherwise this selector behaves
+   * like {@link #leastLoaded()}.
+   *
+   * @return the selector
+   */
+  static EventLoopSelector leastBusy() {
+    return new LeastLoadedEventLoopSelector(true);
+  }
+
+  /**
+   * Select an event loop.
+   *
+   * @param eventLoops the candidate event loops, never empty
+   * @param load the load of the candidate event loops
+   * @return the selected event loop, it must be one of the {@code eventLoops}
+   */
+  EventLoop select(List<EventLoop> eventLoops, Load load);
+
+  /**
+   * The load of the event loops.
+   */
+  interface Load {
+
+    /**
+     * @return the number of deployment contexts and server channels assigned to the {@code eventLoop}
+     */
+    int registrations(EventLoop eventLoop);
+
+    /**
+     * @return the recent busy ratio between {@code 0} and {@code 1} of the {@code eventLoop}, or {@code -1} when it is
+     *         not measured
+     */
+    double busyRatio(EventLoop eventLoop);
+
+  }
+}
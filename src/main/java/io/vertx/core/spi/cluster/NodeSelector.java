@@ -57,4 +57,38 @@ public interface NodeSelector {
    */
   void registrationsLost();
 
+  /**
+   * Invoked by the clustered {@link io.vertx.core.eventbus.EventBus} when the round-trip time of a ping sent to a node
+   * has been measured.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param nodeId the node id
+   * @param rttNanos the round-trip time in nanoseconds
+   */
+  default void roundTripTimeMeasured(String nodeId, long rttNanos) {
+  }
+
+  /**
+   * Invoked by the clustered {@link io.vertx.core.eventbus.EventBus} when a request expecting a reply is sent to a node
+   * selected by {@link #selectForSend(Message, Promise)}.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param nodeId the node id
+   */
+  default void requestSent(String nodeId) {
+  }
+
+  /**
+   * Invoked by the clustered {@link io.vertx.core.eventbus.EventBus} when a request sent to a node is completed, either
+   * because the reply has been received or because the request has failed.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param nodeId the node id
+   * @param latencyNanos the time elapsed since the request was sent in nanoseconds
+   */
+  default void requestCompleted(String nodeId, long latencyNanos) {
+  }
 }
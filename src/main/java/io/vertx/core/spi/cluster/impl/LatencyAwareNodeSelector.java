@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.cluster.impl;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.spi.cluster.ClusterManager;
+import io.vertx.core.spi.cluster.NodeSelector;
+import io.vertx.core.spi.cluster.RegistrationUpdateEvent;
+import io.vertx.core.spi.cluster.impl.selector.Selectors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link NodeSelector} choosing the node of a send with the "power of two choices": two candidate nodes are picked
+ * at random and the message is sent to the node of lower cost.
+ * <p>
+ * The cost of a node is its latency multiplied by its number of outstanding requests plus one. The latency is a peak
+ * exponentially weighted moving average of the request latencies and ping round-trip times of the node: a sample
+ * higher than the average replaces it, a lower sample is averaged with a weight decaying over the
+ * {@link #DEFAULT_DECAY_TIME decay time}, so a slow node is avoided at once and is given traffic back progressively.
+ * <p>
+ * Messages are published to every node like the {@link DefaultNodeSelector}.
+ */
+public class LatencyAwareNodeSelector implements NodeSelector {
+
+  /**
+   * The default decay time of the latency average = 10 seconds
+   */
+  public static final long DEFAULT_DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+  /**
+   * The cost of an outstanding request sent to a node whose latency was never measured = 1 second
+   */
+  private static final double UNKNOWN_LATENCY_PENALTY = TimeUnit.SECONDS.toNanos(1);
+
+  private final double decayTime;
+  private final ConcurrentMap<String, NodeStats> stats = new ConcurrentHashMap<>();
+  private ClusterManager clusterManager;
+  private Selectors selectors;
+
+  public LatencyAwareNodeSelector() {
+    this(DEFAULT_DECAY_TIME, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @param decayTime the decay time of the latency average
+   * @param unit the unit of {@code decayTime}
+   */
+  public LatencyAwareNodeSelector(long decayTime, TimeUnit unit) {
+    Arguments.require(decayTime > 0, "Decay time must be greater than 0");
+    this.decayTime = unit.toNanos(decayTime);
+  }
+
+  @Override
+  public void init(Vertx vertx, ClusterManager clusterManager) {
+    this.clusterManager = clusterManager;
+    selectors = new Selectors(clusterManager);
+  }
+
+  @Override
+  public void eventBusStarted() {
+  }
+
+  @Override
+  public void selectForSend(Message<?> message, Promise<String> promise) {
+    Arguments.require(message.isSend(), "selectForSend used for publishing");
+    selectors.withSelector(message, promise, (prom, selector) -> prom.complete(select(selector.selectForPublish())));
+  }
+
+  @Override
+  public void selectForPublish(Message<?> message, Promise<Iterable<String>> promise) {
+    Arguments.require(!message.isSend(), "selectForPublish used for sending");
+    selectors.withSelector(message, promise, (prom, selector) -> prom.complete(selector.selectForPublish()));
+  }
+
+  @Override
+  public void registrationsUpdated(RegistrationUpdateEvent event) {
+    selectors.dataReceived(event.address(), event.registrations());
+  }
+
+  @Override
+  public void registrationsLost() {
+    selectors.dataLost();
+    // Forget the nodes that left the cluster
+    stats.keySet().retainAll(clusterManager.getNodes());
+  }
+
+  @Override
+  public void roundTripTimeMeasured(String nodeId, long rttNanos) {
+    nodeStats(nodeId).update(rttNanos);
+  }
+
+  @Override
+  public void requestSent(String nodeId) {
+    nodeStats(nodeId).outstanding.incrementAndGet();
+  }
+
+  @Override
+  public void requestCompleted(String nodeId, long latencyNanos) {
+    NodeStats s = nodeStats(nodeId);
+    s.outstanding.decrementAndGet();
+    s.update(latencyNanos);
+  }
+
+  private NodeStats nodeStats(String nodeId) {
+    NodeStats s = stats.get(nodeId);
+    if (s == null) {
+      s = stats.computeIfAbsent(nodeId, id -> new NodeStats());
+    }
+    return s;
+  }
+
+  private String select(Iterable<String> nodeIds) {
+    List<String> candidates;
+    if (nodeIds instanceof List) {
+      candidates = (List<String>) nodeIds;
+    } else {
+      candidates = new ArrayList<>();
+      nodeIds.forEach(candidates::add);
+    }
+    int size = candidates.size();
+    switch (size) {
+      case 0:
+        return null;
+      case 1:
+        return candidates.get(0);
+      default:
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(size);
+        int j = random.nextInt(size - 1);
+        if (j >= i) {
+          j++;
+        }
+        String first = candidates.get(i);
+        String second = candidates.get(j);
+        return cost(first) <= cost(second) ? first : second;
+    }
+  }
+
+  private double cost(String nodeId) {
+    NodeStats s = stats.get(nodeId);
+    return s != null ? s.cost() : 0D;
+  }
+
+  private class NodeStats {
+
+    final AtomicInteger outstanding = new AtomicInteger();
+    private double latency;
+    private long timestamp;
+
+    synchronized void update(long sample) {
+      long now = System.nanoTime();
+      if (sample > latency) {
+        latency = sample;
+      } else {
+        double weight = Math.exp(-(now - timestamp) / decayTime);
+        latency = latency * weight + sample * (1D - weight);
+      }
+      timestamp = now;
+    }
+
+    synchronized double cost() {
+      int pending = Math.max(0, outstanding.get());
+      if (latency == 0D) {
+        return pending * UNKNOWN_LATENCY_PENALTY;
+      }
+      return latency * (pending + 1);
+    }
+  }
+}
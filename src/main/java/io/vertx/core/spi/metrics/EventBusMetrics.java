@@ -74,6 +74,41 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageDelivered(H handler, boolean local) {
   }
 
+  /**
+   * Called when an handler has been delivered a message, this reports the time between the scheduling of the message
+   * and its delivery, including the time the message was buffered by a paused consumer.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param handler the handler processing the message
+   * @param nanos the delivery latency in nanoseconds
+   */
+  default void deliveryLatency(H handler, long nanos) {
+  }
+
+  /**
+   * Called when an handler has processed a message or a batch of messages, this reports the time spent by the
+   * handler.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param handler the handler processing the message
+   * @param nanos the time spent by the handler in nanoseconds
+   */
+  default void handlerTime(H handler, long nanos) {
+  }
+
+  /**
+   * The number of messages buffered by a paused consumer has changed.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param handler the handler of the consumer
+   * @param depth the number of buffered messages
+   */
+  default void pendingQueueDepth(H handler, int depth) {
+  }
+
   /**
    * Called when a message has been sent or published.<p/>
    *
@@ -122,6 +157,56 @@ public interface EventBusMetrics<H> extends Metrics {
   default void messageRead(String address, int numberOfBytes) {
   }
 
+  /**
+   * The queue of messages to write to a cluster node is drained, this reports the number of messages in the queue
+   * before it is drained.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param nodeId the cluster node id
+   * @param depth the number of queued messages
+   */
+  default void writeQueueDepth(String nodeId, int depth) {
+  }
+
+  /**
+   * A message sent to a cluster node was failed because the queue of messages to write to the node is full.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param nodeId the cluster node id
+   * @param address the message address
+   */
+  default void writeQueueFull(String nodeId, String address) {
+  }
+
+  /**
+   * A message has been compressed before being sent over the network, the compression ratio is
+   * {@code numberOfBytes / compressedBytes}.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the message address
+   * @param numberOfBytes the number of bytes of the message
+   * @param compressedBytes the number of bytes of the compressed message
+   * @param nanos the time spent compressing the message in nanoseconds
+   */
+  default void messageCompressed(String address, int numberOfBytes, int compressedBytes, long nanos) {
+  }
+
+  /**
+   * A compressed message has been received from the network and decompressed.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param address the message address
+   * @param numberOfBytes the number of bytes of the decompressed message
+   * @param compressedBytes the number of bytes of the compressed message
+   * @param nanos the time spent decompressing the message in nanoseconds
+   */
+  default void messageDecompressed(String address, int numberOfBytes, int compressedBytes, long nanos) {
+  }
+
   /**
    * Called whenever the event bus delivers a reply failure to the sender/publisher, the
    * {@link io.vertx.core.eventbus.ReplyFailure reply failure} indicates the nature of the failure.<p/>
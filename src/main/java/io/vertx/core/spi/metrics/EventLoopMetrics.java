@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.spi.metrics;
+
+/**
+ * An SPI used internally by Vert.x to gather the latency metrics of an event loop thread, it is only used when
+ * event loop profiling is enabled.
+ * <p>
+ * The {@link #taskDequeued} and {@link #taskExecuted} methods are called from the event loop thread, the
+ * {@link #slowTask} method is called from the blocked thread checker thread.
+ */
+public interface EventLoopMetrics extends Metrics {
+
+  /**
+   * A task submitted from another thread starts its execution on the event loop.
+   *
+   * @param queueDelay the time spent by the task in the event loop queue, in nanoseconds
+   */
+  default void taskDequeued(long queueDelay) {
+  }
+
+  /**
+   * A task has been executed on the event loop.
+   *
+   * @param executionTime the execution time, in nanoseconds
+   */
+  default void taskExecuted(long executionTime) {
+  }
+
+  /**
+   * A task is running past the slow task threshold, this is reported once per task.
+   *
+   * @param executionTime the time elapsed since the task started, in nanoseconds
+   * @param stackTrace the stack trace sampled from the event loop thread
+   */
+  default void slowTask(long executionTime, StackTraceElement[] stackTrace) {
+  }
+}
@@ -56,4 +56,21 @@ public interface PoolMetrics<T> extends Metrics {
    */
   default void end(T t, boolean succeeded) {
   }
+
+  /**
+   * An adaptive pool started a thread because a task waited too long in the queue.
+   *
+   * @param size the number of threads of the pool
+   * @param queueWait the time the task waited in the queue, in nanoseconds
+   */
+  default void grown(int size, long queueWait) {
+  }
+
+  /**
+   * An adaptive pool terminated a thread after it was idle.
+   *
+   * @param size the number of threads of the pool
+   */
+  default void shrunk(int size) {
+  }
 }
@@ -142,6 +142,18 @@ public interface VertxMetrics extends Metrics, Measured {
     return null;
   }
 
+  /**
+   * Provides the event loop metrics SPI when an event loop thread starts and event loop profiling is enabled.
+   * <p>
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param threadName the name of the event loop thread
+   * @return the event loop metrics SPI or {@code null} when metrics are disabled
+   */
+  default EventLoopMetrics createEventLoopMetrics(String threadName) {
+    return null;
+  }
+
   /**
    * Callback to signal when the Vertx instance is fully initialized. Other methods can be called before this method
    * when the instance is being constructed.
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+/**
+ * Encoding of clustered messages to their wire frame, run with {@code -prof gc} to compare the allocation per
+ * message of the read-only bodies written without copy ({@code buffer}), of the copied bodies ({@code bytes}) and of
+ * the bodies encoded by their codec ({@code string} and {@code json}).
+ */
+@State(Scope.Thread)
+public class ClusteredMessageEncodeBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object o) {
+  }
+
+  @Param({"32", "1048576"})
+  public int size;
+
+  @Param({"buffer", "bytes", "string", "json"})
+  public String body;
+
+  private Object sentBody;
+  private MessageCodec<Object, Object> codec;
+  private MultiMap headers;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    byte[] bytes = new byte[size];
+    Arrays.fill(bytes, (byte) 'A');
+    MessageCodec<?, ?> codec;
+    switch (body) {
+      case "buffer":
+        sentBody = Buffer.buffer(bytes).readOnly();
+        codec = CodecManager.BUFFER_MESSAGE_CODEC;
+        break;
+      case "bytes":
+        sentBody = bytes;
+        codec = CodecManager.BYTE_ARRAY_MESSAGE_CODEC;
+        break;
+      case "string":
+        sentBody = new String(bytes);
+        codec = CodecManager.STRING_MESSAGE_CODEC;
+        break;
+      case "json":
+        sentBody = new JsonObject().put("value", new String(bytes));
+        codec = CodecManager.JSON_OBJECT_MESSAGE_CODEC;
+        break;
+      default:
+        throw new IllegalArgumentException(body);
+    }
+    this.codec = (MessageCodec<Object, Object>) codec;
+    headers = MultiMap.caseInsensitiveMultiMap().add("the-header", "the-value");
+  }
+
+  @Benchmark
+  public void encodeToWire() {
+    // A message encodes its content once, the message is created for each encoding
+    ClusteredMessage<?, ?> message = new ClusteredMessage<>("the-sender", "the-address", headers, sentBody, codec, true, null);
+    consume(message.encodeToWire());
+  }
+}
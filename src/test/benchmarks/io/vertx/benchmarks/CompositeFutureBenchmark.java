@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.streams.ReadStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of {@code size} futures, the throughput per future should remain constant as {@code size} grows.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompositeFutureBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object o) {
+  }
+
+  @Param({"10", "1000", "10000", "50000"})
+  public int size;
+
+  private List<Promise<Integer>> promises() {
+    List<Promise<Integer>> promises = new ArrayList<>(size);
+    for (int i = 0;i < size;i++) {
+      promises.add(Promise.promise());
+    }
+    return promises;
+  }
+
+  private List<Future> futures(List<Promise<Integer>> promises) {
+    List<Future> futures = new ArrayList<>(size);
+    for (Promise<Integer> promise : promises) {
+      futures.add(promise.future());
+    }
+    return futures;
+  }
+
+  @Benchmark
+  public void all() {
+    List<Promise<Integer>> promises = promises();
+    CompositeFuture composite = CompositeFuture.all(futures(promises));
+    for (Promise<Integer> promise : promises) {
+      promise.complete(0);
+    }
+    consume(composite.result());
+  }
+
+  @Benchmark
+  public void join() {
+    List<Promise<Integer>> promises = promises();
+    CompositeFuture composite = CompositeFuture.join(futures(promises));
+    for (Promise<Integer> promise : promises) {
+      promise.complete(0);
+    }
+    consume(composite.result());
+  }
+
+  @Benchmark
+  public void asCompleted() {
+    List<Promise<Integer>> promises = promises();
+    List<Future<Integer>> futures = new ArrayList<>(size);
+    for (Promise<Integer> promise : promises) {
+      futures.add(promise.future());
+    }
+    ReadStream<AsyncResult<Integer>> stream = CompositeFuture.asCompleted(futures);
+    stream.handler(CompositeFutureBenchmark::consume);
+    for (Promise<Integer> promise : promises) {
+      promise.complete(0);
+    }
+  }
+}
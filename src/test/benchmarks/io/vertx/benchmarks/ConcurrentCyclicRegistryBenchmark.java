@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.utils.ConcurrentCyclicRegistry;
+import io.vertx.core.impl.utils.ConcurrentCyclicSequence;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the registry with the map of sequences it replaces for the event bus handlers, the round robin
+ * benchmarks of the sequences are inherited.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class ConcurrentCyclicRegistryBenchmark extends ConcurrentCyclicSequenceBenchmark {
+
+  private static final String SHARED = "shared";
+
+  private final AtomicLong ids = new AtomicLong();
+  private ConcurrentMap<String, ConcurrentCyclicSequence<String>> map;
+  private ConcurrentCyclicRegistry<String, String> registry;
+
+  @Setup
+  public void setupRegistry() {
+    map = new ConcurrentHashMap<>();
+    registry = new ConcurrentCyclicRegistry<>();
+    for (int i = 0;i < 16;i++) {
+      String element = "" + i;
+      map.merge(SHARED, new ConcurrentCyclicSequence<>(element), (old, prev) -> old.add(prev.first()));
+      registry.add(SHARED, element);
+    }
+  }
+
+  @Benchmark
+  public String mapChurnUniqueAddress() {
+    String address = "addr-" + ids.getAndIncrement();
+    map.merge(address, new ConcurrentCyclicSequence<>(address), (old, prev) -> old.add(prev.first()));
+    String next = map.get(address).next();
+    map.compute(address, (key, val) -> {
+      ConcurrentCyclicSequence<String> seq = val.remove(address);
+      return seq.size() == 0 ? null : seq;
+    });
+    return next;
+  }
+
+  @Benchmark
+  public String registryChurnUniqueAddress() {
+    String address = "addr-" + ids.getAndIncrement();
+    registry.add(address, address);
+    String next = registry.get(address).next();
+    registry.remove(address, address);
+    return next;
+  }
+
+  @Benchmark
+  public String mapChurnSharedAddress() {
+    String element = "elt-" + ids.getAndIncrement();
+    map.merge(SHARED, new ConcurrentCyclicSequence<>(element), (old, prev) -> old.add(prev.first()));
+    String next = map.get(SHARED).next();
+    map.compute(SHARED, (key, val) -> {
+      ConcurrentCyclicSequence<String> seq = val.remove(element);
+      return seq.size() == 0 ? null : seq;
+    });
+    return next;
+  }
+
+  @Benchmark
+  public String registryChurnSharedAddress() {
+    String element = "elt-" + ids.getAndIncrement();
+    registry.add(SHARED, element);
+    String next = registry.get(SHARED).next();
+    registry.remove(SHARED, element);
+    return next;
+  }
+
+  @Benchmark
+  public String registryNext() {
+    return registry.get(SHARED).next();
+  }
+}
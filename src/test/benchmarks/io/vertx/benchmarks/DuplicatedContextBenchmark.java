@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.ContextLocal;
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The cost of the duplicated context created for each request or message.
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation per request ({@code gc.alloc.rate.norm}) of a bare duplicate,
+ * of a duplicate storing request data in its local context data map (the former behavior of request scoped data)
+ * and of a duplicate storing it in a context local slot.
+ * <p>
+ * The {@code baseline} benchmarks measure a {@link BaselineDuplicate} with the fields of the former duplicated
+ * context, its task queue and its local data map are allocated lazily under the context monitor. The current duplicate
+ * allocates them lazily with a CAS instead, this removes the monitor but does not reduce the allocation of a bare
+ * duplicate: the allocation per request only decreases when the request data is stored in a context local slot
+ * instead of the local data map.
+ */
+@State(Scope.Thread)
+public class DuplicatedContextBenchmark extends BenchmarkBase {
+
+  private static final ContextLocal<String> REQUEST_DATA = ContextLocal.registerLocal(String.class);
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object o) {
+  }
+
+  private Vertx vertx;
+  private ContextInternal context;
+
+  @Setup
+  public void setup() {
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get();
+  }
+
+  @Benchmark
+  public void baselineDuplicate() {
+    consume(new BaselineDuplicate(context));
+  }
+
+  @Benchmark
+  public void baselineDuplicateWithLocalContextData() {
+    BaselineDuplicate duplicate = new BaselineDuplicate(context);
+    duplicate.localContextData().put(REQUEST_DATA, "the-data");
+    consume(duplicate.localContextData().get(REQUEST_DATA));
+  }
+
+  @Benchmark
+  public void duplicate() {
+    consume(context.duplicate());
+  }
+
+  @Benchmark
+  public void duplicateWithLocalContextData() {
+    ContextInternal duplicate = context.duplicate();
+    duplicate.localContextData().put(REQUEST_DATA, "the-data");
+    consume(duplicate.localContextData().get(REQUEST_DATA));
+  }
+
+  @Benchmark
+  public void duplicateWithContextLocal() {
+    ContextInternal duplicate = context.duplicate();
+    duplicate.putLocal(REQUEST_DATA, "the-data");
+    consume(duplicate.getLocal(REQUEST_DATA));
+  }
+
+  /**
+   * The former duplicated context state: the task queue and the local data map are allocated lazily under the
+   * context monitor.
+   */
+  static class BaselineDuplicate {
+
+    private final ContextInternal delegate;
+    private TaskQueue orderedTasks;
+    private ConcurrentMap<Object, Object> localData;
+
+    BaselineDuplicate(ContextInternal delegate) {
+      this.delegate = delegate;
+    }
+
+    TaskQueue orderedTasks() {
+      synchronized (this) {
+        if (orderedTasks == null) {
+          orderedTasks = new TaskQueue();
+        }
+        return orderedTasks;
+      }
+    }
+
+    ConcurrentMap<Object, Object> localContextData() {
+      synchronized (this) {
+        if (localData == null) {
+          localData = new ConcurrentHashMap<>();
+        }
+        return localData;
+      }
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.spi.EventLoopSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Latency of the tasks of verticles deployed after a skewed deployment churn.
+ * <p>
+ * Background verticles are deployed then all undeployed but those of a single event loop, this event loop is kept
+ * busy by the periodic timers of the remaining background verticles. The benchmark then samples the latency of a task
+ * executed in turn by each of the verticles deployed afterwards: with round-robin selection some of them share the
+ * busy event loop and the tail latency grows, a load-aware selection places them on the idle event loops.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventLoopSelectorBenchmark extends BenchmarkBase {
+
+  private static final int EVENT_LOOPS = 4;
+  private static final int BACKGROUND_VERTICLES = 16;
+  private static final int HOT_VERTICLES = 8;
+  private static final long BACKGROUND_SPIN = TimeUnit.MICROSECONDS.toNanos(500) / (BACKGROUND_VERTICLES / EVENT_LOOPS);
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Object o) {
+  }
+
+  private static void spin(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      // Spin
+    }
+  }
+
+  @Param({"roundRobin", "leastLoaded", "leastBusy"})
+  public String selector;
+
+  private Vertx vertx;
+  private Context[] contexts;
+  private int idx;
+
+  private static EventLoopSelector selector(String name) {
+    switch (name) {
+      case "roundRobin":
+        return EventLoopSelector.roundRobin();
+      case "leastLoaded":
+        return EventLoopSelector.leastLoaded();
+      case "leastBusy":
+        return EventLoopSelector.leastBusy();
+      default:
+        throw new IllegalArgumentException(name);
+    }
+  }
+
+  private static class BackgroundVerticle extends AbstractVerticle {
+    final CompletableFuture<Object> eventLoop = new CompletableFuture<>();
+    @Override
+    public void start() {
+      eventLoop.complete(((ContextInternal) context).nettyEventLoop());
+      // The remaining background verticles keep their event loop busy half of the time
+      vertx.setPeriodic(1, id -> spin(BACKGROUND_SPIN));
+    }
+  }
+
+  private static class HotVerticle extends AbstractVerticle {
+    final CompletableFuture<Context> started = new CompletableFuture<>();
+    @Override
+    public void start() {
+      started.complete(context);
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx(new VertxOptions()
+      .setEventLoopPoolSize(EVENT_LOOPS)
+      .setEventLoopProfilingEnabled(true)
+      .setEventLoopSelector(selector(selector)));
+    BackgroundVerticle[] background = new BackgroundVerticle[BACKGROUND_VERTICLES];
+    String[] ids = new String[BACKGROUND_VERTICLES];
+    for (int i = 0;i < BACKGROUND_VERTICLES;i++) {
+      background[i] = new BackgroundVerticle();
+      ids[i] = vertx.deployVerticle(background[i]).toCompletionStage().toCompletableFuture().get();
+    }
+    Object busyEventLoop = background[0].eventLoop.get();
+    for (int i = 1;i < BACKGROUND_VERTICLES;i++) {
+      if (background[i].eventLoop.get() != busyEventLoop) {
+        vertx.undeploy(ids[i]).toCompletionStage().toCompletableFuture().get();
+      }
+    }
+    // Let the busy ratio settle
+    Thread.sleep(1000);
+    List<Context> list = new ArrayList<>();
+    for (int i = 0;i < HOT_VERTICLES;i++) {
+      HotVerticle verticle = new HotVerticle();
+      vertx.deployVerticle(verticle).toCompletionStage().toCompletableFuture().get();
+      list.add(verticle.started.get());
+    }
+    contexts = list.toArray(new Context[0]);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get();
+  }
+
+  @Benchmark
+  public void taskLatency() {
+    Context context = contexts[idx++ % contexts.length];
+    AtomicBoolean done = new AtomicBoolean();
+    context.runOnContext(v -> done.set(true));
+    while (!done.get()) {
+      // Spin
+    }
+    consume(done);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Future chains built with {@code map}, {@code compose} and {@code onComplete}.
+ * <p>
+ * The {@code sameThread} benchmarks complete the future on the benchmark thread, the {@code crossThread} benchmarks
+ * complete it from another thread while the benchmark thread polls the chain for completion.
+ */
+@State(Scope.Thread)
+public class FutureBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final Integer value) {
+  }
+
+  private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+  private static final Function<Integer, Future<Integer>> COMPOSE = i -> Future.succeededFuture(i + 1);
+
+  private ExecutorService completer;
+  private Handler<AsyncResult<Integer>> handler;
+
+  @Setup
+  public void setup() {
+    completer = Executors.newSingleThreadExecutor();
+    handler = ar -> consume(ar.result());
+  }
+
+  @TearDown
+  public void tearDown() {
+    completer.shutdown();
+  }
+
+  private void completeOnOtherThread(Promise<Integer> promise, Future<Integer> chain) {
+    completer.execute(() -> promise.complete(0));
+    while (!chain.isComplete()) {
+      // Spin
+    }
+    consume(chain.result());
+  }
+
+  @Benchmark
+  public void sameThreadOnComplete() {
+    Promise<Integer> promise = Promise.promise();
+    promise.future().onComplete(handler);
+    promise.complete(0);
+  }
+
+  @Benchmark
+  public void sameThreadCompletedOnComplete() {
+    Promise<Integer> promise = Promise.promise();
+    promise.complete(0);
+    promise.future().onComplete(handler);
+  }
+
+  @Benchmark
+  public void sameThreadMap() {
+    Promise<Integer> promise = Promise.promise();
+    promise.future().map(INCREMENT).map(INCREMENT).map(INCREMENT).onComplete(handler);
+    promise.complete(0);
+  }
+
+  @Benchmark
+  public void sameThreadCompose() {
+    Promise<Integer> promise = Promise.promise();
+    promise.future().compose(COMPOSE).compose(COMPOSE).compose(COMPOSE).onComplete(handler);
+    promise.complete(0);
+  }
+
+  @Benchmark
+  public void crossThreadOnComplete() {
+    Promise<Integer> promise = Promise.promise();
+    Future<Integer> chain = promise.future().onComplete(handler);
+    completeOnOtherThread(promise, chain);
+  }
+
+  @Benchmark
+  public void crossThreadMap() {
+    Promise<Integer> promise = Promise.promise();
+    Future<Integer> chain = promise.future().map(INCREMENT).map(INCREMENT).map(INCREMENT);
+    chain.onComplete(handler);
+    completeOnOtherThread(promise, chain);
+  }
+
+  @Benchmark
+  public void crossThreadCompose() {
+    Promise<Integer> promise = Promise.promise();
+    Future<Integer> chain = promise.future().compose(COMPOSE).compose(COMPOSE).compose(COMPOSE);
+    chain.onComplete(handler);
+    completeOnOtherThread(promise, chain);
+  }
+}
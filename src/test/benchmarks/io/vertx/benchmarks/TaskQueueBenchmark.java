@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.impl.TaskQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.LinkedList;
+import java.util.concurrent.Executor;
+
+/**
+ * Ordered task submission from 1, 4 and 16 threads, the executor runs the tasks on the submitting thread
+ * so the benchmark measures the cost of the queue and of the runner election.
+ * <p>
+ * The {@code locking} benchmarks use the previous {@code synchronized} implementation as a baseline.
+ */
+@State(Scope.Benchmark)
+public class TaskQueueBenchmark extends BenchmarkBase {
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public static void consume(final String buf) {
+  }
+
+  private static final Executor DIRECT = Runnable::run;
+
+  private TaskQueue queue;
+  private LockingTaskQueue lockingQueue;
+  private Runnable task;
+
+  @Setup
+  public void setup() {
+    queue = new TaskQueue();
+    lockingQueue = new LockingTaskQueue();
+    task = () -> consume("the-string");
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void execute1() {
+    queue.execute(task, DIRECT);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void execute4() {
+    queue.execute(task, DIRECT);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void execute16() {
+    queue.execute(task, DIRECT);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void locking1() {
+    lockingQueue.execute(task, DIRECT);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void locking4() {
+    lockingQueue.execute(task, DIRECT);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void locking16() {
+    lockingQueue.execute(task, DIRECT);
+  }
+
+  /**
+   * The {@code synchronized} task queue implementation.
+   */
+  static class LockingTaskQueue {
+
+    private static class Task {
+
+      private final Runnable runnable;
+      private final Executor exec;
+
+      Task(Runnable runnable, Executor exec) {
+        this.runnable = runnable;
+        this.exec = exec;
+      }
+    }
+
+    private final LinkedList<Task> tasks = new LinkedList<>();
+    private Executor current;
+    private final Runnable runner = this::run;
+
+    private void run() {
+      for (; ; ) {
+        final Task task;
+        synchronized (tasks) {
+          task = tasks.poll();
+          if (task == null) {
+            current = null;
+            return;
+          }
+          if (task.exec != current) {
+            tasks.addFirst(task);
+            task.exec.execute(runner);
+            current = task.exec;
+            return;
+          }
+        }
+        task.runnable.run();
+      }
+    }
+
+    void execute(Runnable task, Executor executor) {
+      synchronized (tasks) {
+        tasks.add(new Task(task, executor));
+        if (current == null) {
+          current = executor;
+          executor.execute(runner);
+        }
+      }
+    }
+  }
+}
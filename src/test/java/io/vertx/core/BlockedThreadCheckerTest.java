@@ -12,11 +12,15 @@
 package io.vertx.core;
 
 import io.vertx.core.*;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.test.core.BlockedThreadWarning;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -119,4 +123,44 @@ public class BlockedThreadCheckerTest extends VertxTestBase {
     await();
     blockedThreadWarning.expectMessage("vert.x-worker-thread", maxWorkerExecuteTime, maxWorkerExecuteTimeUnit);
   }
+
+  @Test
+  public void testEventLoopProfiling() throws Exception {
+    VertxOptions vertxOptions = new VertxOptions()
+      .setEventLoopProfilingEnabled(true)
+      .setSlowTaskThreshold(50)
+      .setSlowTaskThresholdUnit(TimeUnit.MILLISECONDS);
+    Vertx newVertx = vertx(vertxOptions);
+    Context ctx = newVertx.getOrCreateContext();
+    CountDownLatch latch = new CountDownLatch(1);
+    ctx.runOnContext(v -> {
+      try {
+        Thread.sleep(300);
+      } catch (InterruptedException e) {
+        fail();
+      }
+      latch.countDown();
+    });
+    awaitLatch(latch);
+    // Let the event loop record the task execution
+    CountDownLatch done = new CountDownLatch(1);
+    ctx.runOnContext(v -> done.countDown());
+    awaitLatch(done);
+    waitUntil(() -> {
+      JsonObject snapshot = ((VertxInternal) newVertx).eventLoopProfiler().snapshot();
+      JsonArray eventLoops = snapshot.getJsonArray("eventLoops");
+      for (int i = 0;i < eventLoops.size();i++) {
+        JsonObject eventLoop = eventLoops.getJsonObject(i);
+        JsonObject executionTime = eventLoop.getJsonObject("executionTime");
+        JsonArray slowTasks = eventLoop.getJsonArray("slowTasks");
+        if (executionTime.getLong("count") >= 2 && executionTime.getLong("max") >= TimeUnit.MILLISECONDS.toNanos(300) && slowTasks.size() == 1) {
+          assertTrue(eventLoop.getDouble("busyRatio") > 0D);
+          assertTrue(slowTasks.getJsonObject(0).getJsonArray("stackTrace").encode().contains("sleep"));
+          assertTrue(eventLoop.getJsonObject("queueDelay").getLong("count") >= 2);
+          return true;
+        }
+      }
+      return false;
+    });
+  }
 }
@@ -20,8 +20,11 @@ import org.junit.Test;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -463,6 +466,85 @@ public class ContextTest extends VertxTestBase {
     checkDuplicate(ctx, duplicated);
   }
 
+  private static final ContextLocal<String> CONTEXT_LOCAL = ContextLocal.registerLocal(String.class);
+
+  @Test
+  public void testContextLocal() {
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    ContextInternal duplicate = ctx.duplicate();
+    assertNull(ctx.getLocal(CONTEXT_LOCAL));
+    ctx.putLocal(CONTEXT_LOCAL, "foo");
+    assertEquals("foo", ctx.getLocal(CONTEXT_LOCAL));
+    assertNull(duplicate.getLocal(CONTEXT_LOCAL));
+    assertSame(ctx, duplicate.unwrap());
+    assertEquals("foo", duplicate.unwrap().getLocal(CONTEXT_LOCAL));
+    assertEquals("bar", duplicate.getLocal(CONTEXT_LOCAL, () -> "bar"));
+    assertEquals("bar", duplicate.getLocal(CONTEXT_LOCAL, () -> "juu"));
+    assertEquals("foo", ctx.removeLocal(CONTEXT_LOCAL));
+    assertNull(ctx.getLocal(CONTEXT_LOCAL));
+    assertEquals("bar", duplicate.getLocal(CONTEXT_LOCAL));
+    duplicate.putLocal(CONTEXT_LOCAL, null);
+    assertNull(duplicate.getLocal(CONTEXT_LOCAL));
+  }
+
+  @Test
+  public void testEmitAll() {
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    RuntimeException failure = new RuntimeException();
+    List<Throwable> reported = new ArrayList<>();
+    ctx.exceptionHandler(reported::add);
+    List<Integer> received = new ArrayList<>();
+    new Thread(() -> {
+      ctx.emitAll(Arrays.asList(0, 1, 2, 3), i -> {
+        assertSame(ctx, Vertx.currentContext());
+        received.add(i);
+        if (i == 1) {
+          throw failure;
+        }
+        if (i == 3) {
+          assertEquals(Arrays.asList(0, 1, 2, 3), received);
+          assertEquals(Collections.singletonList(failure), reported);
+          testComplete();
+        }
+      });
+    }).start();
+    await();
+  }
+
+  @Test
+  public void testEmitter() {
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    int num = 5000;
+    AtomicInteger expected = new AtomicInteger();
+    Handler<Integer> emitter = ctx.emitter(i -> {
+      assertSame(ctx, Vertx.currentContext());
+      assertEquals(expected.getAndIncrement(), (int) i);
+      if (i == num - 1) {
+        testComplete();
+      }
+    });
+    new Thread(() -> {
+      for (int i = 0;i < num;i++) {
+        emitter.handle(i);
+      }
+    }).start();
+    await();
+  }
+
+  @Test
+  public void testContextLocalRegisteredAfterContextCreation() {
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    ctx.putLocal(CONTEXT_LOCAL, "foo");
+    ContextLocal<String> late = ContextLocal.registerLocal(String.class);
+    assertNull(ctx.getLocal(late));
+    ctx.putLocal(late, "bar");
+    assertEquals("bar", ctx.getLocal(late));
+    assertEquals("bar", ctx.localContextData().get(late));
+    assertEquals("foo", ctx.getLocal(CONTEXT_LOCAL));
+    assertEquals("bar", ctx.removeLocal(late));
+    assertNull(ctx.getLocal(late));
+  }
+
   private void checkDuplicate(ContextInternal ctx, ContextInternal duplicated) throws Exception {
     assertSame(ctx.nettyEventLoop(), duplicated.nettyEventLoop());
     assertSame(ctx.getDeployment(), duplicated.getDeployment());
@@ -876,4 +958,59 @@ public class ContextTest extends VertxTestBase {
     Context ctx = vertx.getOrCreateContext();
     assertSame(ctx, vertx.getOrCreateContext());
   }
+
+  @Test
+  public void testTaskQueueConcurrentSubmission() throws Exception {
+    TaskQueue queue = new TaskQueue();
+    int numThreads = 8;
+    int numTasks = 10_000;
+    int[] last = new int[numThreads];
+    AtomicInteger running = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(numThreads * numTasks);
+    Executor other = Executors.newSingleThreadExecutor();
+    Thread[] submitters = new Thread[numThreads];
+    for (int i = 0;i < numThreads;i++) {
+      int id = i;
+      last[id] = -1;
+      submitters[i] = new Thread(() -> {
+        for (int j = 0;j < numTasks;j++) {
+          int seq = j;
+          queue.execute(() -> {
+            assertEquals(1, running.incrementAndGet());
+            // Tasks of a submitter run in submission order
+            assertEquals(seq - 1, last[id]);
+            last[id] = seq;
+            running.decrementAndGet();
+            done.countDown();
+          }, (seq % 100) == 0 ? other : workerExecutor);
+        }
+      });
+    }
+    for (Thread submitter : submitters) {
+      submitter.start();
+    }
+    awaitLatch(done);
+    for (int i = 0;i < numThreads;i++) {
+      assertEquals(numTasks - 1, last[i]);
+    }
+    ((ExecutorService) other).shutdown();
+  }
+
+  @Test
+  public void testTaskQueueRejectedTask() throws Exception {
+    TaskQueue queue = new TaskQueue();
+    AtomicBoolean rejectedRan = new AtomicBoolean();
+    try {
+      queue.execute(() -> rejectedRan.set(true), task -> {
+        throw new RejectedExecutionException();
+      });
+      fail();
+    } catch (RejectedExecutionException ignore) {
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    queue.execute(latch::countDown, workerExecutor);
+    awaitLatch(latch);
+    // The rejected task is not run by the next runner
+    assertFalse(rejectedRan.get());
+  }
 }
@@ -84,6 +84,30 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
     assertEquals(options, options.setMaxWorkerExecuteTimeUnit(TimeUnit.MILLISECONDS));
     assertEquals(TimeUnit.MILLISECONDS, options.getMaxWorkerExecuteTimeUnit());
+    assertFalse(options.getUseVirtualThreads());
+    assertEquals(options, options.setUseVirtualThreads(true));
+    assertTrue(options.getUseVirtualThreads());
+    assertEquals(DeploymentOptions.DEFAULT_MAX_WORKER_CONCURRENCY, options.getMaxWorkerConcurrency());
+    assertEquals(options, options.setMaxWorkerConcurrency(4));
+    assertEquals(4, options.getMaxWorkerConcurrency());
+    assertEquals(DeploymentOptions.DEFAULT_MAX_WORKER_QUEUE_SIZE, options.getMaxWorkerQueueSize());
+    assertEquals(options, options.setMaxWorkerQueueSize(0));
+    assertEquals(0, options.getMaxWorkerQueueSize());
+    assertEquals(DeploymentOptions.DEFAULT_WORKER_PRIORITY, options.getWorkerPriority());
+    assertEquals(options, options.setWorkerPriority(10));
+    assertEquals(10, options.getWorkerPriority());
+    try {
+      options.setMaxWorkerConcurrency(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    try {
+      options.setMaxWorkerQueueSize(-2);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
   }
 
   @Test
@@ -110,6 +134,10 @@ public class DeploymentTest extends VertxTestBase {
     options.setWorkerPoolSize(poolSize);
     options.setMaxWorkerExecuteTime(maxWorkerExecuteTime);
     options.setMaxWorkerExecuteTimeUnit(maxWorkerExecuteTimeUnit);
+    options.setUseVirtualThreads(true);
+    options.setMaxWorkerConcurrency(3);
+    options.setMaxWorkerQueueSize(5);
+    options.setWorkerPriority(7);
     DeploymentOptions copy = new DeploymentOptions(options);
     assertEquals(worker, copy.isWorker());
     assertEquals(isolationGroup, copy.getIsolationGroup());
@@ -124,6 +152,10 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(poolSize, copy.getWorkerPoolSize());
     assertEquals(maxWorkerExecuteTime, copy.getMaxWorkerExecuteTime());
     assertEquals(maxWorkerExecuteTimeUnit, copy.getMaxWorkerExecuteTimeUnit());
+    assertTrue(copy.getUseVirtualThreads());
+    assertEquals(3, copy.getMaxWorkerConcurrency());
+    assertEquals(5, copy.getMaxWorkerQueueSize());
+    assertEquals(7, copy.getWorkerPriority());
   }
 
   @Test
@@ -140,6 +172,10 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(def.getWorkerPoolSize(), json.getWorkerPoolSize());
     assertEquals(def.getMaxWorkerExecuteTime(), json.getMaxWorkerExecuteTime());
     assertEquals(def.getMaxWorkerExecuteTimeUnit(), json.getMaxWorkerExecuteTimeUnit());
+    assertEquals(def.getUseVirtualThreads(), json.getUseVirtualThreads());
+    assertEquals(def.getMaxWorkerConcurrency(), json.getMaxWorkerConcurrency());
+    assertEquals(def.getMaxWorkerQueueSize(), json.getMaxWorkerQueueSize());
+    assertEquals(def.getWorkerPriority(), json.getWorkerPriority());
   }
 
   @Test
@@ -162,6 +198,10 @@ public class DeploymentTest extends VertxTestBase {
     json.put("workerPoolSize", poolSize);
     json.put("maxWorkerExecuteTime", maxWorkerExecuteTime);
     json.put("maxWorkerExecuteTimeUnit", maxWorkerExecuteTimeUnit);
+    json.put("useVirtualThreads", true);
+    json.put("maxWorkerConcurrency", 3);
+    json.put("maxWorkerQueueSize", 5);
+    json.put("workerPriority", 7);
     DeploymentOptions options = new DeploymentOptions(json);
     assertEquals(worker, options.isWorker());
     assertEquals("bar", options.getConfig().getString("foo"));
@@ -170,6 +210,10 @@ public class DeploymentTest extends VertxTestBase {
     assertEquals(poolSize, options.getWorkerPoolSize());
     assertEquals(maxWorkerExecuteTime, options.getMaxWorkerExecuteTime());
     assertEquals(maxWorkerExecuteTimeUnit, options.getMaxWorkerExecuteTimeUnit());
+    assertTrue(options.getUseVirtualThreads());
+    assertEquals(3, options.getMaxWorkerConcurrency());
+    assertEquals(5, options.getMaxWorkerQueueSize());
+    assertEquals(7, options.getWorkerPriority());
   }
 
   @Test
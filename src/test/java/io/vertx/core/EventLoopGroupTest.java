@@ -11,10 +11,18 @@
 
 package io.vertx.core;
 
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.spi.EventLoopSelector;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -25,4 +33,30 @@ public class EventLoopGroupTest extends VertxTestBase {
     EventLoopGroup elp = vertx.nettyEventLoopGroup();
     assertNotNull(elp);
   }
+
+  @Test
+  public void testLeastLoadedEventLoopSelector() {
+    Vertx vertx = vertx(new VertxOptions().setEventLoopPoolSize(4).setEventLoopSelector(EventLoopSelector.leastLoaded()));
+    // Skew the load of the first event loop
+    EventLoop skewed = ((VertxInternal) vertx).nextEventLoop();
+    ((VertxInternal) vertx).eventLoopLoad().register(skewed);
+    ((VertxInternal) vertx).eventLoopLoad().register(skewed);
+    Map<EventLoop, AtomicInteger> assignments = new ConcurrentHashMap<>();
+    vertx.deployVerticle(() -> new AbstractVerticle() {
+      @Override
+      public void start() {
+        assignments.computeIfAbsent(((ContextInternal) context).nettyEventLoop(), el -> new AtomicInteger()).incrementAndGet();
+      }
+    }, new DeploymentOptions().setInstances(10), onSuccess(id -> {
+      assertEquals(4, assignments.size());
+      for (Map.Entry<EventLoop, AtomicInteger> entry : assignments.entrySet()) {
+        assertEquals(entry.getKey() == skewed ? 1 : 3, entry.getValue().get());
+      }
+      vertx.undeploy(id, onSuccess(v -> {
+        assertEquals(2, ((VertxInternal) vertx).eventLoopLoad().registrations(skewed));
+        testComplete();
+      }));
+    }));
+    await();
+  }
 }
@@ -11,10 +11,17 @@
 
 package io.vertx.core;
 
+import io.vertx.core.impl.VirtualThreadFactory;
 import io.vertx.test.core.VertxTestBase;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -161,4 +168,187 @@ public class ExecuteBlockingTest extends VertxTestBase {
     long leeway = 1000;
     assertTrue(now - start < pause + leeway);
   }
+
+  @Test
+  public void testExecuteBlockingOnVirtualThreads() throws Exception {
+    Assume.assumeTrue(VirtualThreadFactory.isSupported());
+    Vertx vertx = vertx(new VertxOptions().setUseVirtualThreads(true).setWorkerPoolSize(1));
+    int numExecBlocking = 100;
+    long pause = 1000;
+    CountDownLatch latch = new CountDownLatch(numExecBlocking);
+    long start = System.currentTimeMillis();
+    vertx.runOnContext(v -> {
+      Context ctx = vertx.getOrCreateContext();
+      for (int i = 0; i < numExecBlocking; i++) {
+        vertx.executeBlocking(future -> {
+          assertSame(ctx, vertx.getOrCreateContext());
+          assertTrue(Thread.currentThread().getName().startsWith("vert.x-virtual-worker-thread"));
+          assertTrue(Context.isOnWorkerThread());
+          assertFalse(Context.isOnEventLoopThread());
+          try {
+            Thread.sleep(pause);
+          } catch (Exception ignore) {
+          }
+          future.complete("done!");
+        }, false, onSuccess(res -> {
+          assertSame(ctx, vertx.getOrCreateContext());
+          assertTrue(Context.isOnEventLoopThread());
+          latch.countDown();
+        }));
+      }
+    });
+    awaitLatch(latch);
+    // The worker pool size is not a limit for virtual threads
+    assertTrue(System.currentTimeMillis() - start < 5 * pause);
+  }
+
+  @Test
+  public void testOrderedExecuteBlockingOnVirtualThreads() throws Exception {
+    Assume.assumeTrue(VirtualThreadFactory.isSupported());
+    Vertx vertx = vertx(new VertxOptions().setUseVirtualThreads(true));
+    int num = 1000;
+    AtomicInteger seq = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(num);
+    vertx.runOnContext(v -> {
+      for (int i = 0; i < num; i++) {
+        int expected = i;
+        vertx.executeBlocking(future -> {
+          assertEquals(expected, seq.getAndIncrement());
+          future.complete();
+        }, true, onSuccess(res -> latch.countDown()));
+      }
+    });
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testDeploymentWorkerBulkhead() throws Exception {
+    int maxConcurrency = 2;
+    int maxQueueSize = 2;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    waitFor(maxConcurrency + maxQueueSize + 1);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        for (int i = 0;i < maxConcurrency + maxQueueSize + 1;i++) {
+          vertx.executeBlocking(fut -> {
+            int n = running.incrementAndGet();
+            maxRunning.accumulateAndGet(n, Math::max);
+            try {
+              awaitLatch(release);
+            } catch (InterruptedException e) {
+              fut.fail(e);
+              return;
+            }
+            running.decrementAndGet();
+            fut.complete();
+          }, false, ar -> {
+            if (ar.failed()) {
+              // Only the task submitted beyond the quota is rejected
+              assertTrue(ar.cause() instanceof RejectedExecutionException);
+              release.countDown();
+            }
+            complete();
+          });
+        }
+      }
+    }, new DeploymentOptions().setMaxWorkerConcurrency(maxConcurrency).setMaxWorkerQueueSize(maxQueueSize));
+    await();
+    assertEquals(maxConcurrency, maxRunning.get());
+  }
+
+  @Test
+  public void testWorkerVerticleBulkhead() throws Exception {
+    int maxConcurrency = 1;
+    int maxQueueSize = 1;
+    int numEvents = maxConcurrency + maxQueueSize + 1;
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<Context> ctx = new AtomicReference<>();
+    CountDownLatch deployed = new CountDownLatch(1);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        ctx.set(context);
+      }
+    }, new DeploymentOptions()
+      .setWorker(true)
+      .setMaxWorkerConcurrency(maxConcurrency)
+      .setMaxWorkerQueueSize(maxQueueSize), onSuccess(id -> deployed.countDown()));
+    awaitLatch(deployed);
+    waitFor(maxConcurrency + maxQueueSize + 1 + numEvents);
+    ctx.get().runOnContext(v -> {
+      for (int i = 0;i < maxConcurrency + maxQueueSize;i++) {
+        ctx.get().executeBlocking(fut -> {
+          try {
+            awaitLatch(release);
+          } catch (InterruptedException e) {
+            fail(e);
+          }
+          fut.complete();
+        }, false, onSuccess(res -> complete()));
+      }
+      // The blocking task submitted beyond the quota is rejected
+      ctx.get().executeBlocking(fut -> fail(), false, onFailure(err -> {
+        assertTrue(err instanceof RejectedExecutionException);
+        complete();
+      }));
+      // The worker verticle events are never rejected
+      for (int i = 0;i < numEvents;i++) {
+        ctx.get().runOnContext(v2 -> complete());
+      }
+      release.countDown();
+    });
+    await();
+  }
+
+  @Test
+  public void testDeploymentWorkerPriority() throws Exception {
+    Vertx vertx = vertx(new VertxOptions().setWorkerPoolSize(1));
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+    int num = 5;
+    CountDownLatch done = new CountDownLatch(num + 1);
+    AtomicReference<Context> control = new AtomicReference<>();
+    CountDownLatch deployed = new CountDownLatch(1);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        control.set(context);
+      }
+    }, new DeploymentOptions().setWorkerPriority(10), onSuccess(id -> deployed.countDown()));
+    awaitLatch(deployed);
+    vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        vertx.executeBlocking(fut -> {
+          blocked.countDown();
+          try {
+            awaitLatch(release);
+          } catch (InterruptedException e) {
+            fail(e);
+          }
+          fut.complete();
+        }, false, null);
+        for (int i = 0;i < num;i++) {
+          vertx.executeBlocking(fut -> {
+            order.add("bulk");
+            fut.complete();
+          }, false, ar -> done.countDown());
+        }
+      }
+    });
+    awaitLatch(blocked);
+    control.get().runOnContext(v -> {
+      control.get().executeBlocking(fut -> {
+        order.add("control");
+        fut.complete();
+      }, false, ar -> done.countDown());
+      release.countDown();
+    });
+    awaitLatch(done);
+    assertEquals("control", order.get(0));
+  }
 }
@@ -13,6 +13,7 @@ package io.vertx.core;
 
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.NoStackTraceThrowable;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
@@ -553,6 +554,118 @@ public class FutureTest extends VertxTestBase {
     assertNull(composite.causes().get(1));
   }
 
+  @Test
+  public void testAllConcurrentCompletion() throws Exception {
+    int size = 10000;
+    List<Promise<Integer>> promises = new ArrayList<>();
+    List<Future> futures = new ArrayList<>();
+    for (int i = 0;i < size;i++) {
+      Promise<Integer> promise = Promise.promise();
+      promises.add(promise);
+      futures.add(promise.future());
+    }
+    CompositeFuture composite = CompositeFuture.all(futures);
+    Thread[] threads = new Thread[4];
+    for (int i = 0;i < threads.length;i++) {
+      int offset = i;
+      threads[i] = new Thread(() -> {
+        for (int j = offset;j < size;j += threads.length) {
+          promises.get(j).complete(j);
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(composite.succeeded());
+    for (int i = 0;i < size;i++) {
+      assertEquals(i, (int) composite.resultAt(i));
+    }
+  }
+
+  @Test
+  public void testAsCompleted() {
+    Promise<String> p1 = Promise.promise();
+    Promise<String> p2 = Promise.promise();
+    Promise<String> p3 = Promise.promise();
+    List<String> results = new ArrayList<>();
+    AtomicBoolean ended = new AtomicBoolean();
+    ReadStream<AsyncResult<String>> stream = CompositeFuture.asCompleted(Arrays.asList(p1.future(), p2.future(), p3.future()));
+    stream.endHandler(v -> ended.set(true));
+    stream.handler(ar -> results.add(ar.succeeded() ? ar.result() : ar.cause().getMessage()));
+    p2.complete("2");
+    p3.fail("3");
+    assertEquals(Arrays.asList("2", "3"), results);
+    assertFalse(ended.get());
+    p1.complete("1");
+    assertEquals(Arrays.asList("2", "3", "1"), results);
+    assertTrue(ended.get());
+  }
+
+  @Test
+  public void testAsCompletedFetch() {
+    List<Promise<Integer>> promises = new ArrayList<>();
+    List<Future<Integer>> futures = new ArrayList<>();
+    for (int i = 0;i < 4;i++) {
+      Promise<Integer> promise = Promise.promise();
+      promises.add(promise);
+      futures.add(promise.future());
+    }
+    List<Integer> results = new ArrayList<>();
+    AtomicBoolean ended = new AtomicBoolean();
+    ReadStream<AsyncResult<Integer>> stream = CompositeFuture.asCompleted(futures);
+    stream.pause();
+    stream.handler(ar -> results.add(ar.result()));
+    stream.endHandler(v -> ended.set(true));
+    for (int i = 3;i >= 0;i--) {
+      promises.get(i).complete(i);
+    }
+    assertEquals(Collections.emptyList(), results);
+    stream.fetch(1);
+    assertEquals(Collections.singletonList(3), results);
+    stream.fetch(2);
+    assertEquals(Arrays.asList(3, 2, 1), results);
+    assertFalse(ended.get());
+    stream.resume();
+    assertEquals(Arrays.asList(3, 2, 1, 0), results);
+    assertTrue(ended.get());
+  }
+
+  @Test
+  public void testAsCompletedEmitsOnContext() {
+    Context ctx = vertx.getOrCreateContext();
+    Promise<String> p1 = Promise.promise();
+    Promise<String> p2 = Promise.promise();
+    List<String> results = Collections.synchronizedList(new ArrayList<>());
+    ctx.runOnContext(v -> {
+      CompositeFuture.asCompleted(Arrays.asList(p1.future(), p2.future()))
+        .handler(ar -> {
+          assertSame(ctx, Vertx.currentContext());
+          results.add(ar.result());
+        })
+        .endHandler(v2 -> {
+          assertSame(ctx, Vertx.currentContext());
+          assertEquals(Arrays.asList("2", "1"), results);
+          testComplete();
+        });
+      new Thread(() -> {
+        p2.complete("2");
+        p1.complete("1");
+      }).start();
+    });
+    await();
+  }
+
+  @Test
+  public void testAsCompletedEmpty() {
+    AtomicBoolean ended = new AtomicBoolean();
+    CompositeFuture.<String>asCompleted(Collections.emptyList())
+      .handler(ar -> fail())
+      .endHandler(v -> ended.set(true));
+    assertTrue(ended.get());
+  }
+
   @Test
   public void testCompositeFutureMulti() {
     Promise<String> p1 = Promise.promise();
@@ -1390,20 +1503,67 @@ public class FutureTest extends VertxTestBase {
   public void testReleaseListenerAfterCompletion() throws Exception {
     Promise<String> promise = Promise.promise();
     Future<String> f = promise.future();
-    Field handlerField = f.getClass().getSuperclass().getDeclaredField("listener");
-    handlerField.setAccessible(true);
+    // The state holds the listeners until the future completes, then it holds the result
+    Field stateField = f.getClass().getSuperclass().getDeclaredField("state");
+    stateField.setAccessible(true);
     f.onComplete(ar -> {});
-    promise.complete();
-    assertNull(handlerField.get(f));
+    promise.complete("foo");
+    assertEquals("foo", stateField.get(f));
     f.onComplete(ar -> {});
-    assertNull(handlerField.get(f));
+    assertEquals("foo", stateField.get(f));
     promise = Promise.promise();
     f = promise.future();
     f.onComplete(ar -> {});
     promise.fail("abc");
-    assertNull(handlerField.get(f));
+    assertTrue(stateField.get(f) instanceof Throwable);
     f.onComplete(ar -> {});
-    assertNull(handlerField.get(f));
+    assertTrue(stateField.get(f) instanceof Throwable);
+  }
+
+  @Test
+  public void testListenersOrder() {
+    Promise<String> promise = Promise.promise();
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0;i < 5;i++) {
+      int idx = i;
+      promise.future().onComplete(ar -> order.add(idx));
+    }
+    promise.complete("foo");
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4), order);
+  }
+
+  @Test
+  public void testConcurrentListenersAndCompletion() throws Exception {
+    int numThreads = 4;
+    int numListeners = 1000;
+    for (int round = 0;round < 100;round++) {
+      Promise<String> promise = Promise.promise();
+      AtomicInteger count = new AtomicInteger();
+      CountDownLatch start = new CountDownLatch(1);
+      Thread[] threads = new Thread[numThreads];
+      for (int i = 0;i < numThreads;i++) {
+        threads[i] = new Thread(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int j = 0;j < numListeners;j++) {
+            promise.future().onSuccess(v -> count.incrementAndGet());
+          }
+        });
+        threads[i].start();
+      }
+      start.countDown();
+      assertTrue(promise.tryComplete("foo"));
+      assertFalse(promise.tryFail("bar"));
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      // Every listener is called exactly once, whether it was registered before or after the completion
+      assertEquals(numThreads * numListeners, count.get());
+      assertEquals("foo", promise.future().result());
+    }
   }
 
   @Test
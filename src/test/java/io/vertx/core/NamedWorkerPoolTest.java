@@ -26,6 +26,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.concurrent.TimeUnit.*;
@@ -128,6 +129,68 @@ public class NamedWorkerPoolTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWorkStealingPool() {
+    Vertx vertx = vertx(new VertxOptions().setUseWorkStealingPool(true));
+    String poolName = "vert.x-" + TestUtils.randomAlphaString(10);
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(poolName, 4);
+    int num = 1000;
+    AtomicInteger count = new AtomicInteger();
+    Context ctx = vertx.getOrCreateContext();
+    ctx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        int expected = i;
+        worker.executeBlocking(fut -> {
+          assertTrue(Thread.currentThread().getName().startsWith(poolName + "-"));
+          assertTrue(Context.isOnWorkerThread());
+          assertSame(ctx, Vertx.currentContext());
+          assertEquals(expected, count.getAndIncrement());
+          fut.complete(null);
+        }, ar -> {
+          if (expected == num - 1) {
+            vertx.executeBlocking(fut -> {
+              assertTrue(Thread.currentThread().getName().startsWith("vert.x-worker-thread-"));
+              assertTrue(Context.isOnWorkerThread());
+              fut.complete();
+            }, onSuccess(v2 -> testComplete()));
+          }
+        });
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testAdaptivePool() throws Exception {
+    Vertx vertx = vertx(new VertxOptions()
+      .setAdaptiveWorkerPoolsEnabled(true)
+      .setWorkerPoolMinSize(1)
+      .setWorkerPoolMaxQueueWait(10)
+      .setWorkerPoolMaxQueueWaitUnit(MILLISECONDS));
+    String poolName = "vert.x-" + TestUtils.randomAlphaString(10);
+    int num = 4;
+    waitFor(num);
+    WorkerExecutor worker = vertx.createSharedWorkerExecutor(poolName, num);
+    // Each task blocks until all tasks are running, the pool must grow from 1 to num threads
+    CountDownLatch running = new CountDownLatch(num);
+    Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+    for (int i = 0; i < num; i++) {
+      worker.executeBlocking(fut -> {
+        threads.add(Thread.currentThread());
+        running.countDown();
+        try {
+          awaitLatch(running);
+        } catch (InterruptedException e) {
+          fail(e);
+          return;
+        }
+        fut.complete(null);
+      }, false, onSuccess(v -> complete()));
+    }
+    await();
+    assertEquals(num, threads.size());
+  }
+
   @Test
   public void testUnordered() throws Exception {
     String poolName = "vert.x-" + TestUtils.randomAlphaString(10);
@@ -11,12 +11,18 @@
 
 package io.vertx.core;
 
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TimerWheel;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -446,4 +452,64 @@ public class TimerTest extends VertxTestBase {
     });
     await();
   }
+
+  @Test
+  public void testManyTimersFireInOrder() {
+    int num = 1000;
+    AtomicInteger expected = new AtomicInteger();
+    for (int i = 0;i < num;i++) {
+      int idx = i;
+      // Several timers share the same tick of the timer wheel
+      vertx.setTimer(1 + i / 10, id -> {
+        assertEquals(idx, expected.getAndIncrement());
+        if (idx == num - 1) {
+          testComplete();
+        }
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testCancelManyTimers() {
+    long[] ids = new long[1000];
+    for (int i = 0;i < ids.length;i++) {
+      ids[i] = vertx.setTimer(50 + i, id -> fail());
+    }
+    for (long id : ids) {
+      assertTrue(vertx.cancelTimer(id));
+    }
+    vertx.setTimer(1100, id -> testComplete());
+    await();
+  }
+
+  @Test
+  public void testTimerTickResolution() {
+    Vertx vertx = vertx(new VertxOptions().setTimerTickResolution(20).setTimerTickResolutionUnit(TimeUnit.MILLISECONDS));
+    long start = System.nanoTime();
+    vertx.setTimer(5, id -> {
+      // The deadline is rounded up to the next tick but never fires early
+      assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(5));
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testTimerOnForeignEventLoop() throws Exception {
+    EventLoopGroup group = new DefaultEventLoopGroup(1);
+    EventLoop eventLoop = group.next();
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    ContextInternal context = vertxInternal.createEventLoopContext(eventLoop, null, Thread.currentThread().getContextClassLoader());
+    TimerWheel wheel = vertxInternal.timerWheel(eventLoop);
+    CountDownLatch latch = new CountDownLatch(1);
+    context.runOnContext(v -> vertx.setTimer(10, id -> {
+      assertSame(eventLoop, ((ContextInternal) Vertx.currentContext()).nettyEventLoop());
+      latch.countDown();
+    }));
+    awaitLatch(latch);
+    group.shutdownGracefully(0, 10, TimeUnit.SECONDS);
+    // The wheel of the event loop is discarded once the event loop terminates
+    assertWaitUntil(() -> vertxInternal.timerWheel(eventLoop) != wheel);
+  }
 }
@@ -11,9 +11,11 @@
 
 package io.vertx.core;
 
+import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.spi.EventLoopSelector;
 import io.vertx.core.spi.cluster.ClusterManager;
 import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
@@ -119,6 +121,44 @@ public class VertxOptionsTest extends VertxTestBase {
     } catch (IllegalArgumentException e) {
       assertEquals(randomLong, options.getEventBusOptions().getClusterPingReplyInterval());
     }
+    assertEquals(EventBusOptions.DEFAULT_CLUSTER_WRITE_QUEUE_MAX_SIZE, options.getEventBusOptions().getClusterWriteQueueMaxSize());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterWriteQueueMaxSize(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterWriteQueueMaxSize());
+    try {
+      options.getEventBusOptions().setClusterWriteQueueMaxSize(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterWriteQueueMaxSize());
+    }
+    assertEquals(EventBusOptions.DEFAULT_CLUSTER_CONNECTIONS_PER_NODE, options.getEventBusOptions().getClusterConnectionsPerNode());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterConnectionsPerNode(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterConnectionsPerNode());
+    try {
+      options.getEventBusOptions().setClusterConnectionsPerNode(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterConnectionsPerNode());
+    }
+    assertEquals(EventBusOptions.DEFAULT_CLUSTER_COMPRESSION, options.getEventBusOptions().isClusterCompression());
+    options.getEventBusOptions().setClusterCompression(true);
+    assertTrue(options.getEventBusOptions().isClusterCompression());
+    assertEquals(EventBusOptions.DEFAULT_CLUSTER_COMPRESSION_THRESHOLD, options.getEventBusOptions().getClusterCompressionThreshold());
+    options.getEventBusOptions().setClusterCompressionThreshold(0);
+    assertEquals(0, options.getEventBusOptions().getClusterCompressionThreshold());
+    rand = TestUtils.randomPositiveInt();
+    options.getEventBusOptions().setClusterCompressionThreshold(rand);
+    assertEquals(rand, options.getEventBusOptions().getClusterCompressionThreshold());
+    try {
+      options.getEventBusOptions().setClusterCompressionThreshold(-1);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      assertEquals(rand, options.getEventBusOptions().getClusterCompressionThreshold());
+    }
+    assertEquals(EventBusOptions.DEFAULT_ADDRESS_STATISTICS_ENABLED, options.getEventBusOptions().isAddressStatisticsEnabled());
+    options.getEventBusOptions().setAddressStatisticsEnabled(true);
+    assertTrue(options.getEventBusOptions().isAddressStatisticsEnabled());
     assertEquals(1000, options.getBlockedThreadCheckInterval());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setBlockedThreadCheckInterval(rand));
@@ -202,6 +242,73 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(TimeUnit.MINUTES, options.getWarningExceptionTimeUnit());
     assertEquals(options, options.setBlockedThreadCheckIntervalUnit(TimeUnit.MILLISECONDS));
     assertEquals(TimeUnit.MILLISECONDS, options.getBlockedThreadCheckIntervalUnit());
+    assertFalse(options.getUseVirtualThreads());
+    assertEquals(options, options.setUseVirtualThreads(true));
+    assertTrue(options.getUseVirtualThreads());
+    assertFalse(options.getUseWorkStealingPool());
+    assertEquals(options, options.setUseWorkStealingPool(true));
+    assertTrue(options.getUseWorkStealingPool());
+    assertEquals(VertxOptions.DEFAULT_TIMER_TICK_RESOLUTION, options.getTimerTickResolution());
+    assertEquals(VertxOptions.DEFAULT_TIMER_TICK_RESOLUTION_UNIT, options.getTimerTickResolutionUnit());
+    assertEquals(options, options.setTimerTickResolution(10));
+    assertEquals(10, options.getTimerTickResolution());
+    assertEquals(options, options.setTimerTickResolutionUnit(TimeUnit.MICROSECONDS));
+    assertEquals(TimeUnit.MICROSECONDS, options.getTimerTickResolutionUnit());
+    try {
+      options.setTimerTickResolution(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertFalse(options.isEventLoopProfilingEnabled());
+    assertEquals(options, options.setEventLoopProfilingEnabled(true));
+    assertTrue(options.isEventLoopProfilingEnabled());
+    assertEquals(VertxOptions.DEFAULT_SLOW_TASK_THRESHOLD, options.getSlowTaskThreshold());
+    assertEquals(VertxOptions.DEFAULT_SLOW_TASK_THRESHOLD_UNIT, options.getSlowTaskThresholdUnit());
+    assertEquals(options, options.setSlowTaskThreshold(20));
+    assertEquals(20, options.getSlowTaskThreshold());
+    assertEquals(options, options.setSlowTaskThresholdUnit(TimeUnit.MILLISECONDS));
+    assertEquals(TimeUnit.MILLISECONDS, options.getSlowTaskThresholdUnit());
+    try {
+      options.setSlowTaskThreshold(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertFalse(options.isAdaptiveWorkerPoolsEnabled());
+    assertEquals(options, options.setAdaptiveWorkerPoolsEnabled(true));
+    assertTrue(options.isAdaptiveWorkerPoolsEnabled());
+    assertEquals(VertxOptions.DEFAULT_WORKER_POOL_MIN_SIZE, options.getWorkerPoolMinSize());
+    assertEquals(options, options.setWorkerPoolMinSize(4));
+    assertEquals(4, options.getWorkerPoolMinSize());
+    assertEquals(VertxOptions.DEFAULT_WORKER_POOL_MAX_QUEUE_WAIT, options.getWorkerPoolMaxQueueWait());
+    assertEquals(VertxOptions.DEFAULT_WORKER_POOL_MAX_QUEUE_WAIT_UNIT, options.getWorkerPoolMaxQueueWaitUnit());
+    assertEquals(options, options.setWorkerPoolMaxQueueWait(5));
+    assertEquals(5, options.getWorkerPoolMaxQueueWait());
+    assertEquals(options, options.setWorkerPoolMaxQueueWaitUnit(TimeUnit.SECONDS));
+    assertEquals(TimeUnit.SECONDS, options.getWorkerPoolMaxQueueWaitUnit());
+    assertEquals(VertxOptions.DEFAULT_WORKER_POOL_IDLE_TIMEOUT, options.getWorkerPoolIdleTimeout());
+    assertEquals(VertxOptions.DEFAULT_WORKER_POOL_IDLE_TIMEOUT_UNIT, options.getWorkerPoolIdleTimeoutUnit());
+    assertEquals(options, options.setWorkerPoolIdleTimeout(30));
+    assertEquals(30, options.getWorkerPoolIdleTimeout());
+    assertEquals(options, options.setWorkerPoolIdleTimeoutUnit(TimeUnit.MINUTES));
+    assertEquals(TimeUnit.MINUTES, options.getWorkerPoolIdleTimeoutUnit());
+    try {
+      options.setWorkerPoolMinSize(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    try {
+      options.setWorkerPoolIdleTimeout(0);
+      fail("Should throw exception");
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    assertNull(options.getEventLoopSelector());
+    EventLoopSelector selector = EventLoopSelector.leastLoaded();
+    assertEquals(options, options.setEventLoopSelector(selector));
+    assertSame(selector, options.getEventLoopSelector());
   }
 
   @Test
@@ -254,6 +361,19 @@ public class VertxOptionsTest extends VertxTestBase {
     options.setMaxWorkerExecuteTimeUnit(maxWorkerExecuteTimeUnit);
     options.setWarningExceptionTimeUnit(warningExceptionTimeUnit);
     options.setBlockedThreadCheckIntervalUnit(blockedThreadCheckIntervalUnit);
+    options.setUseVirtualThreads(true);
+    options.setUseWorkStealingPool(true);
+    options.setAdaptiveWorkerPoolsEnabled(true);
+    options.setWorkerPoolMinSize(3);
+    options.setWorkerPoolMaxQueueWait(7);
+    options.setWorkerPoolIdleTimeout(11);
+    options.setTimerTickResolution(5);
+    options.setTimerTickResolutionUnit(TimeUnit.MICROSECONDS);
+    options.setEventLoopProfilingEnabled(true);
+    options.setSlowTaskThreshold(50);
+    options.setSlowTaskThresholdUnit(TimeUnit.MILLISECONDS);
+    EventLoopSelector eventLoopSelector = EventLoopSelector.leastBusy();
+    options.setEventLoopSelector(eventLoopSelector);
 
     options = new VertxOptions(options);
     assertEquals(clusterPort, options.getEventBusOptions().getPort());
@@ -279,6 +399,18 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(maxWorkerExecuteTimeUnit, options.getMaxWorkerExecuteTimeUnit());
     assertEquals(warningExceptionTimeUnit, options.getWarningExceptionTimeUnit());
     assertEquals(blockedThreadCheckIntervalUnit, options.getBlockedThreadCheckIntervalUnit());
+    assertTrue(options.getUseVirtualThreads());
+    assertTrue(options.getUseWorkStealingPool());
+    assertTrue(options.isAdaptiveWorkerPoolsEnabled());
+    assertEquals(3, options.getWorkerPoolMinSize());
+    assertEquals(7, options.getWorkerPoolMaxQueueWait());
+    assertEquals(11, options.getWorkerPoolIdleTimeout());
+    assertEquals(5, options.getTimerTickResolution());
+    assertEquals(TimeUnit.MICROSECONDS, options.getTimerTickResolutionUnit());
+    assertTrue(options.isEventLoopProfilingEnabled());
+    assertEquals(50, options.getSlowTaskThreshold());
+    assertEquals(TimeUnit.MILLISECONDS, options.getSlowTaskThresholdUnit());
+    assertSame(eventLoopSelector, options.getEventLoopSelector());
   }
 
   @Test
@@ -304,6 +436,17 @@ public class VertxOptionsTest extends VertxTestBase {
     assertEquals(def.getMaxWorkerExecuteTimeUnit(), json.getMaxWorkerExecuteTimeUnit());
     assertEquals(def.getWarningExceptionTimeUnit(), json.getWarningExceptionTimeUnit());
     assertEquals(def.getBlockedThreadCheckIntervalUnit(), json.getBlockedThreadCheckIntervalUnit());
+    assertEquals(def.getUseVirtualThreads(), json.getUseVirtualThreads());
+    assertEquals(def.getUseWorkStealingPool(), json.getUseWorkStealingPool());
+    assertEquals(def.isAdaptiveWorkerPoolsEnabled(), json.isAdaptiveWorkerPoolsEnabled());
+    assertEquals(def.getWorkerPoolMinSize(), json.getWorkerPoolMinSize());
+    assertEquals(def.getWorkerPoolMaxQueueWait(), json.getWorkerPoolMaxQueueWait());
+    assertEquals(def.getWorkerPoolIdleTimeout(), json.getWorkerPoolIdleTimeout());
+    assertEquals(def.getTimerTickResolution(), json.getTimerTickResolution());
+    assertEquals(def.getTimerTickResolutionUnit(), json.getTimerTickResolutionUnit());
+    assertEquals(def.isEventLoopProfilingEnabled(), json.isEventLoopProfilingEnabled());
+    assertEquals(def.getSlowTaskThreshold(), json.getSlowTaskThreshold());
+    assertEquals(def.getSlowTaskThresholdUnit(), json.getSlowTaskThresholdUnit());
   }
 
   @Test
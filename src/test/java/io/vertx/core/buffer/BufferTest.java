@@ -22,6 +22,7 @@ import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
@@ -1026,6 +1027,35 @@ public class BufferTest {
     assertEquals(100, sliced.length());
   }
 
+  @Test
+  public void testReadOnly() throws Exception {
+    Buffer buff = TestUtils.randomBuffer(100);
+    Buffer readOnly = buff.readOnly();
+    assertTrue(readOnly.isReadOnly());
+    assertFalse(buff.isReadOnly());
+    assertSame(readOnly, readOnly.readOnly());
+    assertEquals(buff, readOnly);
+    try {
+      readOnly.setLong(0, TestUtils.randomLong());
+      fail();
+    } catch (ReadOnlyBufferException e) {
+      // OK
+    }
+    try {
+      readOnly.appendString("foo");
+      fail();
+    } catch (ReadOnlyBufferException e) {
+      // OK
+    }
+    long rand = TestUtils.randomLong();
+    buff.setLong(0, rand);
+    assertEquals(rand, readOnly.getLong(0));
+    Buffer copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    copy.setLong(0, 0L);
+    assertEquals(rand, buff.getLong(0));
+  }
+
   @Test
   public void testSlice2() throws Exception {
     Buffer buff = TestUtils.randomBuffer(100);
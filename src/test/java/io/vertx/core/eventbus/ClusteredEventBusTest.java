@@ -11,15 +11,32 @@
 
 package io.vertx.core.eventbus;
 
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.EventBusImpl;
+import io.vertx.core.eventbus.impl.MessageProducerImpl;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.parsetools.RecordParser;
+import io.vertx.core.spi.cluster.NodeInfo;
+import io.vertx.core.spi.cluster.RegistrationInfo;
+import io.vertx.core.spi.cluster.impl.DefaultNodeSelector;
 import io.vertx.test.core.TestUtils;
+import io.vertx.test.fakecluster.FakeClusterManager;
 import io.vertx.test.tls.Cert;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -196,6 +213,266 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testClusteredMessagesOrder() {
+    startNodes(2);
+    int num = 10000;
+    AtomicInteger expected = new AtomicInteger();
+    MessageConsumer<Integer> consumer = vertices[0].eventBus().<Integer>consumer(ADDRESS1).handler(msg -> {
+      assertEquals(expected.getAndIncrement(), (int) msg.body());
+      if (msg.body() == num - 1) {
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> {
+      new Thread(() -> {
+        for (int i = 0;i < num;i++) {
+          vertices[1].eventBus().send(ADDRESS1, i);
+        }
+      }).start();
+    }));
+    await();
+  }
+
+  @Test
+  public void testWireProtocolVersion2Frame() {
+    CodecManager codecManager = new CodecManager();
+    MultiMap headers = MultiMap.caseInsensitiveMultiMap().add("foo", "bar");
+    ClusteredMessage<String, String> message = new ClusteredMessage<>("the-sender", ADDRESS1, headers, "the-body",
+      CodecManager.STRING_MESSAGE_CODEC, true, null);
+    Buffer frame = message.encodeToWire();
+    assertEquals(2, frame.getByte(4));
+    assertEquals(frame.length() - 4, frame.getInt(0));
+    ClusteredMessage<String, String> received = new ClusteredMessage<>((EventBusImpl) null);
+    received.readFromWire(frame.getBuffer(4, frame.length()), codecManager);
+    assertEquals(ADDRESS1, received.address());
+    assertNull(received.replyAddress());
+    assertEquals("bar", received.headers().get("foo"));
+    assertEquals("the-body", received.body());
+  }
+
+  @Test
+  public void testWireProtocolVersion2Client() {
+    startNodes(1);
+    waitFor(2);
+    vertices[0].eventBus().<String>consumer(ADDRESS1, msg -> {
+      assertEquals("bar", msg.headers().get("foo"));
+      assertEquals("the-body", msg.body());
+      complete();
+    }).completionHandler(onSuccess(v1 -> {
+      NodeInfo nodeInfo = ((VertxInternal) vertices[0]).getClusterManager().getNodeInfo();
+      vertx.createNetClient().connect(nodeInfo.port(), nodeInfo.host(), onSuccess(so -> {
+        so.handler(buff -> {
+          // A client of a previous version pings with the wire protocol version 2 and gets a plain pong
+          assertEquals(1, buff.length());
+          assertEquals(1, buff.getByte(0));
+          MultiMap headers = MultiMap.caseInsensitiveMultiMap().add("foo", "bar");
+          so.write(new ClusteredMessage<>("the-sender", ADDRESS1, headers, "the-body",
+            CodecManager.STRING_MESSAGE_CODEC, true, null).encodeToWire());
+          complete();
+        });
+        so.write(new ClusteredMessage<>("the-sender", "__vertx_ping", null, null,
+          CodecManager.PING_MESSAGE_CODEC, true, null).encodeToWire());
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWireProtocolVersion2Server() throws Exception {
+    startNodes(1);
+    int num = 3;
+    waitFor(num);
+    CodecManager codecManager = new CodecManager();
+    NetServer server = vertx.createNetServer().connectHandler(so -> {
+      // A server of a previous version replies to the protocol negotiation with a plain pong
+      RecordParser parser = RecordParser.newFixed(4);
+      parser.handler(new Handler<Buffer>() {
+        int size = -1;
+        @Override
+        public void handle(Buffer buff) {
+          if (size == -1) {
+            size = buff.getInt(0);
+            parser.fixedSizeMode(size);
+            return;
+          }
+          parser.fixedSizeMode(4);
+          size = -1;
+          // The client keeps on writing frames of the wire protocol version 2
+          assertEquals(2, buff.getByte(0));
+          ClusteredMessage<String, String> received = new ClusteredMessage<>((EventBusImpl) null);
+          received.readFromWire(buff, codecManager);
+          if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
+            so.write(Buffer.buffer(new byte[]{1}));
+          } else {
+            assertEquals(ADDRESS1, received.address());
+            assertEquals("the-body", received.body());
+            // The flow control headers are not sent to a server that would not grant the credits back
+            assertNull(received.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME));
+            complete();
+          }
+        }
+      });
+      so.handler(parser);
+    });
+    // The server joins the cluster as a node with a consumer
+    FakeClusterManager peer = new FakeClusterManager();
+    DefaultNodeSelector nodeSelector = new DefaultNodeSelector();
+    nodeSelector.init(vertx, peer);
+    peer.init(vertx, nodeSelector);
+    Promise<Void> joined = Promise.promise();
+    peer.join(joined);
+    CountDownLatch latch = new CountDownLatch(1);
+    server.listen(0, "localhost")
+      .compose(s -> joined.future())
+      .compose(v -> {
+        Promise<Void> promise = Promise.promise();
+        peer.setNodeInfo(new NodeInfo("localhost", server.actualPort(), null), promise);
+        return promise.future();
+      })
+      .compose(v -> {
+        Promise<Void> promise = Promise.promise();
+        peer.addRegistration(ADDRESS1, new RegistrationInfo(peer.getNodeId(), 0, false), promise);
+        return promise.future();
+      })
+      .onComplete(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    // The producer is not stalled by a server never granting credits
+    MessageProducer<String> producer = vertices[0].eventBus().<String>sender(ADDRESS1).setWriteQueueMaxSize(1);
+    for (int i = 0;i < num;i++) {
+      vertices[0].setTimer(10 + i * 100, id -> producer.write("the-body", onSuccess(v -> assertFalse(producer.writeQueueFull()))));
+    }
+    await();
+  }
+
+  @Test
+  public void testMultipleConnectionsPerNode() {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterConnectionsPerNode(4);
+    startNodes(2, options);
+    int numAddresses = 8;
+    int num = 1000;
+    waitFor(numAddresses);
+    List<Future> registrations = new ArrayList<>();
+    for (int i = 0;i < numAddresses;i++) {
+      AtomicInteger expected = new AtomicInteger();
+      MessageConsumer<Integer> consumer = vertices[0].eventBus().<Integer>consumer(ADDRESS1 + i).handler(msg -> {
+        assertEquals(expected.getAndIncrement(), (int) msg.body());
+        if (msg.body() == num - 1) {
+          complete();
+        }
+      });
+      Promise<Void> registration = Promise.promise();
+      consumer.completionHandler(registration);
+      registrations.add(registration.future());
+    }
+    CompositeFuture.all(registrations).onComplete(onSuccess(v -> {
+      for (int i = 0;i < num;i++) {
+        for (int j = 0;j < numAddresses;j++) {
+          vertices[1].eventBus().send(ADDRESS1 + j, i);
+        }
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testClusterCompression() {
+    VertxOptions compressed = getOptions();
+    compressed.getEventBusOptions().setClusterCompression(true).setClusterCompressionThreshold(64);
+    // The second node does not compress the messages it sends
+    startNodes(compressed, getOptions());
+    int num = 500;
+    waitFor(2);
+    for (int i = 0;i < 2;i++) {
+      AtomicInteger expected = new AtomicInteger();
+      MessageConsumer<JsonObject> consumer = vertices[i].eventBus().<JsonObject>consumer(ADDRESS1 + i).handler(msg -> {
+        int idx = expected.getAndIncrement();
+        assertEquals(idx, (int) msg.body().getInteger("index"));
+        assertEquals(idx % 10 * 100, msg.body().getString("payload").length());
+        if (idx == num - 1) {
+          complete();
+        }
+      });
+      String address = ADDRESS1 + i;
+      int from = 1 - i;
+      consumer.completionHandler(onSuccess(v -> {
+        for (int j = 0;j < num;j++) {
+          // Send messages smaller and greater than the threshold
+          JsonObject body = new JsonObject().put("index", j).put("payload", TestUtils.randomAlphaString(j % 10 * 100));
+          vertices[from].eventBus().send(address, body);
+        }
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testSendBatch() {
+    startNodes(2);
+    int num = 100;
+    List<Object> bodies = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      bodies.add("body-" + i);
+    }
+    List<String> received = new ArrayList<>();
+    MessageConsumer<String> consumer = vertices[1].eventBus().<String>consumer(ADDRESS1).batchHandler(num, batch -> {
+      for (Message<String> msg : batch) {
+        received.add(msg.body());
+      }
+      if (received.size() == num) {
+        assertEquals(bodies, received);
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> {
+      vertices[0].eventBus().sendBatch(ADDRESS1, bodies);
+    }));
+    await();
+  }
+
+  @Test
+  public void testBodyModifiedAfterSend() {
+    startNodes(2);
+    int num = 100;
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<JsonObject> consumer = vertices[1].eventBus().<JsonObject>consumer(ADDRESS1).handler(msg -> {
+      // The body is encoded by the send call, before the message is routed to this node
+      assertEquals(new JsonObject().put("seq", received.get()), msg.body());
+      if (received.incrementAndGet() == num) {
+        testComplete();
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> {
+      JsonObject body = new JsonObject();
+      for (int i = 0;i < num;i++) {
+        body.put("seq", i);
+        vertices[0].eventBus().send(ADDRESS1, body);
+        body.put("seq", -1).put("modified", true);
+        body.remove("modified");
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testClusterWriteQueueFull() {
+    VertxOptions options = getOptions();
+    options.getEventBusOptions().setClusterWriteQueueMaxSize(1);
+    startNodes(2, options);
+    waitFor(2);
+    MessageConsumer<String> consumer = vertices[0].eventBus().<String>consumer(ADDRESS1).handler(msg -> msg.reply("pong"));
+    consumer.completionHandler(onSuccess(v -> {
+      // The first message is queued until the connection to the node is established
+      vertices[1].eventBus().request(ADDRESS1, "ping", onSuccess(reply -> complete()));
+      vertices[1].eventBus().request(ADDRESS1, "ping", onFailure(err -> {
+        assertEquals(ReplyFailure.WRITE_QUEUE_FULL, ((ReplyException) err).failureType());
+        complete();
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testConsumerHandlesCompletionAsynchronously1() {
     startNodes(2);
@@ -410,6 +687,37 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSenderFlowControl() {
+    startNodes(2);
+    int maxSize = 10;
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<Integer> consumer = vertices[1].eventBus().consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> {
+      // The flow control is not visible in the headers
+      assertNull(msg.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME));
+      received.incrementAndGet();
+    });
+    consumer.completionHandler(onSuccess(v1 -> {
+      MessageProducer<Integer> producer = vertices[0].eventBus().<Integer>sender(ADDRESS1).setWriteQueueMaxSize(maxSize);
+      for (int i = 0;i < maxSize * 2;i++) {
+        producer.write(i);
+      }
+      vertices[0].setTimer(500, id -> {
+        // The consumer on the other node did not grant the credits back
+        assertTrue(producer.writeQueueFull());
+        assertEquals(0, received.get());
+        producer.drainHandler(v2 -> {
+          assertFalse(producer.writeQueueFull());
+          testComplete();
+        });
+        consumer.resume();
+      });
+    }));
+    await();
+  }
+
   @Test
   public void testPublishWriteHandler() {
     startNodes(2);
@@ -25,12 +25,14 @@ public class DeliveryOptionsTest {
   public void toJson() throws Exception {
     JsonObject defaultJson = new JsonObject()
       .put("timeout", DeliveryOptions.DEFAULT_TIMEOUT)
-      .put("localOnly", DeliveryOptions.DEFAULT_LOCAL_ONLY);
+      .put("localOnly", DeliveryOptions.DEFAULT_LOCAL_ONLY)
+      .put("readOnlyBody", DeliveryOptions.DEFAULT_READ_ONLY_BODY);
     assertEquals(defaultJson, new DeliveryOptions().toJson());
 
     JsonObject fullJson = new JsonObject()
       .put("timeout", 15000)
       .put("localOnly", true)
+      .put("readOnlyBody", true)
       .put("codecName", "pimpo")
       .put("headers", new JsonObject().put("marseille", "om").put("lyon", "ol").put("amsterdam", "ajax"));
 
@@ -38,6 +40,7 @@ public class DeliveryOptionsTest {
       new DeliveryOptions()
         .setSendTimeout(15000)
         .setLocalOnly(true)
+        .setReadOnlyBody(true)
         .setCodecName("pimpo")
         .addHeader("marseille", "om").addHeader("lyon", "ol").addHeader("amsterdam", "ajax")
         .toJson());
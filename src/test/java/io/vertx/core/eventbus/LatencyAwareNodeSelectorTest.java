@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.eventbus;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxFactory;
+import io.vertx.core.spi.cluster.impl.LatencyAwareNodeSelector;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.*;
+
+public class LatencyAwareNodeSelectorTest extends VertxTestBase {
+
+  private static final int NUM_REQUESTS = 100;
+
+  private List<Vertx> vertices;
+
+  @Test
+  public void testAvoidSlowNode() throws Exception {
+    CompositeFuture startFuture = IntStream.range(0, 3)
+      .mapToObj(i -> {
+        VertxFactory factory = new VertxFactory(getOptions()).clusterNodeSelector(new LatencyAwareNodeSelector());
+        Promise promise = Promise.promise();
+        factory.clusteredVertx(promise);
+        return promise.future();
+      })
+      .collect(collectingAndThen(toList(), CompositeFuture::all));
+
+    CountDownLatch startLatch = new CountDownLatch(1);
+    startFuture.onComplete(onSuccess(cf -> startLatch.countDown()));
+    awaitLatch(startLatch);
+    vertices = startFuture.list();
+
+    AtomicInteger fast = new AtomicInteger();
+    AtomicInteger slow = new AtomicInteger();
+    Vertx slowVertx = vertices.get(2);
+    MessageConsumer<String> fastConsumer = vertices.get(1).eventBus().consumer("test", msg -> {
+      fast.incrementAndGet();
+      msg.reply("fast");
+    });
+    MessageConsumer<String> slowConsumer = slowVertx.eventBus().consumer("test", msg -> {
+      slow.incrementAndGet();
+      slowVertx.setTimer(50, id -> msg.reply("slow"));
+    });
+    Promise<Void> fastRegistration = Promise.promise();
+    fastConsumer.completionHandler(fastRegistration);
+    Promise<Void> slowRegistration = Promise.promise();
+    slowConsumer.completionHandler(slowRegistration);
+
+    CompositeFuture.all(fastRegistration.future(), slowRegistration.future()).onComplete(onSuccess(v -> {
+      sendRequests(vertices.get(0).eventBus(), NUM_REQUESTS, () -> {
+        assertEquals(NUM_REQUESTS, fast.get() + slow.get());
+        assertTrue("Too many requests sent to the slow node: " + slow.get(), slow.get() < NUM_REQUESTS / 10);
+        testComplete();
+      });
+    }));
+    await();
+  }
+
+  private void sendRequests(EventBus eventBus, int remaining, Runnable done) {
+    if (remaining == 0) {
+      done.run();
+    } else {
+      eventBus.request("test", "ping", onSuccess(reply -> sendRequests(eventBus, remaining - 1, done)));
+    }
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    try {
+      if (vertices != null) {
+        closeClustered(vertices);
+      }
+    } finally {
+      super.tearDown();
+    }
+  }
+}
@@ -12,12 +12,15 @@
 package io.vertx.core.eventbus;
 
 import io.vertx.core.*;
+import io.vertx.core.eventbus.impl.AddressStatistics;
 import io.vertx.core.eventbus.impl.EventBusInternal;
 import io.vertx.core.eventbus.impl.MessageConsumerImpl;
+import io.vertx.core.eventbus.impl.MessageProducerImpl;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.EventLoopContext;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.test.core.TestUtils;
@@ -29,6 +32,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -512,6 +516,34 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendWithDifferentTimeoutsNoReply() {
+    eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
+      if (msg.body().equals("reply")) {
+        msg.reply("a reply");
+      }
+    });
+    List<Long> timeouts = new ArrayList<>();
+    vertx.runOnContext(v -> {
+      // The requests of the context share the same reply table
+      for (long timeout : new long[] { 900, 300, 600 }) {
+        eb.request(ADDRESS1, "no-reply", new DeliveryOptions().setSendTimeout(timeout), onFailure(err -> {
+          assertEquals(ReplyFailure.TIMEOUT, ((ReplyException) err).failureType());
+          timeouts.add(timeout);
+          if (timeouts.size() == 3) {
+            assertEquals(Arrays.asList(300L, 600L, 900L), timeouts);
+            testComplete();
+          }
+        }));
+      }
+      eb.request(ADDRESS1, "reply", new DeliveryOptions().setSendTimeout(300), onSuccess(reply -> {
+        assertEquals("a reply", reply.body());
+        assertTrue(timeouts.isEmpty());
+      }));
+    });
+    await();
+  }
+
   @Test
   public void testReplyToSendWithNoReplyHandler() {
     eb.<String>consumer(ADDRESS1).handler((Message<String> msg) -> {
@@ -585,6 +617,35 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testPublishReadOnlyBody() {
+    JsonObject body = new JsonObject().put("foo", "bar");
+    AtomicReference<JsonObject> first = new AtomicReference<>();
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0;i < 2;i++) {
+      eb.<JsonObject>consumer(ADDRESS1).handler(msg -> {
+        JsonObject received = msg.body();
+        assertTrue(received.isReadOnly());
+        assertEquals("bar", received.getString("foo"));
+        try {
+          received.put("foo", "juu");
+          fail();
+        } catch (UnsupportedOperationException e) {
+          // OK
+        }
+        // The consumers share the body instead of receiving a copy
+        if (!first.compareAndSet(null, received)) {
+          assertSame(first.get(), received);
+        }
+        if (count.incrementAndGet() == 2) {
+          testComplete();
+        }
+      });
+    }
+    eb.publish(ADDRESS1, body, new DeliveryOptions().setReadOnlyBody(true));
+    await();
+  }
+
   @Test
   public void testPublishSameHandlerRegisteredTwice() {
     String str = TestUtils.randomUnicodeString(1000);
@@ -1479,5 +1540,203 @@ public class LocalEventBusTest extends EventBusTestBase {
     producer.close(onSuccess(v -> testComplete()));
     await();
   }
+
+  @Test
+  public void testSendBatch() {
+    List<Object> bodies = Arrays.asList("a", "b", "c");
+    List<String> received = Collections.synchronizedList(new ArrayList<>());
+    Handler<Message<String>> handler = msg -> {
+      received.add(msg.body());
+      if (received.size() == bodies.size()) {
+        // The batch is delivered in order to a single consumer
+        assertEquals(bodies, received);
+        vertx.setTimer(10, id -> testComplete());
+      } else if (received.size() > bodies.size()) {
+        fail();
+      }
+    };
+    eb.<String>consumer(ADDRESS1).handler(handler);
+    eb.<String>consumer(ADDRESS1).handler(handler);
+    eb.sendBatch(ADDRESS1, bodies);
+    await();
+  }
+
+  @Test
+  public void testPublishBatch() {
+    int numConsumers = 3;
+    List<Object> bodies = Arrays.asList("a", "b", "c");
+    waitFor(numConsumers);
+    for (int i = 0;i < numConsumers;i++) {
+      List<String> received = new ArrayList<>();
+      eb.<String>consumer(ADDRESS1).handler(msg -> {
+        received.add(msg.body());
+        if (received.size() == bodies.size()) {
+          assertEquals(bodies, received);
+          complete();
+        }
+      });
+    }
+    eb.publishBatch(ADDRESS1, bodies);
+    await();
+  }
+
+  @Test
+  public void testSendBatchNoHandlers() {
+    eb.sendBatch(ADDRESS1, Arrays.asList("a", "b"));
+    eb.consumer(ADDRESS2, msg -> testComplete());
+    eb.send(ADDRESS2, "c");
+    await();
+  }
+
+  @Test
+  public void testBatchHandler() {
+    List<Object> bodies = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      bodies.add(i);
+    }
+    List<Integer> sizes = new ArrayList<>();
+    List<Integer> received = new ArrayList<>();
+    eb.<Integer>consumer(ADDRESS1).batchHandler(4, batch -> {
+      sizes.add(batch.size());
+      for (Message<Integer> msg : batch) {
+        received.add(msg.body());
+      }
+      if (received.size() == 10) {
+        assertEquals(Arrays.asList(4, 4, 2), sizes);
+        assertEquals(bodies, received);
+        eb.send(ADDRESS1, 10);
+      } else if (received.size() == 11) {
+        // A single message is delivered in a list of one message
+        assertEquals(Arrays.asList(4, 4, 2, 1), sizes);
+        testComplete();
+      }
+    });
+    eb.sendBatch(ADDRESS1, bodies);
+    await();
+  }
+
+  @Test
+  public void testAddressStatistics() {
+    assertTrue(eb.addressStatistics().isEmpty());
+    vertx.close();
+    vertx = Vertx.vertx(new VertxOptions().setEventBusOptions(new EventBusOptions().setAddressStatisticsEnabled(true)));
+    eb = (EventBusInternal) vertx.eventBus();
+    int num = 5;
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> {
+      if (received.incrementAndGet() == num) {
+        vertx.runOnContext(v1 -> {
+          AddressStatistics stats = eb.addressStatistics().get(ADDRESS1);
+          assertEquals(0, stats.pendingMessages());
+          assertEquals(num, stats.maxPendingMessages());
+          AddressStatistics.Snapshot latency = stats.deliveryLatency().snapshot();
+          assertEquals(num, latency.count());
+          assertTrue(latency.max() >= TimeUnit.MILLISECONDS.toNanos(100));
+          assertEquals(latency.max(), latency.percentile(100));
+          assertEquals(num, stats.handlerTime().snapshot().count());
+          consumer.unregister(onSuccess(v2 -> {
+            assertNull(eb.addressStatistics().get(ADDRESS1));
+            testComplete();
+          }));
+        });
+      }
+    });
+    consumer.completionHandler(onSuccess(v -> {
+      assertEquals(ADDRESS1, eb.addressStatistics().get(ADDRESS1).address());
+      for (int i = 0;i < num;i++) {
+        eb.send(ADDRESS1, i);
+      }
+      vertx.setTimer(100, id -> {
+        AddressStatistics stats = eb.addressStatistics().get(ADDRESS1);
+        assertEquals(num, stats.pendingMessages());
+        assertEquals(0, stats.deliveryLatency().snapshot().count());
+        consumer.resume();
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControl() {
+    int maxSize = 10;
+    AtomicInteger received = new AtomicInteger();
+    MessageConsumer<Integer> consumer = eb.consumer(ADDRESS1);
+    consumer.pause();
+    consumer.handler(msg -> received.incrementAndGet());
+    consumer.completionHandler(onSuccess(v1 -> {
+      MessageProducer<Integer> producer = eb.<Integer>sender(ADDRESS1).setWriteQueueMaxSize(maxSize);
+      for (int i = 0;i < maxSize * 2;i++) {
+        producer.write(i);
+      }
+      vertx.setTimer(100, id -> {
+        assertTrue(producer.writeQueueFull());
+        assertEquals(0, received.get());
+        producer.drainHandler(v2 -> {
+          assertFalse(producer.writeQueueFull());
+          testComplete();
+        });
+        consumer.resume();
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlNoConsumer() {
+    waitFor(3);
+    MessageProducer<String> producer = eb.<String>sender(ADDRESS1).setWriteQueueMaxSize(1);
+    for (int i = 0;i < 3;i++) {
+      producer.write("body", onFailure(err -> {
+        // The credit of a message that could not be sent is granted back
+        assertTrue(err instanceof ReplyException);
+        complete();
+      }));
+    }
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlSharedOptions() {
+    waitFor(2);
+    DeliveryOptions options = new DeliveryOptions().addHeader("foo", "bar");
+    eb.<String>consumer(ADDRESS1, msg -> {
+      assertEquals("bar", msg.headers().get("foo"));
+      // The flow control is not visible in the headers
+      assertNull(msg.headers().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME));
+      assertNull(msg.headers().get(MessageProducerImpl.CREDIT_BATCH_HEADER_NAME));
+      complete();
+    }).completionHandler(onSuccess(v -> {
+      MessageProducer<String> producer1 = eb.sender(ADDRESS1, options);
+      MessageProducer<String> producer2 = eb.sender(ADDRESS1, options);
+      producer1.write("body1");
+      producer2.write("body2");
+      // The credit address of a producer is not written in the headers of its options
+      assertNull(options.getHeaders().get(MessageProducerImpl.CREDIT_ADDRESS_HEADER_NAME));
+    }));
+    await();
+  }
+
+  @Test
+  public void testSenderFlowControlLostCredits() {
+    // Messages swallowed by an interceptor are never delivered nor discarded
+    eb.addInboundInterceptor(ctx -> {});
+    eb.<String>consumer(ADDRESS1, msg -> fail()).completionHandler(onSuccess(v1 -> {
+      MessageProducer<String> producer = eb.<String>sender(ADDRESS1, new DeliveryOptions().setSendTimeout(100))
+        .setWriteQueueMaxSize(2);
+      producer.write("body1");
+      producer.write("body2");
+      assertTrue(producer.writeQueueFull());
+      long now = System.currentTimeMillis();
+      producer.drainHandler(v2 -> {
+        // The credits are recovered after the send timeout
+        assertTrue(System.currentTimeMillis() - now >= 100);
+        assertFalse(producer.writeQueueFull());
+        testComplete();
+      });
+    }));
+    await();
+  }
 }
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveWorkerExecutorTest {
+
+  private static AdaptiveWorkerExecutor createExecutor(int size) {
+    // A max queue wait that is never reached, the pool never grows
+    return new AdaptiveWorkerExecutor(size, size, 1, TimeUnit.HOURS, 60, TimeUnit.SECONDS, Thread::new, null, null);
+  }
+
+  @Test
+  public void testQueueWait() throws Exception {
+    AdaptiveWorkerExecutor exec = createExecutor(1);
+    try {
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(2);
+      exec.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException ignore) {
+        }
+        done.countDown();
+      });
+      exec.execute(done::countDown);
+      Thread.sleep(20);
+      assertTrue(exec.queueWait() >= TimeUnit.MILLISECONDS.toNanos(20));
+      release.countDown();
+      assertTrue(done.await(10, TimeUnit.SECONDS));
+      assertEquals(0L, exec.queueWait());
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConcurrentSubmitAndStart() throws Exception {
+    int numSubmitters = 4;
+    int numTasks = 20_000;
+    AdaptiveWorkerExecutor exec = createExecutor(4);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      CountDownLatch done = new CountDownLatch(numSubmitters * numTasks);
+      AtomicReference<Throwable> error = new AtomicReference<>();
+      Thread[] submitters = new Thread[numSubmitters];
+      for (int i = 0;i < numSubmitters;i++) {
+        submitters[i] = new Thread(() -> {
+          try {
+            start.await();
+            for (int j = 0;j < numTasks;j++) {
+              exec.execute(done::countDown);
+            }
+          } catch (Throwable t) {
+            error.compareAndSet(null, t);
+          }
+        });
+        submitters[i].start();
+      }
+      start.countDown();
+      for (Thread submitter : submitters) {
+        submitter.join();
+      }
+      assertNull(error.get());
+      assertTrue(done.await(20, TimeUnit.SECONDS));
+      // All the tasks are started, the head must not be stuck on a started task
+      assertEquals(0L, exec.queueWait());
+      assertEquals(4, exec.getPoolSize());
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2019 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.impl.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentCyclicRegistryTest {
+
+  @Test
+  public void testAddRemove() {
+    ConcurrentCyclicRegistry<String, String> registry = new ConcurrentCyclicRegistry<>();
+    assertNull(registry.get("a"));
+    registry.add("a", "s1");
+    registry.add("a", "s2");
+    registry.add("a", "s1");
+    registry.add("b", "s3");
+    assertEquals(Arrays.asList("s1", "s2", "s1"), toList(registry.get("a")));
+    assertEquals(Collections.singletonList("s3"), toList(registry.get("b")));
+    assertFalse(registry.remove("a", "s3"));
+    assertTrue(registry.remove("a", "s1"));
+    assertEquals(Arrays.asList("s2", "s1"), toList(registry.get("a")));
+    assertTrue(registry.remove("a", "s1"));
+    assertTrue(registry.remove("a", "s2"));
+    assertFalse(registry.remove("a", "s2"));
+    assertNull(registry.get("a"));
+    assertEquals(1, registry.values().size());
+    registry.add("a", "s4");
+    assertEquals(Collections.singletonList("s4"), toList(registry.get("a")));
+  }
+
+  @Test
+  public void testRetiredEntry() {
+    ConcurrentCyclicRegistry<String, String> registry = new ConcurrentCyclicRegistry<>();
+    registry.add("a", "s1");
+    ConcurrentCyclicRegistry.Entry<String> entry = registry.get("a");
+    assertTrue(registry.remove("a", "s1"));
+    assertEquals(0, entry.size());
+    assertNull(entry.next());
+    assertNull(entry.first());
+    assertEquals(Collections.emptyList(), toList(entry));
+  }
+
+  @Test
+  public void testRoundRobin() {
+    ConcurrentCyclicRegistry<String, String> registry = new ConcurrentCyclicRegistry<>();
+    registry.add("a", "s1");
+    registry.add("a", "s2");
+    registry.add("a", "s3");
+    ConcurrentCyclicRegistry.Entry<String> entry = registry.get("a");
+    List<String> seen = new ArrayList<>();
+    for (int i = 0;i < 6;i++) {
+      seen.add(entry.next());
+    }
+    assertEquals(Arrays.asList("s1", "s2", "s3", "s1", "s2", "s3"), seen);
+  }
+
+  @Test
+  public void testConcurrentChurn() throws Exception {
+    int iter = 100_000;
+    int numThreads = 8;
+    ConcurrentCyclicRegistry<String, Integer> registry = new ConcurrentCyclicRegistry<>();
+    AtomicBoolean failed = new AtomicBoolean();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[numThreads];
+    for (int i = 0;i < numThreads;i++) {
+      int id = i;
+      threads[i] = new Thread(() -> {
+        try {
+          start.await();
+          for (int j = 0;j < iter;j++) {
+            registry.add("addr", id);
+            if (!registry.remove("addr", id)) {
+              failed.set(true);
+            }
+          }
+          registry.add("addr", id);
+        } catch (Throwable t) {
+          error.compareAndSet(null, t);
+        }
+      });
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertNull(error.get());
+    assertFalse(failed.get());
+    assertEquals(numThreads, registry.get("addr").size());
+  }
+
+  private static <T> List<T> toList(Iterable<T> seq) {
+    ArrayList<T> ret = new ArrayList<>();
+    for (T elt : seq) {
+      ret.add(elt);
+    }
+    return ret;
+  }
+}
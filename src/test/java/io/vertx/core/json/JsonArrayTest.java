@@ -796,6 +796,49 @@ public class JsonArrayTest {
     assertEquals(5, copy.size());
   }
 
+  @Test
+  public void testReadOnly() {
+    jsonArray.add("foo");
+    jsonArray.add(new JsonObject().put("quux", 123));
+    jsonArray.add(new JsonArray().add("eek"));
+    JsonArray readOnly = jsonArray.readOnly();
+    assertTrue(readOnly.isReadOnly());
+    assertFalse(jsonArray.isReadOnly());
+    assertSame(readOnly, readOnly.readOnly());
+    assertEquals(jsonArray, readOnly);
+    assertEquals("foo", readOnly.getString(0));
+    assertTrue(readOnly.getJsonObject(1).isReadOnly());
+    assertTrue(readOnly.getJsonArray(2).isReadOnly());
+    assertReadOnly(() -> readOnly.add("bar"));
+    assertReadOnly(() -> readOnly.set(0, "bar"));
+    assertReadOnly(() -> readOnly.remove(0));
+    assertReadOnly(readOnly::clear);
+    assertReadOnly(() -> readOnly.getJsonObject(1).put("quux", 456));
+    assertReadOnly(() -> readOnly.getJsonArray(2).add("blah"));
+    assertReadOnly(() -> {
+      Iterator<Object> it = readOnly.iterator();
+      it.next();
+      it.remove();
+    });
+    assertEquals(3, jsonArray.size());
+    assertEquals(jsonArray.encode(), readOnly.encode());
+    // A copy is modifiable
+    JsonArray copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    assertEquals(jsonArray, copy);
+    copy.getJsonObject(1).put("quux", 456);
+    assertEquals(123, (int) jsonArray.getJsonObject(1).getInteger("quux"));
+  }
+
+  private static void assertReadOnly(Runnable action) {
+    try {
+      action.run();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // OK
+    }
+  }
+
   @Test
   public void testInvalidValsOnCopy() {
     List<Object> invalid = new ArrayList<>();
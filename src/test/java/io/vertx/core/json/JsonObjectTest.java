@@ -1390,6 +1390,53 @@ public class JsonObjectTest {
     assertEquals("blah", copy.getString("eek"));
   }
 
+  @Test
+  public void testReadOnly() {
+    jsonObject.put("foo", "bar");
+    jsonObject.put("nested", new JsonObject().put("quux", 123));
+    jsonObject.put("array", new JsonArray().add("eek"));
+    JsonObject readOnly = jsonObject.readOnly();
+    assertTrue(readOnly.isReadOnly());
+    assertFalse(jsonObject.isReadOnly());
+    assertSame(readOnly, readOnly.readOnly());
+    assertEquals(jsonObject, readOnly);
+    assertEquals("bar", readOnly.getString("foo"));
+    assertTrue(readOnly.getJsonObject("nested").isReadOnly());
+    assertTrue(readOnly.getJsonArray("array").isReadOnly());
+    assertReadOnly(() -> readOnly.put("foo", "flib"));
+    assertReadOnly(() -> readOnly.remove("foo"));
+    assertReadOnly(readOnly::clear);
+    assertReadOnly(() -> readOnly.getJsonObject("nested").put("quux", 456));
+    assertReadOnly(() -> readOnly.getJsonArray("array").add("blah"));
+    assertReadOnly(() -> {
+      Iterator<Map.Entry<String, Object>> it = readOnly.iterator();
+      it.next();
+      it.remove();
+    });
+    assertEquals("bar", jsonObject.getString("foo"));
+    assertEquals(123, (int) jsonObject.getJsonObject("nested").getInteger("quux"));
+    assertEquals(jsonObject.encode(), readOnly.encode());
+    // The view reflects the changes of the object
+    jsonObject.put("wibble", "flob");
+    assertEquals("flob", readOnly.getString("wibble"));
+    // A copy is modifiable
+    JsonObject copy = readOnly.copy();
+    assertFalse(copy.isReadOnly());
+    assertEquals(jsonObject, copy);
+    assertEquals(new ArrayList<>(jsonObject.fieldNames()), new ArrayList<>(copy.fieldNames()));
+    copy.getJsonObject("nested").put("quux", 456);
+    assertEquals(123, (int) jsonObject.getJsonObject("nested").getInteger("quux"));
+  }
+
+  private static void assertReadOnly(Runnable action) {
+    try {
+      action.run();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // OK
+    }
+  }
+
   @Test
   public void testInvalidValsOnCopy1() {
     Map<String, Object> invalid = new HashMap<>();